@@ -0,0 +1,81 @@
+package org.example.newsfeed.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.example.newsfeed.dto.PostResponseDTO;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 피드 페이지(10건)의 포맷별 인코딩/디코딩 비용: JSON vs Smile vs CBOR.
+// 인코딩한 크기는 encodeFeedPage 결과에 보조 지표(encodedBytes)로 함께 나온다 (대역폭 비교용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedPageFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"100", "2000"})
+    private int contentLength;
+
+    private ObjectMapper objectMapper;
+    private Page<PostResponseDTO> page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 애플리케이션(BinaryFormatConfig)과 같은 방식으로 생성한 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory(format)).build();
+        page = new PageImpl<>(Fixtures.posts(10, contentLength),
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")), 1_000)
+            .map(PostResponseDTO::new);
+        encoded = objectMapper.writeValueAsBytes(page);
+    }
+
+    // JMH 가 반복마다 필드 값을 그대로 결과 표에 싣는다
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long encodedBytes; // 페이지 하나의 크기
+    }
+
+    @Benchmark
+    public byte[] encodeFeedPage(EncodedSize size) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(page);
+        size.encodedBytes = bytes.length;
+        return bytes;
+    }
+
+    // 클라이언트가 응답을 읽는 비용 (요청 바디 디코딩도 같은 파서를 쓴다)
+    @Benchmark
+    public JsonNode decodeFeedPage() throws IOException {
+        return objectMapper.readTree(encoded);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
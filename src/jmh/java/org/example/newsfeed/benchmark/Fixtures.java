@@ -0,0 +1,74 @@
+package org.example.newsfeed.benchmark;
+
+import java.lang.reflect.Field;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.newsfeed.entity.BaseEntity;
+import org.example.newsfeed.entity.Comment;
+import org.example.newsfeed.entity.Post;
+import org.example.newsfeed.entity.User;
+import org.example.newsfeed.entity.UserStatusEnum;
+import org.example.newsfeed.jwt.JwtUtil;
+
+// 벤치마크용 샘플 데이터. 엔티티에 setter 가 없는 필드(id, 생성/수정 시각)는 리플렉션으로 채운다
+final class Fixtures {
+
+    static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private Fixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil(null);
+        setField(JwtUtil.class, jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static User user(long id) {
+        User user = new User("benchUser" + id, "$2a$10$abcdefghijklmnopqrstuv", "name" + id,
+            "bench" + id + "@example.com", "한 줄 소개", "", "", UserStatusEnum.ACTIVE);
+        user.setId(id);
+        return user;
+    }
+
+    static Post post(long id, User user, int contentLength) {
+        Post post = Post.builder().user(user).content("가".repeat(contentLength)).build();
+        setField(Post.class, post, "id", id);
+        stamp(post, id);
+        return post;
+    }
+
+    static Comment comment(long id, Post post, User user) {
+        Comment comment = Comment.builder().user(user).content("댓글 내용입니다 " + id).build();
+        comment.setId(id);
+        comment.setPost(post);
+        stamp(comment, id);
+        return comment;
+    }
+
+    static List<Post> posts(int count, int contentLength) {
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            posts.add(post(i, user(i % 7 + 1), contentLength));
+        }
+        return posts;
+    }
+
+    private static void stamp(BaseEntity entity, long id) {
+        Timestamp time = new Timestamp(1_717_200_000_000L + id * 60_000L);
+        setField(BaseEntity.class, entity, "createdAt", time);
+        setField(BaseEntity.class, entity, "updatedAt", time);
+    }
+
+    static void setField(Class<?> type, Object target, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
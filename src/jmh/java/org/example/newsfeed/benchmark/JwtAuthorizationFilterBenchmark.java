@@ -0,0 +1,64 @@
+package org.example.newsfeed.benchmark;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.example.newsfeed.entity.User;
+import org.example.newsfeed.jwt.JwtAuthorizationFilter;
+import org.example.newsfeed.jwt.JwtUtil;
+import org.example.newsfeed.security.UserDetailsImpl;
+import org.example.newsfeed.security.UserDetailsServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+// 쿠키의 JWT 를 꺼내 검증하고 SecurityContext 를 채우기까지 (사용자 조회는 DB 없이 고정 값)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthorizationFilterBenchmark {
+
+    private JwtAuthorizationFilter filter;
+    private Cookie cookie;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = Fixtures.jwtUtil();
+        User user = Fixtures.user(1);
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(null) {
+            @Override
+            public UserDetails loadUserByUsername(String userId) {
+                return new UserDetailsImpl(user);
+            }
+        };
+        filter = new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        String token = URLEncoder.encode(jwtUtil.createToken(user.getUserId()), StandardCharsets.UTF_8)
+            .replaceAll("\\+", "%20");
+        cookie = new Cookie(JwtUtil.AUTHORIZATION_HEADER, token);
+    }
+
+    @Benchmark
+    public Object authorize() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.setCookies(cookie);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
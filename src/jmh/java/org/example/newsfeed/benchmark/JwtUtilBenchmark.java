@@ -0,0 +1,42 @@
+package org.example.newsfeed.benchmark;
+
+import io.jsonwebtoken.Claims;
+import java.util.concurrent.TimeUnit;
+import org.example.newsfeed.jwt.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = Fixtures.jwtUtil();
+        token = jwtUtil.substringToken(jwtUtil.createToken("benchUser1"));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken("benchUser1");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims getUserInfoFromToken() {
+        return jwtUtil.getUserInfoFromToken(token);
+    }
+}
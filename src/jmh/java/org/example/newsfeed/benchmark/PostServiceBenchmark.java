@@ -0,0 +1,38 @@
+package org.example.newsfeed.benchmark;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.example.newsfeed.service.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 기간 검색 날짜 파싱 (레포지토리 없이 변환만 측정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostServiceBenchmark {
+
+    private PostService postService;
+    private String date;
+
+    @Setup
+    public void setUp() {
+        postService = new PostService(null, null, null, null, null);
+        date = "2024-06-02";
+    }
+
+    @Benchmark
+    public Timestamp firstDateToTimestamp() {
+        return postService.firstDateToTimestamp(date);
+    }
+
+    @Benchmark
+    public Timestamp lastDateToTimestamp() {
+        return postService.lastDateToTimestamp(date);
+    }
+}
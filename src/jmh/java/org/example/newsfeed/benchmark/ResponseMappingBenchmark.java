@@ -0,0 +1,76 @@
+package org.example.newsfeed.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.newsfeed.dto.CommentResponseDTO;
+import org.example.newsfeed.dto.PostResponseDTO;
+import org.example.newsfeed.entity.Comment;
+import org.example.newsfeed.entity.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 엔티티 -> DTO 변환과 피드 페이지(10건) JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    @Param({"100", "2000"})
+    private int contentLength;
+
+    private ObjectMapper objectMapper;
+    private List<Post> posts;
+    private List<Comment> comments;
+    private Page<PostResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션과 같은 방식으로 생성한 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        posts = Fixtures.posts(10, contentLength);
+        comments = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            comments.add(Fixtures.comment(i, posts.get(0), Fixtures.user(i)));
+        }
+        page = toPage(posts);
+    }
+
+    @Benchmark
+    public List<PostResponseDTO> mapPosts() {
+        return posts.stream().map(PostResponseDTO::new).toList();
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> mapComments() {
+        return comments.stream().map(CommentResponseDTO::new).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeFeedPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeFeedPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toPage(posts));
+    }
+
+    private static Page<PostResponseDTO> toPage(List<Post> posts) {
+        return new PageImpl<>(posts, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")), 1_000)
+            .map(PostResponseDTO::new);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.newsfeed.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// I/O 대기 위주 요청의 처리량: Tomcat 기본 스레드 풀(200) vs 가상 스레드.
+// 요청 하나 = ioMillis 동안 블로킹(JDBC 응답 대기 흉내). connections > 0 이면 그 수만큼만 동시에 "DB" 를 쓸 수 있다(커넥션 풀).
+// 한 번의 호출에서 requests 개를 동시에 보내고 모두 끝날 때까지의 시간을 잰다.
+// 가상 스레드는 Java 21 에서만 생성 가능하므로 ./gradlew jmh -Pjava21 -PjmhIncludes=ThreadModelBenchmark 로 실행한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThreadModelBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"0", "32"})
+    public int connections;
+
+    @Param({"2000"})
+    public int requests;
+
+    @Param({"5"})
+    public int ioMillis;
+
+    private ExecutorService executor;
+    private Semaphore pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        executor = "virtual".equals(threads) ? virtualThreadExecutor() : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        pool = connections > 0 ? new Semaphore(connections, true) : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int handleBurst() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(this::handle));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private Void handle() throws InterruptedException {
+        if (pool == null) {
+            Thread.sleep(ioMillis);
+            return null;
+        }
+        pool.acquire();
+        try {
+            Thread.sleep(ioMillis);
+        } finally {
+            pool.release();
+        }
+        return null;
+    }
+
+    // 소스 호환성 17 로도 컴파일되도록 리플렉션으로 생성
+    private static ExecutorService virtualThreadExecutor() throws Exception {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서 실행해야 합니다 (-Pjava21).", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.newsfeed.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.example.newsfeed.trending.TrendingPost;
+import org.example.newsfeed.trending.TrendingPosts;
+import org.example.newsfeed.trending.TrendingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// 인기 게시글: 조회 기록(요청마다) 비용과 상위 10개 조회 비용. 기본 설정(60분 x 2048 x 4, 후보 100)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrendingPostsBenchmark {
+
+    private TrendingPosts trendingPosts;
+
+    @Setup
+    public void setUp() {
+        trendingPosts = new TrendingPosts(new TrendingProperties());
+        for (int i = 0; i < 1_000_000; i++) {
+            trendingPosts.recordView(nextPostId());
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordView() {
+        trendingPosts.recordView(nextPostId());
+    }
+
+    @Benchmark
+    public List<TrendingPost> top10() {
+        return trendingPosts.top(10);
+    }
+
+    // 일부 게시글에 조회가 몰리도록 (1 / u)
+    private static long nextPostId() {
+        double u = ThreadLocalRandom.current().nextDouble(1e-5, 1.0);
+        return (long) (1 / u);
+    }
+}
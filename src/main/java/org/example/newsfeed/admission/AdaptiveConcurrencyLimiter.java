@@ -0,0 +1,110 @@
+package org.example.newsfeed.admission;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Gradient 방식의 동시 처리 한도.
+// 장기 평균 지연시간(부하 없을 때)과 단기 평균 지연시간의 비율로 한도를 줄이고 늘린다.
+// DB 가 느려지면 단기 지연이 커져 한도가 줄어들고, 초과 요청은 대기 없이 바로 거절된다.
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_ALPHA = 0.2;
+    private static final double LONG_ALPHA = 2.0 / (600 + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 표본 갱신은 한 스레드만 수행하고, 다른 스레드의 표본은 버린다 (락 대기 없음)
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance, double smoothing) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("minLimit, maxLimit 설정이 올바르지 않습니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public AdaptiveConcurrencyLimiter(AdmissionProperties.Limit properties) {
+        this(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit(),
+            properties.getRttTolerance(), properties.getSmoothing());
+    }
+
+    // 한도 이내면 true, 호출한 쪽은 반드시 onComplete 를 호출해야 한다
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // rttNanos: 처리 시간, dropped: 5xx 등 과부하로 실패한 요청
+    public void onComplete(long rttNanos, boolean dropped) {
+        int concurrent = inFlight.getAndDecrement();
+        if (!updating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            update(rttNanos, dropped, concurrent);
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    private void update(long rttNanos, boolean dropped, int concurrent) {
+        double current = limit;
+        double newLimit;
+
+        if (dropped) {
+            newLimit = current * 0.9;
+        } else {
+            double rtt = Math.max(1L, rttNanos);
+            if (longRtt == 0) {
+                shortRtt = rtt;
+                longRtt = rtt;
+            } else {
+                shortRtt += SHORT_ALPHA * (rtt - shortRtt);
+                longRtt += LONG_ALPHA * (rtt - longRtt);
+                // 지연이 크게 줄어든 경우 기준값도 빨리 따라가도록
+                if (longRtt / shortRtt > 2) {
+                    longRtt *= 0.95;
+                }
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+            double queueSize = Math.sqrt(current);
+            newLimit = current * gradient + queueSize;
+
+            // 한도의 절반도 쓰지 않고 있으면 더 늘릴 근거가 없다
+            if (concurrent < current / 2) {
+                newLimit = Math.min(newLimit, current);
+            }
+        }
+
+        newLimit = current * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.newsfeed.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.CommonResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 읽기/쓰기 요청별 동시 처리 한도를 넘으면 대기시키지 않고 바로 503 으로 거절한다
+@Slf4j(topic = "과부하 제어")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int retryAfterSeconds;
+    private final List<String> excludedPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public AdmissionControlFilter(AdmissionProperties properties, ObjectMapper objectMapper) {
+        this.readLimiter = new AdaptiveConcurrencyLimiter(properties.getRead());
+        this.writeLimiter = new AdaptiveConcurrencyLimiter(properties.getWrite());
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+        this.excludedPaths = List.copyOf(properties.getExcludedPaths());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        for (String pattern : excludedPaths) {
+            if (pathMatcher.match(pattern, uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+
+        AdaptiveConcurrencyLimiter limiter = isRead(req) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            log.warn("과부하로 요청 거절: {} {} (limit={})", req.getMethod(), req.getRequestURI(), limiter.getLimit());
+            reject(res);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(req, res);
+            dropped = res.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.onComplete(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private boolean isRead(HttpServletRequest req) {
+        String method = req.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private void reject(HttpServletResponse res) throws IOException {
+        res.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(res.getWriter(), CommonResponse.builder()
+            .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .msg("서버가 혼잡합니다. 잠시 후 다시 시도해주세요.")
+            .build());
+    }
+
+    public AdaptiveConcurrencyLimiter getReadLimiter() {
+        return readLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getWriteLimiter() {
+        return writeLimiter;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.newsfeed.admission;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    private int retryAfterSeconds = 1;
+
+    // 제한하지 않는 경로 (헬스 체크, 문서 등)
+    private List<String> excludedPaths = new ArrayList<>();
+
+    private Limit read = new Limit(100, 10, 400);
+
+    private Limit write = new Limit(40, 5, 200);
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private double rttTolerance = 1.5;  // 평소 지연시간 대비 허용 배수
+        private double smoothing = 0.2;     // 한도 변경 반영 비율
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.newsfeed.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 미리 직렬화해 둔 UTF-8 JSON 조각. Jackson 이 값 자리에 바이트를 그대로 복사한다 (UTF-8 출력이면 문자열 변환 없음)
+// Smile/CBOR 같은 바이너리 출력(과 TokenBuffer)에는 raw 값을 쓸 수 없으므로 JSON 을 다시 읽어 토큰으로 옮긴다
+public final class JsonFragment implements JsonSerializable, SerializableString {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final byte[] utf8;
+    private volatile SerializedString text; // 문자 기반 출력(Writer)에서만 필요
+
+    public JsonFragment(byte[] utf8) {
+        this.utf8 = utf8;
+    }
+
+    public int size() {
+        return utf8.length;
+    }
+
+    // JSON 객체 끝에 숫자 필드를 덧붙인 새 조각 (캐시된 조각은 그대로 두고 요청마다 바뀌는 값만 붙인다)
+    public JsonFragment withField(String name, long value) {
+        if (utf8.length < 2 || utf8[utf8.length - 1] != '}') {
+            throw new IllegalStateException("JSON 객체가 아닙니다.");
+        }
+        String field = (utf8.length > 2 ? "," : "") + "\"" + name + "\":" + value + "}";
+        byte[] suffix = field.getBytes(StandardCharsets.UTF_8);
+        byte[] joined = Arrays.copyOf(utf8, utf8.length - 1 + suffix.length);
+        System.arraycopy(suffix, 0, joined, utf8.length - 1, suffix.length);
+        return new JsonFragment(joined);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        write(gen);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        write(gen);
+    }
+
+    private void write(JsonGenerator gen) throws IOException {
+        if (!gen.canWriteBinaryNatively()) { // 텍스트 JSON
+            gen.writeRawValue(this);
+            return;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(utf8)) {
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        }
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        return utf8;
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset) {
+        if (offset + utf8.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+        return utf8.length;
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(utf8);
+        return utf8.length;
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer out) {
+        if (out.remaining() < utf8.length) {
+            return -1;
+        }
+        out.put(utf8);
+        return utf8.length;
+    }
+
+    // 이하 문자 기반/따옴표 처리는 드문 경로라 문자열로 바꿔 위임한다
+    @Override
+    public String getValue() {
+        return text().getValue();
+    }
+
+    @Override
+    public int charLength() {
+        return text().charLength();
+    }
+
+    @Override
+    public char[] asQuotedChars() {
+        return text().asQuotedChars();
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return text().asQuotedUTF8();
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset) {
+        return text().appendQuotedUTF8(buffer, offset);
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset) {
+        return text().appendQuoted(buffer, offset);
+    }
+
+    @Override
+    public int appendUnquoted(char[] buffer, int offset) {
+        return text().appendUnquoted(buffer, offset);
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        return text().writeQuotedUTF8(out);
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+        return text().putQuotedUTF8(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    private SerializedString text() {
+        SerializedString value = text;
+        if (value == null) {
+            value = new SerializedString(new String(utf8, StandardCharsets.UTF_8));
+            text = value;
+        }
+        return value;
+    }
+}
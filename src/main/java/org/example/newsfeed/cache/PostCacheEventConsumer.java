@@ -0,0 +1,51 @@
+package org.example.newsfeed.cache;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.event.CommentCreatedEvent;
+import org.example.newsfeed.event.CommentDeletedEvent;
+import org.example.newsfeed.event.CommentUpdatedEvent;
+import org.example.newsfeed.event.DomainEvent;
+import org.example.newsfeed.event.EventConsumer;
+import org.example.newsfeed.event.PostCreatedEvent;
+import org.example.newsfeed.event.PostDeletedEvent;
+import org.example.newsfeed.event.PostUpdatedEvent;
+import org.example.newsfeed.invalidation.InvalidationBus;
+import org.example.newsfeed.invalidation.InvalidationKey;
+import org.springframework.stereotype.Component;
+
+// 게시글/댓글이 바뀌면 ETag 버전과 JSON 캐시를 모든 서버에서 지운다 (InvalidationBus). 한 묶음 안의 같은 게시글은 한 번만
+@Component
+@RequiredArgsConstructor
+public class PostCacheEventConsumer implements EventConsumer<DomainEvent> {
+
+    private final InvalidationBus invalidationBus;
+
+    @Override
+    public Class<DomainEvent> eventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void consume(List<DomainEvent> events) {
+        Set<InvalidationKey> keys = new LinkedHashSet<>();
+        for (DomainEvent event : events) {
+            if (event instanceof PostCreatedEvent created) {
+                keys.add(InvalidationKey.post(created.getPostId())); // 피드 버전 갱신
+            } else if (event instanceof PostUpdatedEvent updated) {
+                keys.add(InvalidationKey.post(updated.getPostId()));
+            } else if (event instanceof PostDeletedEvent deleted) {
+                keys.add(InvalidationKey.post(deleted.getPostId()));
+            } else if (event instanceof CommentCreatedEvent created) {
+                keys.add(InvalidationKey.comments(created.getPostId()));
+            } else if (event instanceof CommentUpdatedEvent updated) {
+                keys.add(InvalidationKey.comments(updated.getPostId()));
+            } else if (event instanceof CommentDeletedEvent deleted) {
+                keys.add(InvalidationKey.comments(deleted.getPostId()));
+            }
+        }
+        invalidationBus.publish(keys);
+    }
+}
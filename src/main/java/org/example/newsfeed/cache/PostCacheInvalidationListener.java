@@ -0,0 +1,35 @@
+package org.example.newsfeed.cache;
+
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.invalidation.InvalidationKey;
+import org.example.newsfeed.invalidation.InvalidationListener;
+import org.springframework.stereotype.Component;
+
+// InvalidationBus 가 전하는 무효화(이 서버와 다른 서버의 쓰기)를 ETag 버전 색인과 JSON 캐시에 적용한다
+@Component
+@RequiredArgsConstructor
+public class PostCacheInvalidationListener implements InvalidationListener {
+
+    private final PostVersionIndex postVersionIndex;
+    private final PostJsonCache postJsonCache;
+
+    @Override
+    public void invalidate(Set<InvalidationKey> keys) {
+        for (InvalidationKey key : keys) {
+            switch (key.getRegion()) {
+                case POST -> {
+                    postVersionIndex.invalidatePost(key.getId());
+                    postJsonCache.invalidate(key.getId());
+                }
+                case COMMENTS -> postVersionIndex.invalidateComments(key.getId());
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        postVersionIndex.invalidateAll();
+        postJsonCache.invalidateAll();
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.newsfeed.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.newsfeed.repository.PostRepository;
+import org.example.newsfeed.repository.PostRepository.DeletedCountView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 피드 전체 게시글 수의 근사값. 매 페이지 요청마다 count(*) 로 테이블을 훑는 대신
+// 작성/삭제/90일 지난 글 정리 때 값을 바꾸고, reconcile 주기마다 한 번만 실제 개수로 맞춘다.
+// 다른 서버의 쓰기나 보정 중에 일어난 쓰기는 다음 보정 때까지 어긋날 수 있다
+@Component
+public class PostCounter {
+
+    private final PostRepository postRepository;
+    private final long reconcileNanos;
+
+    private final AtomicLong live = new AtomicLong();    // 삭제 안된 게시글
+    private final AtomicLong deleted = new AtomicLong(); // soft delete 되었고 아직 정리 안된 게시글
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+    private volatile boolean initialized;
+    private volatile long reconciledAt;
+
+    public PostCounter(PostRepository postRepository,
+        @Value("${post-counter.reconcile-millis:600000}") long reconcileMillis) {
+        this.postRepository = postRepository;
+        this.reconcileNanos = TimeUnit.MILLISECONDS.toNanos(reconcileMillis);
+    }
+
+    public long liveCount() {
+        refreshIfStale();
+        return Math.max(0, live.get());
+    }
+
+    public long deletedCount() {
+        refreshIfStale();
+        return Math.max(0, deleted.get());
+    }
+
+    public void postCreated() {
+        live.incrementAndGet();
+    }
+
+    public void postDeleted() {
+        live.decrementAndGet();
+        deleted.incrementAndGet();
+    }
+
+    public void postsPurged(long count) {
+        deleted.addAndGet(-count);
+    }
+
+    // 재시작 복구(MutationLog 스냅샷): 이 값으로 시작하고 reconcile 주기가 지날 때까지 count 쿼리를 하지 않는다
+    public synchronized void restore(long liveCount, long deletedCount) {
+        live.set(liveCount);
+        deleted.set(deletedCount);
+        reconciledAt = System.nanoTime();
+        initialized = true;
+    }
+
+    boolean isInitialized() {
+        return initialized;
+    }
+
+    // 스냅샷용: 보정하지 않고 지금 값 그대로
+    long rawLiveCount() {
+        return live.get();
+    }
+
+    long rawDeletedCount() {
+        return deleted.get();
+    }
+
+    private void refreshIfStale() {
+        if (!initialized) {
+            synchronized (this) { // 처음 한 번은 값이 준비될 때까지 기다린다
+                if (!initialized) {
+                    reconcile();
+                    initialized = true;
+                }
+            }
+            return;
+        }
+        // 이후에는 한 스레드만 보정하고 나머지는 기존 값을 그대로 쓴다
+        if (System.nanoTime() - reconciledAt >= reconcileNanos && reconciling.compareAndSet(false, true)) {
+            try {
+                reconcile();
+            } finally {
+                reconciling.set(false);
+            }
+        }
+    }
+
+    private void reconcile() {
+        long liveRows = 0;
+        long deletedRows = 0;
+        for (DeletedCountView view : postRepository.countGroupByDeleted()) {
+            if (Boolean.TRUE.equals(view.getDeleted())) {
+                deletedRows += view.getCount();
+            } else {
+                liveRows += view.getCount();
+            }
+        }
+        live.set(liveRows);
+        deleted.set(deletedRows);
+        reconciledAt = System.nanoTime();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.newsfeed.cache;
+
+import java.util.List;
+import org.example.newsfeed.event.DomainEvent;
+import org.example.newsfeed.event.EventConsumer;
+import org.example.newsfeed.event.PostCreatedEvent;
+import org.example.newsfeed.event.PostDeletedEvent;
+import org.example.newsfeed.outbox.OutboxProperties;
+import org.example.newsfeed.outbox.OutboxWatermark;
+import org.springframework.stereotype.Component;
+
+// 게시글 작성/삭제를 게시글 수에 더한다. 다시 발행된 outbox 이벤트는 한 번만 센다
+@Component
+public class PostCounterEventConsumer implements EventConsumer<DomainEvent> {
+
+    private final PostCounter postCounter;
+    private final OutboxWatermark watermark;
+
+    public PostCounterEventConsumer(PostCounter postCounter, OutboxProperties outboxProperties) {
+        this.postCounter = postCounter;
+        this.watermark = new OutboxWatermark(outboxProperties);
+    }
+
+    @Override
+    public Class<DomainEvent> eventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void consume(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            Long postId;
+            if (event instanceof PostCreatedEvent created) {
+                postId = created.getPostId();
+            } else if (event instanceof PostDeletedEvent deleted) {
+                postId = deleted.getPostId();
+            } else {
+                continue;
+            }
+            if (watermark.isApplied(postId, event)) {
+                continue;
+            }
+            if (event instanceof PostCreatedEvent) {
+                postCounter.postCreated();
+            } else {
+                postCounter.postDeleted();
+            }
+            watermark.applied(postId, event);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.newsfeed.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.mutationlog.Mutation;
+import org.example.newsfeed.mutationlog.RecoverableState;
+import org.springframework.stereotype.Component;
+
+// 재시작 때 게시글 수를 스냅샷 + 로그로 복구해 첫 요청에서 테이블 전체 count 를 하지 않는다
+@Component
+@RequiredArgsConstructor
+public class PostCounterState implements RecoverableState {
+
+    private final PostCounter postCounter;
+
+    @Override
+    public String name() {
+        return "post-counter";
+    }
+
+    @Override
+    public void writeSnapshot(DataOutput out) throws IOException {
+        out.writeBoolean(postCounter.isInitialized());
+        out.writeLong(postCounter.rawLiveCount());
+        out.writeLong(postCounter.rawDeletedCount());
+    }
+
+    @Override
+    public void readSnapshot(DataInput in, long takenAgoMillis) throws IOException {
+        boolean initialized = in.readBoolean();
+        long live = in.readLong();
+        long deleted = in.readLong();
+        if (initialized) { // 한 번도 센 적 없는 값은 믿지 않는다
+            postCounter.restore(live, deleted);
+        }
+    }
+
+    @Override
+    public void replay(Mutation mutation, long ageMillis) {
+        switch (mutation.getType()) {
+            case POST_CREATED -> postCounter.postCreated();
+            case POST_DELETED -> postCounter.postDeleted();
+            default -> {
+            }
+        }
+    }
+}
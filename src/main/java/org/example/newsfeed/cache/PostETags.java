@@ -0,0 +1,110 @@
+package org.example.newsfeed.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.dto.SearchRequestDTO;
+import org.example.newsfeed.projection.FieldSelection;
+import org.example.newsfeed.projection.ProjectedField;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
+
+// 게시글, 댓글 목록, 게시글 페이지의 strong ETag. 본문을 만들지 않고 PostVersionIndex 만으로 계산한다.
+// 같은 자원을 JSON/Smile/CBOR 로 줄 수 있으므로 응답에는 Vary: Accept 를 붙이고 협상된 형식을 ETag 에 넣는다
+@Component
+@RequiredArgsConstructor
+public class PostETags {
+
+    // BinaryFormatConfig 가 JSON 뒤에 등록하는 형식. JSON 은 구분자 없이 (기존 ETag 그대로)
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final List<MediaType> BINARY_FORMATS = List.of(SMILE, MediaType.APPLICATION_CBOR);
+
+    private final PostVersionIndex versionIndex;
+
+    // 게시글이 없거나 삭제되었으면 null
+    public String post(Long postId) {
+        String version = versionIndex.postVersion(postId);
+        return version == null ? null : quote("p" + postId + "-" + version);
+    }
+
+    // 댓글 목록은 게시글이 삭제되면 실패 응답으로 바뀌므로 게시글 버전도 포함한다
+    public String comments(Long postId) {
+        String version = versionIndex.postVersion(postId);
+        return version == null ? null : quote("c" + postId + "-" + version + "-" + versionIndex.commentVersion(postId));
+    }
+
+    public String page(int page, boolean canSearch, SearchRequestDTO dto) {
+        String range = canSearch && dto != null
+            ? "-" + Integer.toHexString(Objects.hash(dto.getFirstDate(), dto.getLastDate()))
+            : "";
+        return quote("f" + versionIndex.feedVersion() + "-" + page + range);
+    }
+
+    // fields= 로 고른 표현은 전체 표현과 다른 ETag 를 가져야 한다
+    public static String withFields(String eTag, Set<? extends ProjectedField> fields) {
+        return fields == null ? eTag : withSuffix(eTag, Integer.toHexString(FieldSelection.key(fields).hashCode()));
+    }
+
+    // 같은 게시글이라도 표현(slice 응답, 방문자 수 등)이 다르면 ETag 뒤에 구분자를 붙인다
+    public static String withSuffix(String eTag, String suffix) {
+        return eTag == null ? null : eTag.substring(0, eTag.length() - 1) + "-" + suffix + "\"";
+    }
+
+    // 같은 버전이라도 JSON, Smile, CBOR 본문은 바이트가 다르다
+    public static String withFormat(String eTag, WebRequest request) {
+        String format = format(request.getHeader(HttpHeaders.ACCEPT));
+        return format == null ? eTag : withSuffix(eTag, format);
+    }
+
+    // 메시지 컨버터가 고를 형식: q 값이 높고 구체적인 Accept 부터, JSON 과 맞으면 JSON (null), 바이너리 형식과만 맞으면 그 형식
+    static String format(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return null;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null; // 컨버터도 JSON 으로 응답하거나 406
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+            .thenComparing(MediaType::isWildcardType)
+            .thenComparing(MediaType::isWildcardSubtype));
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            for (MediaType binary : BINARY_FORMATS) {
+                if (type.isCompatibleWith(binary)) {
+                    return binary.getSubtype().replace("x-jackson-", "");
+                }
+            }
+        }
+        return null;
+    }
+
+    public static ResponseEntity.BodyBuilder ok(String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        return eTag == null ? builder : builder.eTag(eTag);
+    }
+
+    public static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.newsfeed.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.example.newsfeed.dto.PostResponseDTO;
+import org.example.newsfeed.entity.Post;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 게시글 응답(PostResponseDTO)을 UTF-8 JSON 바이트로 미리 직렬화해 둔다. 키는 게시글 id, 값은 (updatedAt 버전, 바이트).
+// 버전이 다르면 새로 직렬화하므로 수정된 게시글이 예전 내용으로 나가지 않는다
+@Component
+public class PostJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public PostJsonCache(ObjectMapper objectMapper, @Value("${post-json-cache.max-entries:50000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+    }
+
+    // 엔티티를 로딩하지 않고 버전만으로 찾는다 (없으면 null)
+    public JsonFragment find(Long postId, String version) {
+        Entry entry = entries.get(postId);
+        return entry != null && entry.version.equals(version) ? entry.json : null;
+    }
+
+    public JsonFragment get(Post post) {
+        String version = PostVersionIndex.versionOf(post.getUpdatedAt());
+        JsonFragment cached = find(post.getId(), version);
+        if (cached != null) {
+            return cached;
+        }
+        JsonFragment json = serialize(post);
+        if (entries.size() >= maxEntries) {
+            entries.clear(); // PostVersionIndex 와 같은 단순한 상한
+        }
+        entries.put(post.getId(), new Entry(version, json));
+        return json;
+    }
+
+    public void invalidate(Long postId) {
+        entries.remove(postId);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private JsonFragment serialize(Post post) {
+        try {
+            return new JsonFragment(objectMapper.writeValueAsBytes(new PostResponseDTO(post)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 직렬화 실패: " + post.getId(), e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String version;
+        private final JsonFragment json;
+
+        private Entry(String version, JsonFragment json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
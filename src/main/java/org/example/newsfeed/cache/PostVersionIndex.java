@@ -0,0 +1,128 @@
+package org.example.newsfeed.cache;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.example.newsfeed.repository.CommentRepository;
+import org.example.newsfeed.repository.CommentRepository.CommentVersionView;
+import org.example.newsfeed.repository.PostRepository;
+import org.example.newsfeed.repository.PostRepository.UpdatedAtView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 게시글/댓글 목록/피드의 버전 색인. 엔티티를 로딩하지 않고 updated_at 만 읽어 버전을 만들고 메모리에 둔다.
+// 쓰기가 일어나면 InvalidationBus 를 거쳐 모든 서버에서 무효화되고, ttl 은 놓친 무효화에 대한 마지막 안전장치다
+@Component
+public class PostVersionIndex {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<Long, Version> posts = new ConcurrentHashMap<>();
+    private final Map<Long, Version> comments = new ConcurrentHashMap<>();
+    private volatile Version feed;
+
+    public PostVersionIndex(PostRepository postRepository, CommentRepository commentRepository,
+        @Value("${etag.version-ttl-millis:1000}") long ttlMillis,
+        @Value("${etag.max-entries:100000}") int maxEntries) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxEntries = maxEntries;
+    }
+
+    // 삭제되었거나 없는 게시글이면 null
+    public String postVersion(Long postId) {
+        return lookup(posts, postId, () -> postRepository.findUpdatedAtByIdAndDeleted(postId, Boolean.FALSE)
+            .map(view -> versionOf(view.getUpdatedAt()))
+            .orElse(null));
+    }
+
+    // DB 를 조회하지 않고 색인에 있는 버전만 본다 (없거나 만료되었으면 null)
+    public String peekPostVersion(Long postId) {
+        Version version = posts.get(postId);
+        return version != null && !version.isExpired(System.nanoTime(), ttlNanos) ? version.value : null;
+    }
+
+    // 다른 경로로 게시글을 읽었을 때 버전을 채워 둔다
+    public void rememberPost(Long postId, String version) {
+        store(posts, postId, new Version(version, System.nanoTime()));
+    }
+
+    public String commentVersion(Long postId) {
+        return lookup(comments, postId, () -> {
+            CommentVersionView view = commentRepository.findVersionByPostId(postId);
+            return view.getCount() + "." + versionOf(view.getLastUpdatedAt());
+        });
+    }
+
+    // 게시글 생성/수정/삭제(soft delete 도 updated_at 을 바꾼다)가 있으면 가장 최근 updated_at 이 바뀐다
+    public String feedVersion() {
+        Version version = feed;
+        long now = System.nanoTime();
+        if (version == null || version.isExpired(now, ttlNanos)) {
+            String value = postRepository.findFirstByOrderByUpdatedAtDesc()
+                .map(view -> versionOf(view.getUpdatedAt()))
+                .orElse("0");
+            version = new Version(value, now);
+            feed = version;
+        }
+        return version.value;
+    }
+
+    public void invalidatePost(Long postId) {
+        posts.remove(postId);
+        feed = null;
+    }
+
+    public void invalidateComments(Long postId) {
+        comments.remove(postId);
+    }
+
+    public void invalidateAll() {
+        posts.clear();
+        comments.clear();
+        feed = null;
+    }
+
+    private String lookup(Map<Long, Version> versions, Long postId, Supplier<String> loader) {
+        long now = System.nanoTime();
+        Version version = versions.get(postId);
+        if (version != null && !version.isExpired(now, ttlNanos)) {
+            return version.value;
+        }
+        String value = loader.get();
+        store(versions, postId, new Version(value, now));
+        return value;
+    }
+
+    private void store(Map<Long, Version> versions, Long postId, Version version) {
+        if (versions.size() >= maxEntries) {
+            versions.clear(); // 단순한 상한: 넘치면 비우고 다시 채운다
+        }
+        versions.put(postId, version);
+    }
+
+    public static String versionOf(Timestamp timestamp) {
+        return timestamp == null ? "0" : Long.toHexString(timestamp.getTime());
+    }
+
+    private static final class Version {
+
+        private final String value;
+        private final long loadedAt;
+
+        private Version(String value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long ttlNanos) {
+            return now - loadedAt >= ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.newsfeed.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Accept / Content-Type 이 application/x-jackson-smile, application/cbor 이면 바이너리로 주고받는다.
+// 목록 맨 뒤에 추가하므로 Accept 가 없거나 */* 이면 지금처럼 JSON 이 선택된다
+@Configuration
+@RequiredArgsConstructor
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    // spring.jackson.* 설정(시간대 등)이 적용된 빌더. prototype 이라 꺼낼 때마다 새 인스턴스
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+            builders.getObject().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+            builders.getObject().factory(new CBORFactory()).build()));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.newsfeed.config;
+
+import java.util.List;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// 시작 시간 단축: startup.lazy-packages 에 속한 빈(Swagger/springdoc 처럼 요청이 와야 쓰는 빈)은 첫 사용 때 만든다.
+// spring.main.lazy-initialization 과 달리 나머지 빈은 그대로 즉시 생성한다
+// (EventBus, OutboxRelay, MutationLog 처럼 시작할 때 스레드를 띄우거나 복구해야 하는 빈이 첫 요청까지 밀리지 않게)
+@Configuration
+public class StartupConfig {
+
+    // BeanFactoryPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 Environment 에서 직접 읽는다
+    @Bean
+    public static BeanFactoryPostProcessor nonCriticalLazyInitialization(Environment environment) {
+        List<String> packages = Binder.get(environment)
+            .bind("startup.lazy-packages", Bindable.listOf(String.class))
+            .orElse(List.of());
+        return beanFactory -> {
+            if (packages.isEmpty()) {
+                return;
+            }
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String className = declaringClassName(beanFactory, definition);
+                if (className != null && packages.stream().anyMatch(prefix -> className.startsWith(prefix + "."))) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    // @Bean 메서드로 만든 빈은 클래스 이름이 없으므로 선언한 설정 클래스로 판단한다
+    private static String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        if (definition.getBeanClassName() != null) {
+            return definition.getBeanClassName();
+        }
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+        }
+        return null;
+    }
+}
@@ -1,23 +1,34 @@
 package org.example.newsfeed.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.Filter;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.admission.AdmissionControlFilter;
+import org.example.newsfeed.admission.AdmissionProperties;
 import org.example.newsfeed.jwt.JwtAuthenticationFilter;
 import org.example.newsfeed.jwt.JwtAuthorizationFilter;
 import org.example.newsfeed.jwt.JwtUtil;
+import org.example.newsfeed.metrics.MetricsProperties;
+import org.example.newsfeed.ratelimit.RateLimitFilter;
+import org.example.newsfeed.ratelimit.RateLimitProperties;
 import org.example.newsfeed.security.UserDetailsServiceImpl;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
 @Configuration
 @EnableWebSecurity // Spring Security 지원을 가능하게 함
@@ -28,6 +39,10 @@ public class WebSecurityConfig {
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final RateLimitProperties rateLimitProperties;
+    private final AdmissionProperties admissionProperties;
+    private final MetricsProperties metricsProperties;
+    private final ObjectMapper objectMapper;
 
 
     @Bean
@@ -47,6 +62,16 @@ public class WebSecurityConfig {
         return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
     }
 
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimitProperties, jwtUtil, objectMapper);
+    }
+
+    @Bean
+    public AdmissionControlFilter admissionControlFilter() {
+        return new AdmissionControlFilter(admissionProperties, objectMapper);
+    }
+
 
 
     @Bean
@@ -67,13 +92,26 @@ public class WebSecurityConfig {
                 .requestMatchers("/api/login").permitAll() // '/api'로 시작하는 요청 모두 접근 허가 (테스트용)
                 .requestMatchers("/api/logout").permitAll()
                 .requestMatchers("/api/newsfeed").permitAll()
+                .requestMatchers("/actuator/health/**").permitAll() // 로드밸런서 헬스 체크
+                .requestMatchers("/metrics").access(metricsScrapers()) // Prometheus 스크레이프: 허용된 주소에서만
                 .anyRequest().authenticated() // 그 외 모든 요청 인증처리
         );
 
         // 필터 설정
         http.addFilterBefore(jwtAuthorizationFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(rateLimitFilter(), JwtAuthorizationFilter.class); // 사용자 조회 전에 요청 수 제한
+        http.addFilterBefore(admissionControlFilter(), JwtAuthorizationFilter.class); // 요청 수 제한 다음, 사용자 조회 전에 과부하 제어
 //        http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    // 로그인 없이 읽는 대신 접속 주소로 막는다 (프록시 뒤라면 server.forward-headers-strategy 로 실제 주소를 쓴다)
+    private AuthorizationManager<RequestAuthorizationContext> metricsScrapers() {
+        List<IpAddressMatcher> allowed = metricsProperties.getAllowedAddresses().stream()
+            .map(IpAddressMatcher::new)
+            .toList();
+        return (authentication, context) -> new AuthorizationDecision(
+            allowed.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
 }
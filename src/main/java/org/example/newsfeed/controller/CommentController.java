@@ -2,9 +2,11 @@ package org.example.newsfeed.controller;
 
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.example.newsfeed.CommonResponse;
+import org.example.newsfeed.cache.PostETags;
 import org.example.newsfeed.dto.CommentRequestDTO;
 import org.example.newsfeed.dto.CommentResponseDTO;
 import org.example.newsfeed.dto.ErrorResponseDTO;
@@ -13,6 +15,8 @@ import org.example.newsfeed.entity.Comment;
 import org.example.newsfeed.exception.CommentNotFoundException;
 import org.example.newsfeed.exception.InvalidUserException;
 import org.example.newsfeed.exception.PostNotFoundException;
+import org.example.newsfeed.projection.CommentField;
+import org.example.newsfeed.projection.FieldSelection;
 import org.example.newsfeed.security.UserDetailsImpl;
 import org.example.newsfeed.service.CommentService;
 import org.springframework.http.HttpStatus;
@@ -25,7 +29,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @AllArgsConstructor
@@ -33,6 +39,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentController {
 
     public final CommentService commentService;
+    private final PostETags postETags;
 
 
     @PostMapping
@@ -52,15 +59,26 @@ public class CommentController {
     }
 
     @GetMapping
-    public ResponseEntity getComments(@PathVariable Long postId) { //댓글 조회
+    public ResponseEntity getComments(@PathVariable Long postId,
+        @RequestParam(value = "fields", required = false) String fields, //응답 필드 선택 (예: id,userId,preview)
+        WebRequest request) { //댓글 조회
+        Set<CommentField> fieldSet = FieldSelection.parse(fields, CommentField.class);
+        String eTag = PostETags.withFormat(PostETags.withFields(postETags.comments(postId), fieldSet), request);
+        if (eTag != null && request.checkNotModified(eTag)) { // 댓글이 바뀌지 않았으면 목록을 읽지 않고 304
+            return PostETags.notModified(eTag);
+        }
+
         ResponseEntity response;
         try {
+            if (fieldSet != null) {
+                return PostETags.ok(eTag).body(commentService.getCommentFields(postId, fieldSet));
+            }
             List<Comment> comments = commentService.getComments(postId);
 
             List<CommentResponseDTO> responseList = comments.stream()
                 .map(CommentResponseDTO::new)
                 .collect(Collectors.toList());
-            response = ResponseEntity.ok(responseList);
+            response = PostETags.ok(eTag).body(responseList);
         } catch (PostNotFoundException e) {
             response = ResponseEntity.ok().body(
                 new ErrorResponseDTO2("403", "댓글 조회에 실패했습니다.", e.getMessage()));
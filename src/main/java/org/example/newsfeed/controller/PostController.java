@@ -1,21 +1,34 @@
 package org.example.newsfeed.controller;
 
+import java.util.List;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.example.newsfeed.CommonResponse;
+import org.example.newsfeed.cache.JsonFragment;
+import org.example.newsfeed.cache.PostETags;
 import org.example.newsfeed.dto.ErrorResponseDTO2;
 import org.example.newsfeed.dto.PostRequestDTO;
 import org.example.newsfeed.dto.PostResponseDTO;
+import org.example.newsfeed.dto.PostSliceResponseDTO;
 import org.example.newsfeed.dto.SearchRequestDTO;
 import org.example.newsfeed.entity.Post;
 import org.example.newsfeed.exception.InvalidUserException;
 import org.example.newsfeed.exception.PostNotFoundException;
+import org.example.newsfeed.projection.FieldSelection;
+import org.example.newsfeed.projection.PostField;
 import org.example.newsfeed.security.UserDetailsImpl;
 import org.example.newsfeed.service.PostService;
+import org.example.newsfeed.trending.TrendingPost;
+import org.example.newsfeed.trending.TrendingPosts;
+import org.example.newsfeed.trending.TrendingProperties;
+import org.example.newsfeed.viewers.PostViewers;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @AllArgsConstructor
@@ -23,6 +36,10 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     public final PostService postService;
+    private final PostETags postETags;
+    private final TrendingPosts trendingPosts;
+    private final TrendingProperties trendingProperties;
+    private final PostViewers postViewers;
 
     @PostMapping
     public ResponseEntity postPost(@RequestBody PostRequestDTO dto,
@@ -32,12 +49,55 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    // 최근 조회/댓글이 많은 게시글 id 와 점수 (메모리에서만 계산, 내용은 ?ids= 로 조회)
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPost>> getTrending(@RequestParam(value = "limit", required = false) Integer limit) {
+        int size = limit == null ? trendingProperties.getTopK() : Math.max(1, Math.min(limit, trendingProperties.getCandidates()));
+        return ResponseEntity.ok(trendingPosts.top(size));
+    }
+
+    @GetMapping(params = "ids") // /api/posts?ids=1,2,3
+    public ResponseEntity getPostsByIds(@RequestParam("ids") List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > PostService.MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body(new ErrorResponseDTO2("400", "게시글 일괄 조회에 실패했습니다.",
+                "ids 는 1개 이상 " + PostService.MAX_BATCH_SIZE + "개 이하로 지정해주세요."));
+        }
+        return ResponseEntity.ok(postService.getPostsByIds(ids));
+    }
+
     @GetMapping("{postId}")
-    public ResponseEntity getPost(@PathVariable Long postId) {
+    public ResponseEntity getPost(@PathVariable Long postId,
+        @RequestParam(value = "fields", required = false) String fields, //응답 필드 선택 (예: id,userId,preview)
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        WebRequest request) {
+        Set<PostField> fieldSet = FieldSelection.parse(fields, PostField.class);
+        String eTag = PostETags.withFields(postETags.post(postId), fieldSet);
+        Long viewers = null;
+        if (eTag != null) { // 존재하는 게시글이면 304 여도 조회로 센다
+            trendingPosts.recordView(postId);
+            if (userDetails != null) {
+                postViewers.record(postId, userDetails.getUser().getId());
+            }
+            if (fieldSet == null) { // 방문자 수가 바뀌면 다른 표현
+                viewers = postViewers.count(postId);
+                eTag = PostETags.withSuffix(eTag, "v" + viewers);
+            }
+        }
+        eTag = PostETags.withFormat(eTag, request);
+        if (eTag != null && request.checkNotModified(eTag)) { // If-None-Match 가 일치하면 게시글을 읽지 않고 304
+            return PostETags.notModified(eTag);
+        }
+
         ResponseEntity response;
         try {
-            Post post = postService.getPost(postId);
-            response = ResponseEntity.ok(new PostResponseDTO(post));
+            Object body;
+            if (fieldSet != null) {
+                body = postService.getPostFields(postId, fieldSet);
+            } else {
+                JsonFragment post = postService.getPostJson(postId);
+                body = viewers == null ? post : post.withField("viewers", viewers); // PostResponseDTO.viewers
+            }
+            response = PostETags.ok(eTag).body(body);
         } catch (PostNotFoundException e) {
             response = ResponseEntity.ok().body(
                 new ErrorResponseDTO2("403", "게시글 조회에 실패했습니다.", e.getMessage()));
@@ -89,11 +149,33 @@ public class PostController {
     }
 
     @GetMapping("/page")
-    public Page<PostResponseDTO> getPostPage(
+    public ResponseEntity<?> getPostPage(
         @RequestParam("page") int page, //페이지 번호 1부터
         @RequestParam("search") boolean canSearch,  //기간별 검색 기능 사용할지
-        @RequestBody(required = false) SearchRequestDTO dto) { //기간
-        return postService.getPosts(page - 1, canSearch, dto);
+        @RequestParam(value = "fields", required = false) String fields, //응답 필드 선택 (예: id,userId,preview)
+        @RequestParam(value = "slice", defaultValue = "false") boolean slice, //true 면 전체 개수(count) 없이 다음 페이지 여부만
+        @RequestBody(required = false) SearchRequestDTO dto, //기간
+        WebRequest request) {
+        Set<PostField> fieldSet = FieldSelection.parse(fields, PostField.class);
+        String eTag = PostETags.withFields(postETags.page(page, canSearch, dto), fieldSet);
+        if (slice) {
+            eTag = PostETags.withSuffix(eTag, "s");
+        }
+        eTag = PostETags.withFormat(eTag, request);
+        if (request.checkNotModified(eTag)) {
+            return PostETags.notModified(eTag);
+        }
+        if (slice) {
+            Slice<?> posts = fieldSet == null
+                ? postService.getPostsJsonSlice(page - 1, canSearch, dto)
+                : postService.getPostFieldsSlice(page - 1, canSearch, dto, fieldSet);
+            Long approximateTotal = canSearch ? null : postService.getApproximatePostCount();
+            return PostETags.ok(eTag).body(new PostSliceResponseDTO<>(posts, approximateTotal));
+        }
+        Page<?> body = fieldSet == null
+            ? postService.getPostsJson(page - 1, canSearch, dto)
+            : postService.getPostFields(page - 1, canSearch, dto, fieldSet);
+        return PostETags.ok(eTag).body(body);
     }
 
 
@@ -0,0 +1,91 @@
+package org.example.newsfeed.controller;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.example.newsfeed.dto.ErrorResponseDTO2;
+import org.example.newsfeed.entity.ReactionTargetType;
+import org.example.newsfeed.exception.CommentNotFoundException;
+import org.example.newsfeed.exception.PostNotFoundException;
+import org.example.newsfeed.reaction.ReactionProperties;
+import org.example.newsfeed.security.UserDetailsImpl;
+import org.example.newsfeed.service.ReactionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 좋아요. PUT/DELETE 는 여러 번 보내도 결과가 같다
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/posts")
+public class ReactionController {
+
+    private final ReactionService reactionService;
+    private final ReactionProperties reactionProperties;
+
+    @PutMapping("{postId}/reactions")
+    public ResponseEntity reactToPost(@PathVariable Long postId,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        ResponseEntity response;
+        try {
+            reactionService.checkPost(postId);
+            response = ResponseEntity.ok(reactionService.react(ReactionTargetType.POST, postId, userDetails.getUser()));
+        } catch (PostNotFoundException e) {
+            response = ResponseEntity.ok().body(
+                new ErrorResponseDTO2("403", "좋아요에 실패했습니다.", e.getMessage()));
+        }
+        return response;
+    }
+
+    @DeleteMapping("{postId}/reactions")
+    public ResponseEntity unreactToPost(@PathVariable Long postId,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(reactionService.unreact(ReactionTargetType.POST, postId, userDetails.getUser()));
+    }
+
+    @PutMapping("{postId}/comments/{commentId}/reactions")
+    public ResponseEntity reactToComment(@PathVariable Long postId, @PathVariable Long commentId,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        ResponseEntity response;
+        try {
+            reactionService.checkComment(postId, commentId);
+            response = ResponseEntity.ok(reactionService.react(ReactionTargetType.COMMENT, commentId, userDetails.getUser()));
+        } catch (CommentNotFoundException e) {
+            response = ResponseEntity.ok().body(
+                new ErrorResponseDTO2("403", "좋아요에 실패했습니다.", e.getMessage()));
+        }
+        return response;
+    }
+
+    @DeleteMapping("{postId}/comments/{commentId}/reactions")
+    public ResponseEntity unreactToComment(@PathVariable Long postId, @PathVariable Long commentId,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(reactionService.unreact(ReactionTargetType.COMMENT, commentId, userDetails.getUser()));
+    }
+
+    // 피드 한 페이지의 좋아요 수와 내가 눌렀는지: /api/posts/reactions?ids=1,2,3
+    @GetMapping("reactions")
+    public ResponseEntity getPostReactions(@RequestParam("ids") List<Long> ids,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return lookup(ReactionTargetType.POST, ids, userDetails);
+    }
+
+    @GetMapping("{postId}/comments/reactions")
+    public ResponseEntity getCommentReactions(@PathVariable Long postId, @RequestParam("ids") List<Long> ids,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return lookup(ReactionTargetType.COMMENT, ids, userDetails);
+    }
+
+    private ResponseEntity lookup(ReactionTargetType type, List<Long> ids, UserDetailsImpl userDetails) {
+        if (ids.isEmpty() || ids.size() > reactionProperties.getMaxLookupIds()) {
+            return ResponseEntity.badRequest().body(new ErrorResponseDTO2("400", "좋아요 조회에 실패했습니다.",
+                "ids 는 1개 이상 " + reactionProperties.getMaxLookupIds() + "개 이하로 지정해주세요."));
+        }
+        return ResponseEntity.ok(reactionService.getReactions(type, ids, userDetails.getUser()));
+    }
+}
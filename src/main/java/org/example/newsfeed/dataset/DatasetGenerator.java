@@ -0,0 +1,211 @@
+package org.example.newsfeed.dataset;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.entity.UserStatusEnum;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// 대용량 합성 데이터 생성기.
+// JPA 를 거치지 않고 다중 행 INSERT 를 JDBC 배치로 보내며, 테이블마다 id 구간을 나눠 여러 스레드가 동시에 넣는다.
+// 행 값은 SyntheticDataset 이 (seed, id) 로 계산하므로 스레드 수와 관계없이 결과가 같다
+@Slf4j(topic = "Dataset")
+@Component
+@RequiredArgsConstructor
+public class DatasetGenerator {
+
+    private static final String USER_COLUMNS = "id, user_id, password, name, email, comment, status, refresh_token, "
+        + "status_change_time, create_date, modify_date";
+    private static final String POST_COLUMNS = "id, user_id, content, deleted, created_at, updated_at";
+    private static final String COMMENT_COLUMNS = "comment_id, user_id, content, post_id, created_at, updated_at";
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+
+    public void generate(DatasetProperties properties) {
+        long started = System.currentTimeMillis();
+        SyntheticDataset dataset = new SyntheticDataset(properties, started);
+        int threads = threads(properties);
+
+        // BCrypt 는 한 번만 계산해 모든 사용자에게 같은 해시를 쓴다
+        String passwordHash = passwordEncoder.encode(properties.getPassword());
+        String status = UserStatusEnum.ACTIVE.getStatus();
+        Timestamp joinedAt = new Timestamp(started);
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, daemonThreads());
+        try {
+            // 외래 키 때문에 테이블 순서대로, 테이블 안에서는 병렬로
+            insert(workers, properties, "user", USER_COLUMNS, 11, properties.getUsers(), (ps, i, id) -> {
+                String userId = SyntheticDataset.userIdOf(id);
+                ps.setLong(i, id);
+                ps.setString(i + 1, userId);
+                ps.setString(i + 2, passwordHash);
+                ps.setString(i + 3, "사용자" + id);
+                ps.setString(i + 4, userId + "@example.com");
+                ps.setString(i + 5, "합성 사용자");
+                ps.setString(i + 6, status);
+                ps.setString(i + 7, "");
+                ps.setString(i + 8, "");
+                ps.setTimestamp(i + 9, joinedAt);
+                ps.setTimestamp(i + 10, joinedAt);
+            });
+            insert(workers, properties, "post", POST_COLUMNS, 6, properties.getPosts(), (ps, i, id) -> {
+                Timestamp createdAt = new Timestamp(dataset.postCreatedAt(id));
+                ps.setLong(i, id);
+                ps.setLong(i + 1, dataset.postAuthor(id));
+                ps.setString(i + 2, "합성 게시글 " + id);
+                ps.setBoolean(i + 3, dataset.postDeleted(id));
+                ps.setTimestamp(i + 4, createdAt);
+                ps.setTimestamp(i + 5, createdAt);
+            });
+            insert(workers, properties, "comment", COMMENT_COLUMNS, 6, properties.getComments(), (ps, i, id) -> {
+                long postId = dataset.commentPost(id);
+                Timestamp createdAt = new Timestamp(dataset.commentCreatedAt(id, postId));
+                ps.setLong(i, id);
+                ps.setLong(i + 1, dataset.commentAuthor(id));
+                ps.setString(i + 2, "합성 댓글 " + id);
+                ps.setLong(i + 3, postId);
+                ps.setTimestamp(i + 4, createdAt);
+                ps.setTimestamp(i + 5, createdAt);
+            });
+        } finally {
+            workers.shutdownNow();
+        }
+
+        restartIdentities(properties);
+        log.info("합성 데이터 생성 완료: users={}, posts={}, comments={}, threads={} ({}ms)",
+            properties.getUsers(), properties.getPosts(), properties.getComments(), threads,
+            System.currentTimeMillis() - started);
+    }
+
+    private void insert(ExecutorService workers, DatasetProperties properties, String table, String columns,
+        int columnCount, long rows, RowBinder binder) {
+        long started = System.currentTimeMillis();
+        List<Future<?>> chunks = new ArrayList<>();
+        for (long from = 1; from <= rows; from += properties.getChunkRows()) {
+            long first = from;
+            long last = Math.min(rows, from + properties.getChunkRows() - 1);
+            chunks.add(workers.submit(() -> {
+                insertChunk(properties, table, columns, columnCount, first, last, binder);
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합성 데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(table + " 테이블 합성 데이터 생성 실패", e.getCause());
+        }
+        log.info("{}: {}건 ({}ms)", table, rows, System.currentTimeMillis() - started);
+    }
+
+    // id 구간 [first, last] 를 rowsPerInsert 행짜리 INSERT 들로 나눠 한 트랜잭션으로 넣는다
+    private void insertChunk(DatasetProperties properties, String table, String columns, int columnCount,
+        long first, long last, RowBinder binder) throws SQLException {
+        int rowsPerInsert = properties.getRowsPerInsert();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long id = first;
+            try (PreparedStatement full = connection.prepareStatement(insertSql(table, columns, columnCount, rowsPerInsert))) {
+                while (last - id + 1 >= rowsPerInsert) {
+                    for (int row = 0; row < rowsPerInsert; row++, id++) {
+                        binder.bind(full, row * columnCount + 1, id);
+                    }
+                    full.addBatch();
+                }
+                full.executeBatch();
+            }
+            int remaining = (int) (last - id + 1);
+            if (remaining > 0) {
+                try (PreparedStatement rest = connection.prepareStatement(insertSql(table, columns, columnCount, remaining))) {
+                    for (int row = 0; row < remaining; row++, id++) {
+                        binder.bind(rest, row * columnCount + 1, id);
+                    }
+                    rest.executeUpdate();
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    private static String insertSql(String table, String columns, int columnCount, int rows) {
+        String placeholders = "(" + "?, ".repeat(columnCount - 1) + "?)";
+        StringBuilder sql = new StringBuilder(64 + rows * (placeholders.length() + 2))
+            .append("INSERT INTO ").append(table).append(" (").append(columns).append(") VALUES ");
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholders);
+        }
+        return sql.toString();
+    }
+
+    // 직접 넣은 id 다음부터 애플리케이션이 발급하도록 (시퀀스 allocationSize 50 을 넘겨서)
+    private void restartIdentities(DatasetProperties properties) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if ("H2".equals(product)) {
+                statement.execute("ALTER TABLE user ALTER COLUMN id RESTART WITH " + (properties.getUsers() + 1));
+                statement.execute("ALTER SEQUENCE post_seq RESTART WITH " + (properties.getPosts() + 51));
+                statement.execute("ALTER SEQUENCE comment_seq RESTART WITH " + (properties.getComments() + 51));
+            } else if ("MySQL".equals(product)) {
+                // MySQL 에는 시퀀스가 없어 Hibernate 가 post_seq, comment_seq 테이블로 흉내낸다
+                statement.execute("ALTER TABLE user AUTO_INCREMENT = " + (properties.getUsers() + 1));
+                statement.execute("UPDATE post_seq SET next_val = " + (properties.getPosts() + 51));
+                statement.execute("UPDATE comment_seq SET next_val = " + (properties.getComments() + 51));
+            } else {
+                log.warn("{} 의 id 발급 위치를 조정하지 못했습니다. 새로 저장하는 행의 id 가 겹칠 수 있습니다.", product);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("id 발급 위치 조정 실패", e);
+        }
+    }
+
+    // 스레드마다 커넥션을 하나씩 잡으므로 풀 크기를 넘기지 않는다
+    private int threads(DatasetProperties properties) {
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                threads = Math.min(threads, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize());
+            }
+        } catch (SQLException e) {
+            log.debug("커넥션 풀 크기 확인 실패: {}", e.getMessage());
+        }
+        return Math.max(1, threads);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "dataset-writer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+
+        void bind(PreparedStatement statement, int index, long id) throws SQLException;
+    }
+}
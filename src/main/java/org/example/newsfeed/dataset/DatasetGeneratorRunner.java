@@ -0,0 +1,26 @@
+package org.example.newsfeed.dataset;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// dataset 프로필: 설정된 DB(기본은 MySQL)에 합성 데이터를 채우고 종료한다
+@Component
+@Profile("dataset")
+@RequiredArgsConstructor
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DatasetGenerator datasetGenerator;
+    private final DatasetProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        datasetGenerator.generate(properties);
+        System.exit(SpringApplication.exit(context));
+    }
+}
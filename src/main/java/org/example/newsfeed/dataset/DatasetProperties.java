@@ -0,0 +1,26 @@
+package org.example.newsfeed.dataset;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dataset")
+public class DatasetProperties {
+
+    private int users = 1_000;
+    private int posts = 10_000;
+    private int comments = 50_000;
+    private long seed = 42L;
+    private String password = "LoadTest123!"; // 모든 합성 사용자의 비밀번호
+
+    private int maxAgeDays = 365;           // 가장 오래된 게시글의 나이
+    private double recencySkew = 3.0;       // 1 이면 균등, 클수록 최근 게시글 비중이 높다
+    private double deletedRatio = 0.05;     // soft delete 된 게시글 비율
+    private double commentExponent = 1.1;   // 게시글별 댓글 수 분포(Zipf)의 지수
+
+    private int rowsPerInsert = 500;        // INSERT 한 문장에 넣을 행 수
+    private int chunkRows = 20_000;         // 작업(트랜잭션) 하나가 넣는 행 수
+    private int threads = 0;                // 0 이면 CPU 코어 수 (커넥션 풀 크기를 넘지 않게)
+}
@@ -0,0 +1,119 @@
+package org.example.newsfeed.dataset;
+
+// 합성 데이터의 각 행을 (seed, id) 만으로 계산한다.
+// 난수 상태를 공유하지 않으므로 어느 스레드가 어떤 순서로 만들어도 같은 seed 면 같은 데이터가 나온다
+public class SyntheticDataset {
+
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    // 값 종류별로 해시를 분리하기 위한 salt
+    private static final long POST_AUTHOR = 1;
+    private static final long POST_AGE = 2;
+    private static final long POST_DELETED = 3;
+    private static final long COMMENT_POST = 4;
+    private static final long COMMENT_AUTHOR = 5;
+    private static final long COMMENT_DELAY = 6;
+
+    private final long seed;
+    private final int users;
+    private final int posts;
+    private final long nowMillis;
+    private final long maxAgeMillis;
+    private final double recencySkew;
+    private final double deletedRatio;
+    private final double commentExponent;
+    private final long postStride;
+    private final long postOffset;
+
+    public SyntheticDataset(DatasetProperties properties, long nowMillis) {
+        this.seed = properties.getSeed();
+        this.users = properties.getUsers();
+        this.posts = properties.getPosts();
+        this.nowMillis = nowMillis;
+        this.maxAgeMillis = properties.getMaxAgeDays() * DAY_MILLIS;
+        this.recencySkew = properties.getRecencySkew();
+        this.deletedRatio = properties.getDeletedRatio();
+        this.commentExponent = properties.getCommentExponent();
+        this.postStride = strideFor(posts);
+        this.postOffset = Math.floorMod(mix(seed), (long) Math.max(1, posts));
+    }
+
+    public static String userIdOf(long id) {
+        return String.format("loadtest%06d", id);
+    }
+
+    public long postAuthor(long postId) {
+        return 1 + (long) (unit(POST_AUTHOR, postId) * users);
+    }
+
+    // 나이 = maxAge * u^skew : skew 가 클수록 최근 글이 많다
+    public long postCreatedAt(long postId) {
+        return nowMillis - (long) (maxAgeMillis * Math.pow(unit(POST_AGE, postId), recencySkew));
+    }
+
+    public boolean postDeleted(long postId) {
+        return unit(POST_DELETED, postId) < deletedRatio;
+    }
+
+    // 게시글별 댓글 수가 멱법칙(Zipf)을 따르도록, 댓글마다 순위를 뽑고 순위를 게시글 id 로 섞는다
+    public long commentPost(long commentId) {
+        long rank = zipfRank(unit(COMMENT_POST, commentId), posts, commentExponent);
+        return 1 + Math.floorMod((rank - 1) * postStride + postOffset, (long) posts);
+    }
+
+    public long commentAuthor(long commentId) {
+        return 1 + (long) (unit(COMMENT_AUTHOR, commentId) * users);
+    }
+
+    // 댓글은 게시글 작성 이후 ~ 현재 사이, 게시 직후에 몰리도록
+    public long commentCreatedAt(long commentId, long postId) {
+        long postTime = postCreatedAt(postId);
+        double u = unit(COMMENT_DELAY, commentId);
+        return postTime + (long) ((nowMillis - postTime) * u * u * u);
+    }
+
+    // 연속 분포의 역함수로 근사한 Zipf 순위 (1..n)
+    static long zipfRank(double u, long n, double s) {
+        double rank;
+        if (Math.abs(s - 1.0) < 1e-9) {
+            rank = Math.pow(n + 1.0, u);
+        } else {
+            double a = 1.0 - s;
+            rank = Math.pow(u * (Math.pow(n + 1.0, a) - 1.0) + 1.0, 1.0 / a);
+        }
+        return Math.max(1, Math.min(n, (long) rank));
+    }
+
+    // [0, 1) 균등분포
+    double unit(long salt, long id) {
+        return (mix(seed ^ mix(salt * 0x9E3779B97F4A7C15L + id)) >>> 11) * 0x1.0p-53;
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 인기 순위 1, 2, 3 ... 이 id 1, 2, 3 ... 에 몰리지 않도록 n 과 서로소인 보폭으로 순열을 만든다 (시작 위치는 seed 로)
+    private static long strideFor(long n) {
+        if (n <= 1) {
+            return 1;
+        }
+        long stride = (long) (n * 0.6180339887) | 1;
+        while (gcd(stride, n) != 1) {
+            stride += 2;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.newsfeed.dto;
+
+import java.util.List;
+import lombok.Getter;
+import org.example.newsfeed.cache.JsonFragment;
+
+@Getter
+public class PostBatchResponseDTO {
+
+    private final List<JsonFragment> posts;   // 요청한 순서대로 (PostResponseDTO 형식)
+    private final List<Long> missingIds;      // 없거나 삭제된 게시글
+
+    public PostBatchResponseDTO(List<JsonFragment> posts, List<Long> missingIds) {
+        this.posts = posts;
+        this.missingIds = missingIds;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.newsfeed.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 import org.example.newsfeed.entity.Post;
@@ -15,6 +16,8 @@ public class PostResponseDTO {
     private String content;
     private Timestamp postDate;
     private Timestamp modifiedDate;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long viewers; // 고유 방문자 수 (근사값). 단건 조회에서만 채운다
 
     public PostResponseDTO(Post post) {
 
@@ -0,0 +1,24 @@
+package org.example.newsfeed.dto;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+// slice=true 응답: count 쿼리 없이 다음 페이지 여부만 알려준다
+@Getter
+public class PostSliceResponseDTO<T> {
+
+    private final List<T> content;
+    private final int page;                 // 1부터
+    private final int size;
+    private final boolean hasNext;
+    private final Long approximateTotal;    // 전체 조회일 때만 (PostCounter 근사값), 기간 검색이면 null
+
+    public PostSliceResponseDTO(Slice<T> slice, Long approximateTotal) {
+        this.content = slice.getContent();
+        this.page = slice.getNumber() + 1;
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+        this.approximateTotal = approximateTotal;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.newsfeed.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ReactionResponseDTO {
+
+    private final Long targetId;   // 게시글 또는 댓글 id
+    private final boolean reacted; // 내가 좋아요 했는지
+    private final long count;      // 좋아요 수
+
+    public ReactionResponseDTO(Long targetId, boolean reacted, long count) {
+        this.targetId = targetId;
+        this.reacted = reacted;
+        this.count = count;
+    }
+}
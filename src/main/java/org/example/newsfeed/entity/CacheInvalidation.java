@@ -0,0 +1,41 @@
+package org.example.newsfeed.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.newsfeed.invalidation.CacheRegion;
+
+// 노드 사이 캐시 무효화 행 (JdbcInvalidationTransport). 모든 노드가 id 순서대로 읽고, 오래된 행은 지운다.
+// 읽고 쓰기는 JdbcTemplate 으로 하고 엔티티는 스키마(ddl-auto / validate)를 맞추는 데 쓴다
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "cache_invalidation", indexes = @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at"))
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CacheRegion region;
+
+    @Column(name = "key_id", nullable = false)
+    private Long keyId;
+
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private Timestamp createdAt;
+}
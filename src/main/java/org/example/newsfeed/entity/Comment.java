@@ -1,11 +1,11 @@
 package org.example.newsfeed.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -13,6 +13,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.newsfeed.sharding.ShardedSequenceGenerator;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
 @Getter
@@ -20,7 +23,10 @@ import lombok.Setter;
 @NoArgsConstructor
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(generator = "comment_id")
+    @GenericGenerator(name = "comment_id", type = ShardedSequenceGenerator.class, parameters = {
+        @Parameter(name = "sequence_name", value = "comment_seq"),
+        @Parameter(name = "increment_size", value = "50")}) // 샤딩이 꺼져 있으면 예전 기본값(comment_seq, 50) 그대로
     @Column(name = "comment_id", nullable = false)
     private Long id;
 
@@ -36,6 +42,7 @@ public class Comment extends BaseEntity {
     @Setter
     @ManyToOne
     @JoinColumn(name = "post_id")
+    @JsonIgnore // 뉴스피드가 Post 를 그대로 내보낼 때 post -> comments -> post 로 무한 재귀하지 않도록
     private Post post; //N:1
 
 
@@ -0,0 +1,54 @@
+package org.example.newsfeed.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+// 게시글/댓글 변경과 같은 트랜잭션에서 쓰는 이벤트 행 (transactional outbox). OutboxRelay 가 읽어 발행하고
+// (dispatched_at 기록) 구독자가 모두 처리했다고 알려 오면 지운다.
+// aggregate 는 게시글: 댓글 이벤트도 게시글 id 로 묶여 같은 게시글 안에서는 id 순서대로 발행된다.
+// id 는 IDENTITY 라 INSERT 순서대로 커지지만 행이 보이는 것은 커밋 순서다. 그래서 Outbox.append 가 게시글 행을 잠근 뒤에 INSERT 한다:
+// 같은 게시글의 트랜잭션은 앞 트랜잭션이 커밋한 뒤에야 id 를 받으므로, 게시글 안에서는 id 순서 = 커밋 순서
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_aggregate", columnList = "aggregate_id, id"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OutboxEventType type;
+
+    @Column(name = "entity_id")
+    private Long entityId; // 댓글 이벤트의 댓글 id
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Timestamp createdAt;
+
+    @Column(name = "dispatched_at")
+    private Timestamp dispatchedAt; // 발행했지만 아직 처리 완료를 받지 못함. 오래되면 다시 발행한다
+
+    public OutboxEvent(Long aggregateId, OutboxEventType type, Long entityId) {
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.entityId = entityId;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.newsfeed.entity;
+
+public enum OutboxEventType {
+    POST_CREATED,
+    POST_UPDATED,
+    POST_DELETED,
+    COMMENT_CREATED,
+    COMMENT_UPDATED,
+    COMMENT_DELETED
+}
@@ -7,14 +7,21 @@ import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.newsfeed.sharding.ShardedSequenceGenerator;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_post_updated_at", columnList = "updated_at")) // 피드 버전(ETag) 조회용
 public class Post extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(generator = "post_id")
+    @GenericGenerator(name = "post_id", type = ShardedSequenceGenerator.class, parameters = {
+        @Parameter(name = "sequence_name", value = "post_seq"),
+        @Parameter(name = "increment_size", value = "50")}) // 샤딩이 꺼져 있으면 예전 기본값(post_seq, 50) 그대로
     @Column(nullable = false)
     private Long id;
 
@@ -0,0 +1,59 @@
+package org.example.newsfeed.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Version;
+import java.io.Serializable;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 게시글별, 일(epoch day)별 고유 방문자 HyperLogLog. 전체 방문자 수는 모든 날짜의 합집합
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(PostViewerSketch.Key.class)
+public class PostViewerSketch {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "window_day")
+    private Integer windowDay;
+
+    @Setter
+    @Column(nullable = false, length = 4096)
+    private byte[] sketch;
+
+    @Version
+    private Long version; // 여러 서버가 같은 행을 동시에 병합할 때 덮어쓰지 않도록
+
+    public PostViewerSketch(Long postId, Integer windowDay, byte[] sketch) {
+        this.postId = postId;
+        this.windowDay = windowDay;
+        this.sketch = sketch;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long postId;
+        private Integer windowDay;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && Objects.equals(postId, key.postId) && Objects.equals(windowDay, key.windowDay);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postId, windowDay);
+        }
+    }
+}
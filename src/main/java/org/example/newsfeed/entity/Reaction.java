@@ -0,0 +1,43 @@
+package org.example.newsfeed.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좋아요 한 사람 목록. (user, 대상) 이 유일해서 같은 요청을 여러 번 보내도 한 번만 반영된다.
+// 유니크 인덱스가 user_id 로 시작하므로 "이 게시글들 중 내가 좋아요 한 것" 도 이 인덱스로 찾는다
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_reaction_user_target",
+    columnNames = {"user_id", "target_type", "target_id"}))
+public class Reaction extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 16)
+    private ReactionTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    public Reaction(Long userId, ReactionTargetType targetType, Long targetId) {
+        this.userId = userId;
+        this.targetType = targetType;
+        this.targetId = targetId;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.newsfeed.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Version;
+import java.io.Serializable;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좋아요 수를 대상마다 여러 행(shard)에 나눠 더한다. 인기 게시글 하나에 쓰기가 한 행으로 몰리지 않는다.
+// 합계는 shard 의 합 (한 shard 는 음수일 수도 있다)
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(ReactionCounterShard.Key.class)
+public class ReactionCounterShard {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 16)
+    private ReactionTargetType targetType;
+
+    @Id
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Id
+    private Integer shard;
+
+    @Column(nullable = false)
+    private long count;
+
+    @Version
+    private Long version;
+
+    public ReactionCounterShard(ReactionTargetType targetType, Long targetId, Integer shard, long count) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.shard = shard;
+        this.count = count;
+    }
+
+    public void add(long delta) {
+        this.count += delta;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private ReactionTargetType targetType;
+        private Long targetId;
+        private Integer shard;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && targetType == key.targetType && Objects.equals(targetId, key.targetId)
+                && Objects.equals(shard, key.shard);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(targetType, targetId, shard);
+        }
+    }
+}
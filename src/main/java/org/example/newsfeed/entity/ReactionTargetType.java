@@ -0,0 +1,6 @@
+package org.example.newsfeed.entity;
+
+public enum ReactionTargetType {
+    POST,
+    COMMENT
+}
@@ -0,0 +1,24 @@
+package org.example.newsfeed.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 샤드 id 순번 블록 (ShardIdAllocator). 홈 샤드의 행만 쓴다.
+// 읽고 쓰기는 JdbcTemplate 으로 하고 엔티티는 스키마(ddl-auto / validate)를 맞추는 데 쓴다
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "shard_id_block")
+public class ShardIdBlock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
@@ -0,0 +1,22 @@
+package org.example.newsfeed.event;
+
+import lombok.Getter;
+
+// 댓글 작성
+@Getter
+public class CommentCreatedEvent implements DomainEvent {
+
+    private final Long commentId;
+    private final Long postId;
+    private final Long outboxId;
+
+    public CommentCreatedEvent(Long commentId, Long postId) {
+        this(commentId, postId, null);
+    }
+
+    public CommentCreatedEvent(Long commentId, Long postId, Long outboxId) {
+        this.commentId = commentId;
+        this.postId = postId;
+        this.outboxId = outboxId;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.newsfeed.event;
+
+import lombok.Getter;
+
+// 댓글 수정
+@Getter
+public class CommentUpdatedEvent implements DomainEvent {
+
+    private final Long commentId;
+    private final Long postId;
+    private final Long outboxId;
+
+    public CommentUpdatedEvent(Long commentId, Long postId) {
+        this(commentId, postId, null);
+    }
+
+    public CommentUpdatedEvent(Long commentId, Long postId, Long outboxId) {
+        this.commentId = commentId;
+        this.postId = postId;
+        this.outboxId = outboxId;
+    }
+}
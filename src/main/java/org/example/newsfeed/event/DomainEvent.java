@@ -0,0 +1,10 @@
+package org.example.newsfeed.event;
+
+// 쓰기 이후의 부수 효과(캐시 무효화, 카운터 등)를 알리는 이벤트. 불변 객체로 만든다
+public interface DomainEvent {
+
+    // outbox 를 거쳐 발행된 이벤트면 그 행 id (같은 게시글 안에서는 커밋 순서대로 커진다), 아니면 null
+    default Long getOutboxId() {
+        return null;
+    }
+}
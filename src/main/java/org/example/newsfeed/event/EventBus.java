@@ -0,0 +1,288 @@
+package org.example.newsfeed.event;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 프로세스 내부 이벤트 버스.
+// 발행 스레드는 공용 큐에 한 번 넣기만 하고(트랜잭션 안이면 커밋 후에), 분배 스레드가 구독자별 큐로 나눠 준다.
+// 구독자마다 스레드 하나가 큐에 모인 이벤트를 maxBatchSize 까지 묶어서 처리한다.
+// 큐는 모두 크기가 정해져 있어 구독자가 밀리면 분배 스레드가, 그 다음 발행 스레드가 기다린다(backpressure).
+// 큐는 메모리에만 있으므로 잃으면 안 되는 이벤트(outbox)는 구독자가 모두 처리했다는 알림(onConsumed)을 받은 뒤에 원본을 지운다
+@Slf4j(topic = "EventBus")
+@Component
+public class EventBus {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final EventBusProperties properties;
+    private final BlockingQueue<Envelope> published;
+    private final List<Subscription<?>> subscriptions = new ArrayList<>();
+    private final LongAdder inlined = new LongAdder();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    @Autowired
+    public EventBus(ObjectProvider<EventConsumer<?>> consumers, EventBusProperties properties) {
+        this(consumers.orderedStream().toList(), properties);
+    }
+
+    EventBus(List<EventConsumer<?>> consumers, EventBusProperties properties) {
+        this.properties = properties;
+        this.published = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        consumers.forEach(consumer -> subscriptions.add(new Subscription<>(consumer, properties)));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.start();
+        }
+        dispatcher = new Thread(this::dispatchLoop, "event-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    // 남은 이벤트를 모두 처리하고 멈춘다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.stop();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 발행한다 (롤백되면 발행하지 않음)
+    public void publish(DomainEvent event) {
+        afterCommit(() -> enqueue(new Envelope(event, null)));
+    }
+
+    // events 를 받는 구독자가 모두 처리를 마치면 onConsumed 를 (마지막으로 처리한 구독자 스레드에서) 한 번 호출한다.
+    // 어느 구독자든 예외를 던지면 호출하지 않는다: 호출하는 쪽은 원본을 남겨 두었다가 다시 발행한다
+    public void publish(List<? extends DomainEvent> events, Runnable onConsumed) {
+        int deliveries = 0;
+        for (DomainEvent event : events) {
+            for (Subscription<?> subscription : subscriptions) {
+                if (subscription.accepts(event)) {
+                    deliveries++;
+                }
+            }
+        }
+        Delivery delivery = new Delivery(deliveries, onConsumed);
+        afterCommit(() -> {
+            if (events.isEmpty() || delivery.remaining.get() == 0) {
+                delivery.complete(); // 받는 구독자가 없음
+                return;
+            }
+            for (DomainEvent event : events) {
+                enqueue(new Envelope(event, delivery));
+            }
+        });
+    }
+
+    // afterCommit 이 아니라 afterCompletion 에서: 큐가 가득 차면 이 스레드에서 구독자와 onConsumed 를 바로 실행하는데,
+    // 커밋 단계 안이면 그 안의 DB 작업이 이미 커밋된 트랜잭션에 참여해 반영되지 않는다.
+    // afterCompletion 에서도 트랜잭션 자원은 아직 묶여 있으므로 DB 에 쓰는 구독자/onConsumed 는 REQUIRES_NEW 로 쓴다
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public int getPendingCount() {
+        int pending = published.size();
+        for (Subscription<?> subscription : subscriptions) {
+            pending += subscription.queue.size();
+        }
+        return pending;
+    }
+
+    // 큐가 가득 차서 발행 스레드에서 직접 처리한 이벤트 수
+    public long getInlinedCount() {
+        return inlined.sum();
+    }
+
+    private void enqueue(Envelope envelope) {
+        try {
+            if (published.offer(envelope, properties.getPublishTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 구독자가 계속 밀려 있다: 이벤트를 버리지 않고 이 스레드에서 처리한다
+        inlined.increment();
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.consumeNow(envelope);
+        }
+    }
+
+    private void dispatchLoop() {
+        List<Envelope> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !published.isEmpty()) {
+            try {
+                Envelope first = published.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                published.drainTo(batch, properties.getMaxBatchSize() - 1);
+                for (Envelope envelope : batch) {
+                    for (Subscription<?> subscription : subscriptions) {
+                        subscription.put(envelope);
+                    }
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static final class Subscription<E extends DomainEvent> {
+
+        private final EventConsumer<E> consumer;
+        private final int maxBatchSize;
+        private final BlockingQueue<Envelope> queue;
+        private volatile boolean running;
+        private Thread worker;
+
+        private Subscription(EventConsumer<E> consumer, EventBusProperties properties) {
+            this.consumer = consumer;
+            this.maxBatchSize = properties.getMaxBatchSize();
+            this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        }
+
+        private void start() {
+            running = true;
+            worker = new Thread(this::consumeLoop, "event-" + consumer.name());
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        private void stop() throws InterruptedException {
+            running = false;
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        private boolean accepts(DomainEvent event) {
+            return consumer.eventType().isInstance(event);
+        }
+
+        private void put(Envelope envelope) throws InterruptedException {
+            if (accepts(envelope.event)) {
+                queue.put(envelope); // 가득 차면 분배 스레드가 기다린다
+            }
+        }
+
+        private void consumeNow(Envelope envelope) {
+            if (accepts(envelope.event)) {
+                consume(List.of(envelope));
+            }
+        }
+
+        private void consumeLoop() {
+            List<Envelope> batch = new ArrayList<>(maxBatchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    Envelope first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    consume(batch);
+                    batch.clear();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void consume(List<Envelope> batch) {
+            List<E> events = new ArrayList<>(batch.size());
+            for (Envelope envelope : batch) {
+                events.add(consumer.eventType().cast(envelope.event));
+            }
+            boolean consumed = false;
+            try {
+                consumer.consume(List.copyOf(events));
+                consumed = true;
+            } catch (RuntimeException e) {
+                log.warn("event=consumer_failed consumer={} events={}", consumer.name(), batch.size(), e);
+            }
+            for (Envelope envelope : batch) {
+                if (envelope.delivery != null) {
+                    envelope.delivery.done(consumed);
+                }
+            }
+        }
+    }
+
+    private static final class Envelope {
+
+        private final DomainEvent event;
+        private final Delivery delivery; // 처리 완료를 알려야 하는 묶음 (없으면 null)
+
+        private Envelope(DomainEvent event, Delivery delivery) {
+            this.event = event;
+            this.delivery = delivery;
+        }
+    }
+
+    // (이벤트, 받는 구독자) 쌍마다 하나씩 줄여 0 이 되면 완료
+    private static final class Delivery {
+
+        private final AtomicInteger remaining;
+        private final Runnable onConsumed;
+        private volatile boolean failed;
+
+        private Delivery(int deliveries, Runnable onConsumed) {
+            this.remaining = new AtomicInteger(deliveries);
+            this.onConsumed = onConsumed;
+        }
+
+        private void done(boolean consumed) {
+            if (!consumed) {
+                failed = true;
+            }
+            if (remaining.decrementAndGet() == 0 && !failed) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            try {
+                onConsumed.run();
+            } catch (RuntimeException e) {
+                log.warn("event=delivery_callback_failed error={}", e.toString());
+            }
+        }
+    }
+}
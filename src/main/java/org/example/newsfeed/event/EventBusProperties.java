@@ -0,0 +1,20 @@
+package org.example.newsfeed.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "events")
+public class EventBusProperties {
+
+    // 구독자별 큐 크기
+    private int queueCapacity = 10_000;
+
+    // consume 한 번에 넘기는 최대 이벤트 수
+    private int maxBatchSize = 256;
+
+    // 큐가 가득 찼을 때 발행 스레드가 기다리는 시간. 넘으면 발행 스레드에서 직접 처리한다
+    private long publishTimeoutMillis = 50;
+}
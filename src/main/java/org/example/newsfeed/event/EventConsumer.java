@@ -0,0 +1,17 @@
+package org.example.newsfeed.event;
+
+import java.util.List;
+
+// 이벤트 버스 구독자. 빈으로 등록하면 EventBus 가 찾아서 전용 큐와 스레드를 붙인다.
+// consume 은 그 스레드에서 발행 순서대로, 모인 만큼 한 번에 호출된다 (큐가 넘칠 때는 발행 스레드에서 한 건씩 호출될 수 있다)
+public interface EventConsumer<E extends DomainEvent> {
+
+    // 이 타입(과 하위 타입)의 이벤트만 받는다. 여러 종류를 받으려면 DomainEvent.class
+    Class<E> eventType();
+
+    void consume(List<E> events);
+
+    default String name() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.newsfeed.event;
+
+import lombok.Getter;
+
+// 게시글 작성
+@Getter
+public class PostCreatedEvent implements DomainEvent {
+
+    private final Long postId;
+    private final Long outboxId;
+
+    public PostCreatedEvent(Long postId) {
+        this(postId, null);
+    }
+
+    public PostCreatedEvent(Long postId, Long outboxId) {
+        this.postId = postId;
+        this.outboxId = outboxId;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.newsfeed.event;
+
+import lombok.Getter;
+
+// 게시글 삭제 (soft delete)
+@Getter
+public class PostDeletedEvent implements DomainEvent {
+
+    private final Long postId;
+    private final Long outboxId;
+
+    public PostDeletedEvent(Long postId) {
+        this(postId, null);
+    }
+
+    public PostDeletedEvent(Long postId, Long outboxId) {
+        this.postId = postId;
+        this.outboxId = outboxId;
+    }
+}
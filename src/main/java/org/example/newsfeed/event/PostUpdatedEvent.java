@@ -0,0 +1,20 @@
+package org.example.newsfeed.event;
+
+import lombok.Getter;
+
+// 게시글 수정
+@Getter
+public class PostUpdatedEvent implements DomainEvent {
+
+    private final Long postId;
+    private final Long outboxId;
+
+    public PostUpdatedEvent(Long postId) {
+        this(postId, null);
+    }
+
+    public PostUpdatedEvent(Long postId, Long outboxId) {
+        this.postId = postId;
+        this.outboxId = outboxId;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.newsfeed.event;
+
+import lombok.Getter;
+
+// 회원 탈퇴
+@Getter
+public class UserWithdrawnEvent implements DomainEvent {
+
+    private final Long userId;
+
+    public UserWithdrawnEvent(Long userId) {
+        this.userId = userId;
+    }
+}
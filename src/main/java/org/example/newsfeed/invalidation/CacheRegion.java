@@ -0,0 +1,7 @@
+package org.example.newsfeed.invalidation;
+
+// 무효화 키의 종류. 이름이 cache_invalidation.region 에 저장되므로 바꾸면 예전 행을 읽지 못한다
+public enum CacheRegion {
+    POST,     // 게시글 버전(ETag) + 직렬화된 JSON + 피드/페이지 버전
+    COMMENTS  // 게시글의 댓글 목록 버전
+}
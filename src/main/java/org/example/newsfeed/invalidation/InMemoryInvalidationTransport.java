@@ -0,0 +1,33 @@
+package org.example.newsfeed.invalidation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 노드가 하나일 때: 보낸 무효화를 이 프로세스 안에서만 돌려준다.
+// 버스는 자기가 보낸 무효화를 발행할 때 이미 적용하므로, 실제로는 아무 캐시도 더 지우지 않는다
+public class InMemoryInvalidationTransport implements InvalidationTransport {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Queue<Invalidation> queue = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void send(String origin, Collection<InvalidationKey> keys) {
+        for (InvalidationKey key : keys) {
+            queue.add(new Invalidation(key, sequence.incrementAndGet(), origin));
+        }
+    }
+
+    @Override
+    public List<Invalidation> receive(int limit) {
+        List<Invalidation> received = new ArrayList<>();
+        Invalidation invalidation;
+        while (received.size() < limit && (invalidation = queue.poll()) != null) {
+            received.add(invalidation);
+        }
+        return received;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.newsfeed.invalidation;
+
+import lombok.Getter;
+
+// 전송 계층이 전달한 무효화 하나.
+// version 은 전송 계층이 매기는 전역 순번(JDBC 는 행 id)이라 노드 시계와 무관하게 키마다 커지기만 한다:
+// 받는 쪽은 키별로 적용한 가장 큰 버전을 기억해 같은 무효화를 두 번 적용하지 않는다
+@Getter
+public final class Invalidation {
+
+    private final InvalidationKey key;
+    private final long version;
+    private final String origin; // 보낸 노드
+
+    public Invalidation(InvalidationKey key, long version, String origin) {
+        this.key = key;
+        this.version = version;
+        this.origin = origin;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.newsfeed.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// 노드 사이 캐시 무효화 버스.
+// publish 하면 이 노드의 캐시는 바로 지우고, 키는 모아 두었다가 pollInterval 마다 한 번에 보낸다 (같은 키는 한 번만).
+// 같은 주기에 다른 노드가 보낸 무효화를 받아 키별로 한 번씩 적용한다.
+// 낡은 정도의 상한: 다른 노드의 쓰기는 약 2 x pollInterval (+ 쿼리 시간) 안에 반영되고,
+// 전송이 maxStaleness 넘게 실패하면 로컬 캐시를 모두 비우므로 어떤 경우에도 그보다 오래 낡은 값을 내보내지 않는다
+@Slf4j(topic = "Invalidation")
+@Component
+public class InvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final List<InvalidationListener> listeners;
+    private final InvalidationProperties properties;
+    private final String nodeId;
+
+    private final Set<InvalidationKey> pending = new LinkedHashSet<>(); // pending 으로 동기화
+    private final Map<InvalidationKey, Long> applied = new HashMap<>(); // 버스 스레드만 쓴다
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private volatile long syncedAt = System.nanoTime(); // 마지막으로 받기에 성공했거나 모두 비운 시각
+    private volatile boolean running;
+    private Thread worker;
+
+    @Autowired
+    public InvalidationBus(InvalidationTransport transport, ObjectProvider<InvalidationListener> listeners,
+        InvalidationProperties properties) {
+        this(transport, listeners.orderedStream().toList(), properties);
+    }
+
+    InvalidationBus(InvalidationTransport transport, List<InvalidationListener> listeners, InvalidationProperties properties) {
+        this.transport = transport;
+        this.listeners = listeners;
+        this.properties = properties;
+        this.nodeId = StringUtils.hasText(properties.getNodeId()) ? properties.getNodeId() : UUID.randomUUID().toString();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::syncLoop, "invalidation-bus");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 남은 무효화를 보내고 멈춘다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        wakeUps.release();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("event=invalidation_send_failed on=stop cause={}", e.toString());
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publish(Collection<InvalidationKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Set<InvalidationKey> distinct = new LinkedHashSet<>(keys);
+        listeners.forEach(listener -> listener.invalidate(distinct));
+        synchronized (pending) {
+            pending.addAll(distinct);
+        }
+    }
+
+    // 모인 무효화를 보내고 다른 노드의 무효화를 받아 적용한다. 적용한 키 수를 돌려준다
+    int sync() {
+        flush();
+        List<Invalidation> received = transport.receive(properties.getBatchSize());
+        syncedAt = System.nanoTime();
+
+        Set<InvalidationKey> keys = new LinkedHashSet<>();
+        for (Invalidation invalidation : received) {
+            if (nodeId.equals(invalidation.getOrigin())) {
+                continue; // publish 때 이미 적용함
+            }
+            Long last = applied.get(invalidation.getKey());
+            if (last != null && last >= invalidation.getVersion()) {
+                continue; // 이미 적용한 무효화를 다시 읽음
+            }
+            if (applied.size() >= properties.getMaxTrackedKeys()) {
+                applied.clear();
+            }
+            applied.put(invalidation.getKey(), invalidation.getVersion());
+            keys.add(invalidation.getKey());
+        }
+        if (!keys.isEmpty()) {
+            listeners.forEach(listener -> listener.invalidate(keys));
+        }
+        return keys.size();
+    }
+
+    // 무효화를 maxStaleness 넘게 받지 못했으면 로컬 캐시를 모두 비운다
+    boolean expireIfStale() {
+        long now = System.nanoTime();
+        if (now - syncedAt < TimeUnit.MILLISECONDS.toNanos(properties.getMaxStalenessMillis())) {
+            return false;
+        }
+        log.warn("event=invalidation_stale cleared=all max_staleness_ms={}", properties.getMaxStalenessMillis());
+        listeners.forEach(InvalidationListener::invalidateAll);
+        syncedAt = now;
+        return true;
+    }
+
+    private void flush() {
+        Set<InvalidationKey> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new LinkedHashSet<>(pending);
+            pending.clear();
+        }
+        try {
+            transport.send(nodeId, batch);
+        } catch (RuntimeException e) {
+            synchronized (pending) {
+                pending.addAll(batch); // 다음 주기에 다시
+            }
+            throw e;
+        }
+    }
+
+    private void syncLoop() {
+        while (running) {
+            try {
+                sync();
+            } catch (RuntimeException e) {
+                log.warn("event=invalidation_sync_failed cause={}", e.toString());
+            }
+            expireIfStale();
+            try {
+                wakeUps.tryAcquire(properties.getPollIntervalMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.newsfeed.invalidation;
+
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// invalidation.transport 로 전송 계층을 고른다
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationTransport invalidationTransport(InvalidationProperties properties, DataSource dataSource) {
+        return switch (properties.getTransport()) {
+            case MEMORY -> new InMemoryInvalidationTransport();
+            case JDBC -> new JdbcInvalidationTransport(new JdbcTemplate(dataSource), properties);
+        };
+    }
+}
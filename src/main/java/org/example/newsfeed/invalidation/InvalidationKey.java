@@ -0,0 +1,40 @@
+package org.example.newsfeed.invalidation;
+
+import java.util.Objects;
+import lombok.Getter;
+
+// 무효화할 캐시 항목: (종류, 게시글 id)
+@Getter
+public final class InvalidationKey {
+
+    private final CacheRegion region;
+    private final Long id;
+
+    public InvalidationKey(CacheRegion region, Long id) {
+        this.region = Objects.requireNonNull(region);
+        this.id = Objects.requireNonNull(id);
+    }
+
+    public static InvalidationKey post(Long postId) {
+        return new InvalidationKey(CacheRegion.POST, postId);
+    }
+
+    public static InvalidationKey comments(Long postId) {
+        return new InvalidationKey(CacheRegion.COMMENTS, postId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof InvalidationKey other && region == other.region && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * region.hashCode() + id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return region + ":" + id;
+    }
+}
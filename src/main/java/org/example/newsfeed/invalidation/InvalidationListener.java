@@ -0,0 +1,12 @@
+package org.example.newsfeed.invalidation;
+
+import java.util.Set;
+
+// 무효화를 적용할 로컬 캐시. 빈으로 등록하면 InvalidationBus 가 부른다
+public interface InvalidationListener {
+
+    void invalidate(Set<InvalidationKey> keys);
+
+    // 무효화를 제때 받지 못했을 때(전송 실패가 maxStaleness 넘게 이어짐) 전부 비운다
+    void invalidateAll();
+}
@@ -0,0 +1,40 @@
+package org.example.newsfeed.invalidation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "invalidation")
+public class InvalidationProperties {
+
+    public enum Transport {
+        MEMORY, // 노드 하나
+        JDBC    // 여러 노드: cache_invalidation 테이블을 공유하고 각자 폴링
+    }
+
+    private Transport transport = Transport.MEMORY;
+
+    // 비우면 시작할 때마다 새로 만든다. 자기가 보낸 무효화를 알아보는 데만 쓴다
+    private String nodeId = "";
+
+    // 모인 무효화를 보내고 다른 노드의 무효화를 받는 주기. 한 주기 안에 같은 키는 한 번만 보낸다.
+    // 다른 노드의 쓰기는 보통 이 값의 두 배 (+ 쿼리 시간) 안에 반영된다
+    private long pollIntervalMillis = 200;
+
+    // 한 번에 받는 무효화 수
+    private int batchSize = 1_000;
+
+    // 무효화를 이만큼 받지 못하면 (DB 장애 등) 로컬 캐시를 모두 비운다: 캐시가 이보다 오래 낡아 있지 않다
+    private long maxStalenessMillis = 5_000;
+
+    // JDBC: 커밋이 늦은 INSERT 로 생긴 id 빈칸을 이만큼 기다린다 (넘으면 롤백 등으로 영영 비었다고 보고 건너뛴다)
+    private long gapTimeoutMillis = 2_000;
+
+    // JDBC: 이보다 오래된 행은 지운다
+    private long retentionMillis = 600_000;
+
+    // 키별로 적용한 버전을 기억하는 개수 상한 (넘치면 비운다: 중복 적용이 한 번 더 일어날 뿐)
+    private int maxTrackedKeys = 100_000;
+}
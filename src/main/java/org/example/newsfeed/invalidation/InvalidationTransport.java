@@ -0,0 +1,15 @@
+package org.example.newsfeed.invalidation;
+
+import java.util.Collection;
+import java.util.List;
+
+// 노드 사이에 무효화를 나르는 전송 계층 (invalidation.transport 로 고른다)
+public interface InvalidationTransport {
+
+    // 모든 노드(자기 자신 포함)가 받을 수 있게 기록한다. 실패하면 예외: 버스가 다음 주기에 다시 보낸다
+    void send(String origin, Collection<InvalidationKey> keys);
+
+    // 이 노드가 아직 받지 못한 무효화를 버전 순서대로 최대 limit 개.
+    // 같은 무효화가 다시 나올 수 있다 (버스가 버전으로 걸러 낸다)
+    List<Invalidation> receive(int limit);
+}
@@ -0,0 +1,97 @@
+package org.example.newsfeed.invalidation;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 여러 노드: 무효화를 공유 테이블(cache_invalidation)에 INSERT 하고, 노드마다 마지막으로 읽은 id 다음부터 폴링한다.
+// id 는 IDENTITY 라 INSERT 순서대로 매겨지지만 커밋 순서는 다를 수 있다 (id 11 이 10 보다 먼저 보일 수 있음).
+// 그래서 읽은 위치(cursor)는 빈칸 없이 이어진 곳까지만 옮기고, 빈칸 뒤의 행은 다음에 다시 읽는다
+// (다시 읽힌 무효화는 버스가 버전으로 걸러 낸다). 빈칸이 gapTimeout 넘게 안 채워지면 롤백된 INSERT 로 보고 건너뛴다
+@Slf4j(topic = "Invalidation")
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final String INSERT =
+        "INSERT INTO cache_invalidation (region, key_id, origin, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+    private static final String SELECT_AFTER =
+        "SELECT id, region, key_id, origin FROM cache_invalidation WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_MAX_ID = "SELECT COALESCE(MAX(id), 0) FROM cache_invalidation";
+    private static final String DELETE_BEFORE = "DELETE FROM cache_invalidation WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InvalidationProperties properties;
+
+    // 폴링은 버스 스레드 하나에서만 한다
+    private long cursor = -1;
+    private long gapSince; // cursor 바로 다음이 빈칸으로 보이기 시작한 시각 (nanoTime, 0 이면 빈칸 없음)
+    private long purgedAt;
+
+    public JdbcInvalidationTransport(JdbcTemplate jdbcTemplate, InvalidationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void send(String origin, Collection<InvalidationKey> keys) {
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        for (InvalidationKey key : keys) {
+            rows.add(new Object[]{key.getRegion().name(), key.getId(), origin});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    @Override
+    public List<Invalidation> receive(int limit) {
+        if (cursor < 0) {
+            // 처음: 지난 무효화는 필요 없다 (이 노드의 캐시는 비어 있다)
+            cursor = jdbcTemplate.queryForObject(SELECT_MAX_ID, Long.class);
+        }
+        List<Invalidation> received = jdbcTemplate.query(SELECT_AFTER,
+            (rs, rowNum) -> new Invalidation(
+                new InvalidationKey(CacheRegion.valueOf(rs.getString("region")), rs.getLong("key_id")),
+                rs.getLong("id"),
+                rs.getString("origin")),
+            cursor, limit);
+        advance(received);
+        purgeIfDue();
+        return received;
+    }
+
+    private void advance(List<Invalidation> received) {
+        long next = cursor;
+        for (Invalidation invalidation : received) {
+            if (invalidation.getVersion() != next + 1) {
+                break;
+            }
+            next = invalidation.getVersion();
+        }
+        boolean gap = !received.isEmpty() && next < received.get(received.size() - 1).getVersion();
+        if (!gap) {
+            gapSince = 0;
+        } else if (gapSince == 0) {
+            gapSince = System.nanoTime();
+        } else if (System.nanoTime() - gapSince >= TimeUnit.MILLISECONDS.toNanos(properties.getGapTimeoutMillis())) {
+            log.info("event=invalidation_gap_skipped from={} to={}", next + 1, received.get(received.size() - 1).getVersion());
+            next = received.get(received.size() - 1).getVersion();
+            gapSince = 0;
+        }
+        cursor = next;
+    }
+
+    // 행 보관 기간이 지난 행을 지운다. 어느 노드가 지워도 같으므로 노드마다 가끔 한 번씩
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - purgedAt < properties.getRetentionMillis() / 10) {
+            return;
+        }
+        purgedAt = now;
+        int deleted = jdbcTemplate.update(DELETE_BEFORE, new Timestamp(now - properties.getRetentionMillis()));
+        if (deleted > 0) {
+            log.debug("event=invalidation_purged rows={}", deleted);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package org.example.newsfeed.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.dataset.DatasetProperties;
+import org.example.newsfeed.dataset.SyntheticDataset;
+
+// 내장 부하 생성기. 합성 데이터의 사용자(loadtest000001 ...)로 로그인한 세션을 여러 개 두고 시나리오를 가중치대로 섞어 호출한다
+@Slf4j(topic = "LoadTest")
+public class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int MAX_PICK_ATTEMPTS = 10;
+
+    private final LoadTestProperties properties;
+    private final DatasetProperties data;
+    private final SyntheticDataset dataset;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final LoadScenario[] wheel;
+    private final List<Session> sessions = new ArrayList<>();
+
+    public LoadGenerator(LoadTestProperties properties, DatasetProperties data, String baseUrl) {
+        this.properties = properties;
+        this.data = data;
+        this.dataset = new SyntheticDataset(data, System.currentTimeMillis());
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.wheel = buildWheel(properties.getMix());
+    }
+
+    public LoadReport run() throws InterruptedException {
+        LoadTestProperties.Run run = properties.getRun();
+        openSessions(run.getConcurrency());
+
+        LoadReport report = new LoadReport();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(run.getWarmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(run.getDurationSeconds());
+
+        log.info("부하 테스트 시작: model={}, concurrency={}, rate={}/s, warmup={}s, duration={}s",
+            run.getModel(), run.getConcurrency(), run.getRatePerSecond(), run.getWarmupSeconds(), run.getDurationSeconds());
+        List<LoadScenario> disabled = disabledScenarios();
+        if (!disabled.isEmpty()) {
+            log.warn("가중치가 0 이라 실행하지 않는 시나리오: {} (loadtest.mix.*)", disabled);
+        }
+        if (run.getModel() == LoadTestProperties.Model.OPEN) {
+            runOpen(report, start, measureFrom, end);
+        } else {
+            runClosed(report, measureFrom, end);
+        }
+        report.setMeasuredNanos(end - measureFrom);
+        return report;
+    }
+
+    // 가상 사용자마다 스레드 하나: 응답을 받은 뒤에 다음 요청
+    private void runClosed(LoadReport report, long measureFrom, long end) throws InterruptedException {
+        long thinkNanos = TimeUnit.MILLISECONDS.toNanos(properties.getRun().getThinkTimeMillis());
+        ExecutorService workers = Executors.newFixedThreadPool(sessions.size());
+        for (Session session : sessions) {
+            workers.execute(() -> {
+                while (System.nanoTime() < end) {
+                    LoadScenario scenario = pick();
+                    long begin = System.nanoTime();
+                    boolean success = execute(scenario, session);
+                    if (begin >= measureFrom) {
+                        report.record(scenario, System.nanoTime() - begin, success);
+                    }
+                    if (thinkNanos > 0) {
+                        LockSupport.parkNanos(thinkNanos);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(end - System.nanoTime() + TimeUnit.MINUTES.toNanos(1), TimeUnit.NANOSECONDS);
+    }
+
+    // 일정한 간격으로 요청을 발생시키고, 지연은 "예정된 시각"부터 잰다 (서버가 느려져도 대기 시간이 빠지지 않도록)
+    private void runOpen(LoadReport report, long start, long measureFrom, long end) throws InterruptedException {
+        long intervalNanos = (long) (1_000_000_000L / properties.getRun().getRatePerSecond());
+        ExecutorService workers = Executors.newFixedThreadPool(properties.getRun().getConcurrency());
+        for (long k = 0; ; k++) {
+            long intended = start + k * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            workers.execute(() -> {
+                LoadScenario scenario = pick();
+                Session session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+                boolean success = execute(scenario, session);
+                if (intended >= measureFrom) {
+                    report.record(scenario, System.nanoTime() - intended, success);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.MINUTES);
+    }
+
+    private void openSessions(int count) {
+        int users = data.getUsers();
+        Random random = new Random(data.getSeed());
+        for (int i = 0; i < count; i++) {
+            Session session = new Session(SyntheticDataset.userIdOf(1 + random.nextInt(users)));
+            if (!login(session)) {
+                log.warn("부하 테스트 세션 로그인 실패: {}", session.userId);
+            }
+            sessions.add(session);
+        }
+    }
+
+    private boolean execute(LoadScenario scenario, Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            return switch (scenario) {
+                case LOGIN -> login(session);
+                case FEED -> send(get("/api/newsfeed", session));
+                case PAGE -> send(get("/api/posts/page?page=" + randomPage(random) + "&search=false", session));
+                case CREATE_POST -> send(post("/api/posts", session,
+                    "{\"content\":\"부하 테스트 게시글 " + random.nextInt() + "\"}"));
+                case CREATE_COMMENT -> send(post("/api/posts/" + commentTarget(random) + "/comments",
+                    session, "{\"content\":\"부하 테스트 댓글 " + random.nextInt() + "\"}"));
+            };
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean login(Session session) {
+        String body = "{\"userId\":\"" + session.userId + "\",\"password\":\"" + data.getPassword() + "\"}";
+        try {
+            HttpResponse<Void> response = client.send(post("/api/login", null, body), HttpResponse.BodyHandlers.discarding());
+            for (String setCookie : response.headers().allValues("Set-Cookie")) {
+                if (setCookie.startsWith("Authorization=")) {
+                    int semicolon = setCookie.indexOf(';');
+                    session.cookie = semicolon < 0 ? setCookie : setCookie.substring(0, semicolon);
+                }
+            }
+            return isSuccess(response.statusCode());
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean send(HttpRequest request) throws IOException, InterruptedException {
+        return isSuccess(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    private HttpRequest get(String path, Session session) {
+        return builder(path, session).GET().build();
+    }
+
+    private HttpRequest post(String path, Session session, String json) {
+        return builder(path, session)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    private HttpRequest.Builder builder(String path, Session session) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (session != null && session.cookie != null) {
+            builder.header("Cookie", session.cookie);
+        }
+        return builder;
+    }
+
+    // 앞쪽 페이지일수록 자주 조회
+    private int randomPage(ThreadLocalRandom random) {
+        int maxPage = Math.max(1, Math.min(100, data.getPosts() / 10));
+        double r = random.nextDouble();
+        return 1 + (int) (r * r * r * maxPage);
+    }
+
+    // 합성 데이터와 같은 분포(댓글이 많은 글에 더 달린다)로 고르되, 삭제된 글은 피한다
+    private long commentTarget(ThreadLocalRandom random) {
+        long postId = 1;
+        for (int attempt = 0; attempt < MAX_PICK_ATTEMPTS; attempt++) {
+            postId = dataset.commentPost(1 + random.nextInt(Math.max(1, data.getComments())));
+            if (!dataset.postDeleted(postId)) {
+                break;
+            }
+        }
+        return postId;
+    }
+
+    private LoadScenario pick() {
+        return wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private List<LoadScenario> disabledScenarios() {
+        List<LoadScenario> disabled = new ArrayList<>(List.of(LoadScenario.values()));
+        disabled.removeAll(List.of(wheel));
+        return disabled;
+    }
+
+    private static LoadScenario[] buildWheel(LoadTestProperties.Mix mix) {
+        List<LoadScenario> wheel = new ArrayList<>();
+        add(wheel, LoadScenario.LOGIN, mix.getLogin());
+        add(wheel, LoadScenario.FEED, mix.getFeed());
+        add(wheel, LoadScenario.PAGE, mix.getPage());
+        add(wheel, LoadScenario.CREATE_POST, mix.getPost());
+        add(wheel, LoadScenario.CREATE_COMMENT, mix.getComment());
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 가중치가 모두 0입니다.");
+        }
+        return wheel.toArray(new LoadScenario[0]);
+    }
+
+    private static void add(List<LoadScenario> wheel, LoadScenario scenario, int weight) {
+        for (int i = 0; i < weight; i++) {
+            wheel.add(scenario);
+        }
+    }
+
+    private static class Session {
+
+        private final String userId;
+        private volatile String cookie;
+
+        Session(String userId) {
+            this.userId = userId;
+        }
+    }
+}
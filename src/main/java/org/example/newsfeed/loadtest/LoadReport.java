@@ -0,0 +1,66 @@
+package org.example.newsfeed.loadtest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.example.newsfeed.metrics.LatencyHistogram;
+
+// 시나리오별 지연시간 분포, 처리량, 오류 수
+public class LoadReport {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<LoadScenario, LatencyHistogram> latencies = new EnumMap<>(LoadScenario.class);
+    private final Map<LoadScenario, LongAdder> errors = new EnumMap<>(LoadScenario.class);
+    private volatile long measuredNanos;
+
+    public LoadReport() {
+        for (LoadScenario scenario : LoadScenario.values()) {
+            latencies.put(scenario, new LatencyHistogram());
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    void record(LoadScenario scenario, long nanos, boolean success) {
+        latencies.get(scenario).record(nanos / 1_000);
+        if (!success) {
+            errors.get(scenario).increment();
+        }
+    }
+
+    void setMeasuredNanos(long measuredNanos) {
+        this.measuredNanos = measuredNanos;
+    }
+
+    // JSON 저장용 (시나리오 -> 지표)
+    public Map<String, Map<String, Object>> toMap() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        double seconds = Math.max(1e-9, measuredNanos / 1e9);
+        for (LoadScenario scenario : LoadScenario.values()) {
+            LatencyHistogram histogram = latencies.get(scenario);
+            long[] p = LatencyHistogram.percentiles(QUANTILES, histogram);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", histogram.getCount());
+            row.put("errors", errors.get(scenario).sum());
+            row.put("throughputPerSec", Math.round(histogram.getCount() / seconds * 10) / 10.0);
+            row.put("p50Ms", p[0] / 1000.0);
+            row.put("p90Ms", p[1] / 1000.0);
+            row.put("p99Ms", p[2] / 1000.0);
+            row.put("p999Ms", p[3] / 1000.0);
+            row.put("maxMs", histogram.getMaxMicros() / 1000.0);
+            result.put(scenario.name(), row);
+        }
+        return result;
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-15s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+            "scenario", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        toMap().forEach((scenario, row) -> sb.append(String.format("%-15s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            scenario, row.get("count"), row.get("errors"), row.get("throughputPerSec"),
+            row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"))));
+        return sb.toString();
+    }
+}
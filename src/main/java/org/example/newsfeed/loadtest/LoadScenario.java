@@ -0,0 +1,9 @@
+package org.example.newsfeed.loadtest;
+
+public enum LoadScenario {
+    LOGIN,
+    FEED,
+    PAGE,
+    CREATE_POST,
+    CREATE_COMMENT
+}
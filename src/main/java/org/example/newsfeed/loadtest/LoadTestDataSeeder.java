@@ -0,0 +1,24 @@
+package org.example.newsfeed.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.dataset.DatasetGenerator;
+import org.example.newsfeed.dataset.DatasetProperties;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// loadtest 프로필: 내장 DB 에 합성 데이터를 넣는다 (규모는 dataset.*)
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private final DatasetGenerator datasetGenerator;
+    private final DatasetProperties datasetProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        datasetGenerator.generate(datasetProperties);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.newsfeed.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    private Run run = new Run();
+    private Mix mix = new Mix();
+
+    @Getter
+    @Setter
+    public static class Run {
+
+        private boolean enabled = true;
+        private Model model = Model.CLOSED;
+        private int concurrency = 32;           // CLOSED: 가상 사용자 수, OPEN: 동시 처리 스레드 상한
+        private double ratePerSecond = 200;     // OPEN 모델의 도착률
+        private int warmupSeconds = 10;         // 이 시간 동안의 결과는 집계하지 않는다
+        private int durationSeconds = 60;
+        private long thinkTimeMillis = 0;       // CLOSED 모델에서 요청 사이 대기
+        private String reportFile;              // 지정하면 결과를 JSON 으로 저장
+        private boolean exitOnFinish = false;
+    }
+
+    // 시나리오 가중치
+    @Getter
+    @Setter
+    public static class Mix {
+
+        private int login = 5;
+        private int feed = 1;        // /api/newsfeed 는 전체 게시글을 반환하므로 낮게 둔다
+        private int page = 60;
+        private int post = 10;
+        private int comment = 24;
+    }
+
+    public enum Model {
+        CLOSED, // 고정된 가상 사용자가 응답을 받은 뒤 다음 요청 (처리량 = 동시성 / 지연)
+        OPEN    // 응답과 관계없이 일정한 도착률로 요청 (지연은 예정 시각부터 측정)
+    }
+}
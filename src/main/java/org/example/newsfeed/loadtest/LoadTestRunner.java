@@ -0,0 +1,65 @@
+package org.example.newsfeed.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.dataset.DatasetProperties;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// loadtest 프로필: 서버가 뜨면 자기 자신에게 부하를 걸고 결과를 출력한다
+@Slf4j(topic = "LoadTest")
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestRunner {
+
+    private final LoadTestProperties properties;
+    private final DatasetProperties datasetProperties;
+    private final ObjectMapper objectMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        if (!properties.getRun().isEnabled()) {
+            return;
+        }
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        String port = context.getEnvironment().getProperty("local.server.port", "8080");
+        Thread thread = new Thread(() -> run("http://localhost:" + port, context), "load-generator");
+        thread.start();
+    }
+
+    private void run(String baseUrl, ConfigurableApplicationContext context) {
+        try {
+            LoadReport report = new LoadGenerator(properties, datasetProperties, baseUrl).run();
+            log.info("부하 테스트 결과: {}", report.format());
+            writeReport(report);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (properties.getRun().isExitOnFinish()) {
+                System.exit(SpringApplication.exit(context));
+            }
+        }
+    }
+
+    private void writeReport(LoadReport report) {
+        String reportFile = properties.getRun().getReportFile();
+        if (!StringUtils.hasText(reportFile)) {
+            return;
+        }
+        try {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(reportFile), report.toMap());
+            log.info("부하 테스트 결과 저장: {}", reportFile);
+        } catch (IOException e) {
+            log.error("부하 테스트 결과 저장 실패: {}", e.getMessage());
+        }
+    }
+}
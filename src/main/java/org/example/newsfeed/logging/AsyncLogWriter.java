@@ -0,0 +1,96 @@
+package org.example.newsfeed.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 요청 스레드는 링 버퍼에 넣기만 하고, 실제 로그 출력은 백그라운드 스레드 하나가 담당한다
+@Slf4j(topic = "RequestLog")
+@Component
+public class AsyncLogWriter {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final MpscRingBuffer<LogEvent> buffer;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncLogWriter(RequestLogProperties properties) {
+        this.buffer = new MpscRingBuffer<>(properties.getBufferSize());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "request-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // 버퍼가 가득 차면 기다리지 않고 버린다
+    public void submit(LogEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void drainLoop() {
+        long lastDropReport = System.nanoTime();
+        long reportedDrops = 0;
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            long now = System.nanoTime();
+            if (now - lastDropReport >= DROP_REPORT_INTERVAL_NANOS) {
+                long total = dropped.sum();
+                if (total > reportedDrops) {
+                    log.warn("event=log_dropped count={}", total - reportedDrops);
+                    reportedDrops = total;
+                }
+                lastDropReport = now;
+            }
+        }
+        drain(); // 종료 시 남은 이벤트 출력
+    }
+
+    private int drain() {
+        int count = 0;
+        LogEvent event;
+        while ((event = buffer.poll()) != null) {
+            write(event);
+            count++;
+        }
+        return count;
+    }
+
+    private void write(LogEvent event) {
+        try {
+            if (event.isError()) {
+                log.error(event.format());
+            } else {
+                log.info(event.format());
+            }
+        } catch (RuntimeException e) {
+            // 로그 출력 실패로 작성 스레드가 죽지 않도록
+            dropped.increment();
+        }
+    }
+}
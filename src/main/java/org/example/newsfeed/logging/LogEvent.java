@@ -0,0 +1,87 @@
+package org.example.newsfeed.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// key=value 형태의 구조화된 로그 이벤트. 요청 스레드에서는 필드만 채우고 문자열 조립은 백그라운드에서 한다
+public class LogEvent {
+
+    private final long timestamp = System.currentTimeMillis();
+    private final List<String> keys = new ArrayList<>(8);
+    private final List<Object> values = new ArrayList<>(8);
+    private final boolean error;
+
+    private LogEvent(String event, boolean error) {
+        this.error = error;
+        put("event", event);
+    }
+
+    public static LogEvent info(String event) {
+        return new LogEvent(event, false);
+    }
+
+    public static LogEvent error(String event) {
+        return new LogEvent(event, true);
+    }
+
+    public LogEvent put(String key, Object value) {
+        keys.add(key);
+        values.add(value);
+        return this;
+    }
+
+    public boolean isError() {
+        return error;
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("ts=").append(timestamp);
+        for (int i = 0; i < keys.size(); i++) {
+            sb.append(' ').append(keys.get(i)).append('=');
+            appendValue(sb, values.get(i));
+        }
+        return sb.toString();
+    }
+
+    // 공백/따옴표/= 나 제어 문자가 있으면 따옴표로 감싼다. 값 속 줄바꿈이 가짜 로그 줄을 만들지 못하게 제어 문자는 이스케이프한다
+    private static void appendValue(StringBuilder sb, Object value) {
+        String text = String.valueOf(value);
+        if (!needsQuote(text)) {
+            sb.append(text);
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '"' -> sb.append("\\\"");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (Character.isISOControl(c)) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static boolean needsQuote(String text) {
+        if (text.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ' || c == '"' || c == '=' || Character.isISOControl(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
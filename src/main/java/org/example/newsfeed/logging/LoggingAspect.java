@@ -1,48 +1,106 @@
 package org.example.newsfeed.logging;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
-import org.aspectj.lang.annotation.AfterThrowing;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+// 컨트롤러 호출 로그. 요청 스레드에서는 이벤트만 만들어 AsyncLogWriter 의 링 버퍼에 넣는다
 @Aspect
 @Component
-@Slf4j
 public class LoggingAspect {
 
+    private final AsyncLogWriter writer;
+    private final RequestLogProperties properties;
+    private final ResultSummarizer summarizer;
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public LoggingAspect(AsyncLogWriter writer, RequestLogProperties properties) {
+        this.writer = writer;
+        this.properties = properties;
+        this.summarizer = new ResultSummarizer(properties.getMaxSummaryLength());
+    }
+
     @Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
     public void controller() {}
 
-    @Before("controller()")
-    public void logBefore(JoinPoint joinPoint) {
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-        log.info("Request URL: {}, HTTP Method: {}, Controller: {}.{}",
-            request.getRequestURL(),
-            request.getMethod(),
-            joinPoint.getSignature().getDeclaringTypeName(),
-            joinPoint.getSignature().getName());
+    @Around("controller()")
+    public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        Endpoint endpoint = endpointOf(joinPoint);
+        boolean sampled = endpoint.sampleRate >= 1.0
+            || (endpoint.sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < endpoint.sampleRate);
+        long start = System.nanoTime();
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable exception) {
+            // 예외는 샘플링과 관계없이 항상 기록
+            writer.submit(withRequest(LogEvent.error("exception"), endpoint)
+                .put("durationUs", (System.nanoTime() - start) / 1_000)
+                .put("exception", exception.getClass().getSimpleName())
+                .put("message", exception.getMessage()));
+            throw exception;
+        }
+
+        if (sampled) {
+            writer.submit(withRequest(LogEvent.info("response"), endpoint)
+                .put("status", statusOf(result))
+                .put("durationUs", (System.nanoTime() - start) / 1_000)
+                .put("result", summarizer.summarize(result)));
+        }
+        return result;
     }
 
-    @AfterReturning(pointcut = "controller()", returning = "result")
-    public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        log.info("Response from {}.{}: {}",
-            joinPoint.getSignature().getDeclaringTypeName(),
-            joinPoint.getSignature().getName(),
-            result);
+    private LogEvent withRequest(LogEvent event, Endpoint endpoint) {
+        event.put("handler", endpoint.name);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            event.put("method", request.getMethod()).put("uri", request.getRequestURI());
+        }
+        return event;
     }
 
-    @AfterThrowing(pointcut = "controller()", throwing = "exception")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable exception) {
-        log.error("Exception in {}.{}: {}",
-            joinPoint.getSignature().getDeclaringTypeName(),
-            joinPoint.getSignature().getName(),
-            exception.getMessage());
+    private Endpoint endpointOf(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return endpoints.computeIfAbsent(method, m -> {
+            String name = m.getDeclaringClass().getSimpleName() + "." + m.getName();
+            double rate = properties.getSampling().getOrDefault(name, properties.getDefaultSampleRate());
+            return new Endpoint(name, rate);
+        });
+    }
+
+    private static int statusOf(Object result) {
+        if (result instanceof ResponseEntity<?> entity) {
+            return entity.getStatusCode().value();
+        }
+        return 200;
+    }
+
+    private static class Endpoint {
+
+        private final String name;
+        private final double sampleRate;
+
+        Endpoint(String name, double sampleRate) {
+            this.name = name;
+            this.sampleRate = sampleRate;
+        }
     }
 }
@@ -0,0 +1,60 @@
+package org.example.newsfeed.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 여러 생산자 / 단일 소비자용 고정 크기 링 버퍼 (락 없음).
+// 슬롯마다 시퀀스 번호를 두어 생산자는 CAS 로 자리를 예약하고, 버퍼가 가득 차면 기다리지 않고 false 를 반환한다.
+public class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // 소비자 스레드만 접근
+
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        while (true) {
+            long t = tail.get();
+            int index = (int) (t & mask);
+            long diff = sequences.get(index) - t;
+            if (diff == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, t + 1); // 소비자에게 공개
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false; // 가득 참
+            }
+        }
+    }
+
+    // 소비자 스레드에서만 호출
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + mask + 1); // 다음 바퀴의 생산자에게 반환
+        head++;
+        return element;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.newsfeed.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "request-log")
+public class RequestLogProperties {
+
+    private boolean enabled = true;
+
+    // 링 버퍼 크기, 가득 차면 이벤트를 버리고 개수만 센다
+    private int bufferSize = 8192;
+
+    // 응답 요약 최대 길이
+    private int maxSummaryLength = 200;
+
+    // 기본 샘플링 비율 (0.0 ~ 1.0), 예외 로그는 샘플링하지 않는다
+    private double defaultSampleRate = 1.0;
+
+    // 엔드포인트별 샘플링 비율, 키는 "컨트롤러.메서드" (예: NewsFeedController.getAllNewsFeeds)
+    private Map<String, Double> sampling = new HashMap<>();
+}
@@ -0,0 +1,63 @@
+package org.example.newsfeed.logging;
+
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+// 응답 객체 전체를 toString 하지 않고 크기와 타입만 요약한다.
+// 엔티티의 toString (User -> newsfeeds) 은 지연 로딩을 일으키므로 호출하지 않는다
+public class ResultSummarizer {
+
+    private final int maxLength;
+
+    public ResultSummarizer(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    public String summarize(Object result) {
+        StringBuilder sb = new StringBuilder(64);
+        append(sb, result);
+        if (sb.length() > maxLength) {
+            sb.setLength(maxLength);
+            sb.append("...");
+        }
+        return sb.toString();
+    }
+
+    private void append(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof ResponseEntity<?> entity) {
+            sb.append("ResponseEntity(status=").append(entity.getStatusCode().value()).append(", body=");
+            append(sb, entity.getBody());
+            sb.append(')');
+        } else if (value instanceof Slice<?> slice) {
+            sb.append(value.getClass().getSimpleName())
+                .append("(page=").append(slice.getNumber())
+                .append(", size=").append(slice.getNumberOfElements());
+            appendElementType(sb, slice.getContent());
+            sb.append(')');
+        } else if (value instanceof Collection<?> collection) {
+            sb.append("List(size=").append(collection.size());
+            appendElementType(sb, collection);
+            sb.append(')');
+        } else if (value instanceof Map<?, ?> map) {
+            sb.append("Map(keys=").append(map.keySet()).append(')');
+        } else if (value instanceof CharSequence || value instanceof Number
+            || value instanceof Boolean || value instanceof Enum<?>) {
+            sb.append(value);
+        } else {
+            sb.append(value.getClass().getSimpleName());
+        }
+    }
+
+    private void appendElementType(StringBuilder sb, Collection<?> collection) {
+        if (!collection.isEmpty()) {
+            Object first = collection.iterator().next();
+            if (first != null) {
+                sb.append(", type=").append(first.getClass().getSimpleName());
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.newsfeed.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// HdrHistogram 과 같은 log-linear 버킷 히스토그램 (마이크로초 단위).
+// 2의 거듭제곱 구간마다 32개의 하위 버킷을 두어 상대 오차가 약 3% 이내이고, 기록은 원자적 증가 한 번으로 끝난다
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 38; // 약 76시간
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BITS + 2) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long micros) {
+        long value = Math.max(0L, Math.min(micros, MAX_VALUE));
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalMicros.add(value);
+        long max = maxMicros.get();
+        while (value > max && !maxMicros.compareAndSet(max, value)) {
+            max = maxMicros.get();
+        }
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    // 여러 히스토그램을 합쳐 분위수 계산 (기록 중이어도 호출 가능, 약간의 오차 허용)
+    public static long[] percentiles(double[] quantiles, LatencyHistogram... histograms) {
+        long[] merged = new long[BUCKET_COUNT];
+        long total = 0;
+        for (LatencyHistogram histogram : histograms) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long c = histogram.counts.get(i);
+                merged[i] += c;
+                total += c;
+            }
+        }
+
+        long[] result = new long[quantiles.length];
+        if (total == 0) {
+            return result;
+        }
+        for (int q = 0; q < quantiles.length; q++) {
+            long rank = Math.max(1L, (long) Math.ceil(quantiles[q] * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += merged[i];
+                if (seen >= rank) {
+                    result[q] = midpointOf(i);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int mantissa = (int) (value >>> shift); // SUB_COUNT ~ 2*SUB_COUNT-1
+        return (shift + 1) * SUB_COUNT + (mantissa - SUB_COUNT);
+    }
+
+    static long lowerBoundOf(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int block = index / SUB_COUNT;
+        long mantissa = (index % SUB_COUNT) + SUB_COUNT;
+        return mantissa << (block - 1);
+    }
+
+    static long midpointOf(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int block = index / SUB_COUNT;
+        return lowerBoundOf(index) + ((1L << (block - 1)) >> 1);
+    }
+}
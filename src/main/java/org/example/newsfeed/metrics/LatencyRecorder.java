@@ -0,0 +1,48 @@
+package org.example.newsfeed.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 누적 히스토그램(건수, 합계, 최대값)과 최근 구간 히스토그램(분위수)을 함께 유지한다.
+// 누적 분위수는 오래된 값에 묻혀 p99 회귀가 보이지 않으므로, 분위수는 직전 구간 + 현재 구간으로만 계산한다
+public class LatencyRecorder {
+
+    private final long windowNanos;
+    private final LatencyHistogram total = new LatencyHistogram();
+    private final AtomicLong windowStart;
+    private volatile LatencyHistogram current = new LatencyHistogram();
+    private volatile LatencyHistogram previous = new LatencyHistogram();
+
+    public LatencyRecorder(long windowNanos) {
+        this.windowNanos = windowNanos;
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    public void record(long nanos) {
+        rotateIfNeeded(System.nanoTime());
+        long micros = nanos / 1_000;
+        current.record(micros);
+        total.record(micros);
+    }
+
+    public long[] percentiles(double[] quantiles) {
+        rotateIfNeeded(System.nanoTime());
+        return LatencyHistogram.percentiles(quantiles, previous, current);
+    }
+
+    public LatencyHistogram getTotal() {
+        return total;
+    }
+
+    // 구간이 끝났으면 CAS 에 성공한 한 스레드만 교체한다
+    private void rotateIfNeeded(long now) {
+        long start = windowStart.get();
+        if (now - start < windowNanos) {
+            return;
+        }
+        if (windowStart.compareAndSet(start, now)) {
+            // 두 구간 이상 비어 있었으면 직전 구간도 비운다
+            previous = now - start < 2 * windowNanos ? current : new LatencyHistogram();
+            current = new LatencyHistogram();
+        }
+    }
+}
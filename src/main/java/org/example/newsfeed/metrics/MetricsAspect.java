@@ -0,0 +1,71 @@
+package org.example.newsfeed.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+// 서비스, 레포지토리 메서드의 지연시간을 성공(ok)/예외(error) 별로 기록한다
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private final MetricsRegistry registry;
+    // 레포지토리는 save, findById 처럼 상위 인터페이스 메서드가 많아 프록시 클래스 + 메서드 단위로 이름을 캐시한다
+    private final Map<Class<?>, Map<Method, String>> names = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Pointcut("within(org.example.newsfeed.service..*)")
+    public void service() {}
+
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public void repository() {}
+
+    @Around("service()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, MetricsRegistry.LAYER_SERVICE);
+    }
+
+    @Around("repository()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, MetricsRegistry.LAYER_REPOSITORY);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long start = System.nanoTime();
+        String status = "error";
+        try {
+            Object result = joinPoint.proceed();
+            status = "ok";
+            return result;
+        } finally {
+            registry.record(layer, nameOf(joinPoint), status, System.nanoTime() - start);
+        }
+    }
+
+    private String nameOf(ProceedingJoinPoint joinPoint) {
+        Object proxy = joinPoint.getThis();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return names.computeIfAbsent(proxy.getClass(), c -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, m -> ownerName(proxy) + "." + m.getName());
+    }
+
+    private static String ownerName(Object proxy) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+        for (Class<?> type : interfaces) {
+            if (type.getName().startsWith("org.example.newsfeed.")) {
+                return type.getSimpleName();
+            }
+        }
+        return AopProxyUtils.ultimateTargetClass(proxy).getSimpleName();
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.newsfeed.metrics;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MetricsConfig {
+
+    // Spring Security 필터 체인(-100) 보다 먼저 실행되어 거절된 요청까지 포함해 잰다
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MetricsRegistry metricsRegistry) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+            new FilterRegistrationBean<>(new RequestMetricsFilter(metricsRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.newsfeed.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsRegistry metricsRegistry;
+
+    // Prometheus 스크레이프용
+    @GetMapping(value = "/metrics", produces = PROMETHEUS_CONTENT_TYPE)
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok(metricsRegistry.scrape());
+    }
+}
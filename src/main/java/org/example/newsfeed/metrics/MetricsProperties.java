@@ -0,0 +1,16 @@
+package org.example.newsfeed.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "metrics")
+public class MetricsProperties {
+
+    // /metrics 를 읽을 수 있는 주소 (CIDR). 기본은 같은 호스트의 스크레이퍼만
+    private List<String> allowedAddresses = new ArrayList<>(List.of("127.0.0.1/32", "::1/128"));
+}
@@ -0,0 +1,130 @@
+package org.example.newsfeed.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// layer(controller/service/repository) + 메서드 + 상태별 지연시간 기록기 저장소
+@Component
+public class MetricsRegistry {
+
+    public static final String LAYER_CONTROLLER = "controller";
+    public static final String LAYER_SERVICE = "service";
+    public static final String LAYER_REPOSITORY = "repository";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String LATENCY = "newsfeed_latency_seconds";
+    private static final String LATENCY_MAX = "newsfeed_latency_max_seconds";
+    private static final String ERRORS = "newsfeed_errors_total";
+
+    private final Map<Key, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public MetricsRegistry(@Value("${metrics.window-seconds:60}") long windowSeconds) {
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+    }
+
+    public void record(String layer, String method, String status, long nanos) {
+        recorders.computeIfAbsent(new Key(layer, method, status), key -> new LatencyRecorder(windowNanos))
+            .record(nanos);
+    }
+
+    // Prometheus text exposition format (0.0.4)
+    public String scrape() {
+        List<Map.Entry<Key, LatencyRecorder>> entries = new ArrayList<>(recorders.entrySet());
+        entries.sort((a, b) -> Key.ORDER.compare(a.getKey(), b.getKey()));
+
+        StringBuilder sb = new StringBuilder(256 + entries.size() * 512);
+        sb.append("# HELP ").append(LATENCY)
+            .append(" Latency by layer, method and status. Quantiles cover the last one to two windows.\n");
+        sb.append("# TYPE ").append(LATENCY).append(" summary\n");
+        for (Map.Entry<Key, LatencyRecorder> entry : entries) {
+            String labels = entry.getKey().labels();
+            LatencyRecorder recorder = entry.getValue();
+            long[] values = recorder.percentiles(QUANTILES);
+            for (int i = 0; i < QUANTILES.length; i++) {
+                sb.append(LATENCY).append('{').append(labels).append(",quantile=\"").append(QUANTILES[i]).append("\"} ");
+                appendSeconds(sb, values[i]).append('\n');
+            }
+            sb.append(LATENCY).append("_sum{").append(labels).append("} ");
+            appendSeconds(sb, recorder.getTotal().getTotalMicros()).append('\n');
+            sb.append(LATENCY).append("_count{").append(labels).append("} ")
+                .append(recorder.getTotal().getCount()).append('\n');
+        }
+
+        sb.append("# HELP ").append(LATENCY_MAX).append(" Maximum latency since start.\n");
+        sb.append("# TYPE ").append(LATENCY_MAX).append(" gauge\n");
+        for (Map.Entry<Key, LatencyRecorder> entry : entries) {
+            sb.append(LATENCY_MAX).append('{').append(entry.getKey().labels()).append("} ");
+            appendSeconds(sb, entry.getValue().getTotal().getMaxMicros()).append('\n');
+        }
+
+        // 오류율 = rate(newsfeed_errors_total) / rate(newsfeed_latency_seconds_count)
+        sb.append("# HELP ").append(ERRORS).append(" Calls that ended with HTTP 5xx or an exception.\n");
+        sb.append("# TYPE ").append(ERRORS).append(" counter\n");
+        for (Map.Entry<Key, LatencyRecorder> entry : entries) {
+            if (entry.getKey().isError()) {
+                sb.append(ERRORS).append('{').append(entry.getKey().labels()).append("} ")
+                    .append(entry.getValue().getTotal().getCount()).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static StringBuilder appendSeconds(StringBuilder sb, long micros) {
+        return sb.append(micros / 1_000_000).append('.').append(String.format("%06d", micros % 1_000_000));
+    }
+
+    private static final class Key {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing((Key k) -> k.layer)
+            .thenComparing(k -> k.method)
+            .thenComparing(k -> k.status);
+
+        private final String layer;
+        private final String method;
+        private final String status;
+        private final int hash;
+
+        private Key(String layer, String method, String status) {
+            this.layer = layer;
+            this.method = method;
+            this.status = status;
+            this.hash = Objects.hash(layer, method, status);
+        }
+
+        private boolean isError() {
+            return "error".equals(status) || status.startsWith("5");
+        }
+
+        private String labels() {
+            return "layer=\"" + layer + "\",method=\"" + escape(method) + "\",status=\"" + status + "\"";
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return layer.equals(key.layer) && method.equals(key.method) && status.equals(key.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.newsfeed.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 보안 필터보다 바깥에서 요청 전체 시간을 재고, 컨트롤러 메서드 + 최종 HTTP 상태로 기록한다
+// 요청 수 제한/과부하로 거절되어 컨트롤러까지 가지 않은 요청은 method="unmatched" 로 기록된다
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED = "unmatched";
+
+    private final MetricsRegistry registry;
+    private final Map<Method, String> handlerNames = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        String status = "500";
+        try {
+            filterChain.doFilter(req, res);
+            status = String.valueOf(res.getStatus());
+        } finally {
+            registry.record(MetricsRegistry.LAYER_CONTROLLER, handlerOf(req), status, System.nanoTime() - start);
+        }
+    }
+
+    private String handlerOf(HttpServletRequest req) {
+        Object handler = req.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerNames.computeIfAbsent(handlerMethod.getMethod(),
+                m -> handlerMethod.getBeanType().getSimpleName() + "." + m.getName());
+        }
+        return UNMATCHED;
+    }
+}
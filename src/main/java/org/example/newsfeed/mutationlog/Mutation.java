@@ -0,0 +1,48 @@
+package org.example.newsfeed.mutationlog;
+
+import lombok.Getter;
+import org.example.newsfeed.event.CommentCreatedEvent;
+import org.example.newsfeed.event.CommentDeletedEvent;
+import org.example.newsfeed.event.CommentUpdatedEvent;
+import org.example.newsfeed.event.DomainEvent;
+import org.example.newsfeed.event.PostCreatedEvent;
+import org.example.newsfeed.event.PostDeletedEvent;
+import org.example.newsfeed.event.PostUpdatedEvent;
+import org.example.newsfeed.event.UserWithdrawnEvent;
+
+// 로그 한 건. aggregateId 는 게시글(댓글 이벤트도 게시글) 또는 사용자 id, entityId 는 댓글 id (없으면 0)
+@Getter
+public class Mutation {
+
+    private final MutationType type;
+    private final long atMillis;
+    private final long aggregateId;
+    private final long entityId;
+
+    public Mutation(MutationType type, long atMillis, long aggregateId, long entityId) {
+        this.type = type;
+        this.atMillis = atMillis;
+        this.aggregateId = aggregateId;
+        this.entityId = entityId;
+    }
+
+    // 로그에 남기지 않는 이벤트면 null
+    static Mutation of(DomainEvent event, long atMillis) {
+        if (event instanceof PostCreatedEvent created) {
+            return new Mutation(MutationType.POST_CREATED, atMillis, created.getPostId(), 0);
+        } else if (event instanceof PostUpdatedEvent updated) {
+            return new Mutation(MutationType.POST_UPDATED, atMillis, updated.getPostId(), 0);
+        } else if (event instanceof PostDeletedEvent deleted) {
+            return new Mutation(MutationType.POST_DELETED, atMillis, deleted.getPostId(), 0);
+        } else if (event instanceof CommentCreatedEvent created) {
+            return new Mutation(MutationType.COMMENT_CREATED, atMillis, created.getPostId(), created.getCommentId());
+        } else if (event instanceof CommentUpdatedEvent updated) {
+            return new Mutation(MutationType.COMMENT_UPDATED, atMillis, updated.getPostId(), updated.getCommentId());
+        } else if (event instanceof CommentDeletedEvent deleted) {
+            return new Mutation(MutationType.COMMENT_DELETED, atMillis, deleted.getPostId(), deleted.getCommentId());
+        } else if (event instanceof UserWithdrawnEvent withdrawn) {
+            return new Mutation(MutationType.USER_WITHDRAWN, atMillis, withdrawn.getUserId(), 0);
+        }
+        return null;
+    }
+}
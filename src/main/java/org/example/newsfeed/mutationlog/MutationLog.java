@@ -0,0 +1,281 @@
+package org.example.newsfeed.mutationlog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.event.DomainEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// 게시글/댓글/사용자 변경을 로컬 디스크의 mmap 세그먼트에 순서대로 덧붙이고, 주기적으로 RecoverableState 들의 스냅샷을 남긴다.
+// 시작할 때 마지막 스냅샷을 읽고 그 뒤의 로그만 다시 적용하므로, 전체 테이블을 읽지 않고 몇 초 안에 메모리 구조가 돌아온다.
+// 파일: segment-<첫 번호>.log, snapshot-<다음 번호>.bin (스냅샷은 그 번호 이전 로그를 모두 반영한 상태)
+// 근사 구조(게시글 수, 인기 순위)만 다루므로 스냅샷 순간 다른 구독자 스레드와의 몇 ms 어긋남은 허용한다
+@Slf4j(topic = "MutationLog")
+@Component
+public class MutationLog {
+
+    private static final int SNAPSHOT_MAGIC = 0x4D4C534E; // "MLSN"
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final MutationLogProperties properties;
+    private final List<RecoverableState> states;
+    private final LongSupplier wallClock;
+    private final Path directory;
+
+    private final List<MutationLogSegment> segments = new ArrayList<>(); // 오래된 순, 마지막이 쓰는 중
+    private ScheduledExecutorService snapshotter;
+
+    @Autowired
+    public MutationLog(MutationLogProperties properties, ObjectProvider<RecoverableState> states) {
+        this(properties, states.orderedStream().toList(), System::currentTimeMillis);
+    }
+
+    MutationLog(MutationLogProperties properties, List<RecoverableState> states, LongSupplier wallClock) {
+        this.properties = properties;
+        this.states = states;
+        this.wallClock = wallClock;
+        this.directory = Paths.get(properties.getDirectory());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Files.createDirectories(directory);
+        recover();
+        snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mutation-log-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getSnapshotIntervalMillis();
+        snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // 정상 종료면 마지막 스냅샷을 남겨 다음 시작 때 적용할 로그가 없게 한다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (snapshotter == null) {
+            return;
+        }
+        snapshotter.shutdown();
+        snapshotter.awaitTermination(5, TimeUnit.SECONDS);
+        snapshotQuietly();
+        synchronized (this) {
+            for (MutationLogSegment segment : segments) {
+                closeQuietly(segment);
+            }
+            segments.clear();
+        }
+    }
+
+    public synchronized void append(List<? extends DomainEvent> events) {
+        if (segments.isEmpty()) {
+            return; // 꺼져 있음
+        }
+        long now = wallClock.getAsLong();
+        for (DomainEvent event : events) {
+            Mutation mutation = Mutation.of(event, now);
+            if (mutation == null) {
+                continue;
+            }
+            MutationLogSegment current = segments.get(segments.size() - 1);
+            if (!current.append(mutation)) {
+                try {
+                    current = roll(current);
+                } catch (IOException e) {
+                    log.warn("event=mutation_log_roll_failed cause={}", e.toString()); // 기록만 빠진다: 다음 스냅샷이 메운다
+                    return;
+                }
+                current.append(mutation);
+            }
+        }
+    }
+
+    public synchronized void snapshot() throws IOException {
+        if (segments.isEmpty()) {
+            return;
+        }
+        long sequence = segments.get(segments.size() - 1).nextSequence();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(sequence);
+            out.writeLong(wallClock.getAsLong());
+            out.writeInt(states.size());
+            for (RecoverableState state : states) {
+                ByteArrayOutputStream stateBytes = new ByteArrayOutputStream();
+                try (DataOutputStream stateOut = new DataOutputStream(stateBytes)) {
+                    state.writeSnapshot(stateOut);
+                }
+                out.writeUTF(state.name());
+                out.writeInt(stateBytes.size());
+                stateBytes.writeTo(out);
+            }
+        }
+        Path target = directory.resolve(SNAPSHOT_PREFIX + sequence + SNAPSHOT_SUFFIX);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (BufferedOutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            bytes.writeTo(out);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // 스냅샷에 모두 반영된 세그먼트와 예전 스냅샷 정리 (쓰는 중인 세그먼트는 남긴다)
+        while (segments.size() > 1 && segments.get(0).nextSequence() <= sequence) {
+            MutationLogSegment covered = segments.remove(0);
+            closeQuietly(covered);
+            Files.deleteIfExists(covered.path());
+        }
+        for (Path old : files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (!old.equals(target)) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+
+    // 다음에 쓸 로그 번호
+    synchronized long nextSequence() {
+        return segments.isEmpty() ? 0 : segments.get(segments.size() - 1).nextSequence();
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        for (Path path : files(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            segments.add(MutationLogSegment.open(path, number(path, SEGMENT_PREFIX, SEGMENT_SUFFIX),
+                properties.getSegmentBytes()));
+        }
+
+        long from = loadSnapshot();
+        long now = wallClock.getAsLong();
+        long replayed = 0;
+        for (MutationLogSegment segment : segments) {
+            for (int i = 0; i < segment.count(); i++) {
+                if (segment.firstSequence() + i < from) {
+                    continue;
+                }
+                Mutation mutation = segment.read(i);
+                for (RecoverableState state : states) {
+                    state.replay(mutation, Math.max(0, now - mutation.getAtMillis()));
+                }
+                replayed++;
+            }
+        }
+        if (!segments.isEmpty() && segments.get(0).firstSequence() > from) {
+            log.warn("event=mutation_log_gap snapshot={} first_segment={}", from, segments.get(0).firstSequence());
+        }
+
+        // 이어 쓸 세그먼트: 스냅샷이 세그먼트보다 앞서 있으면(세그먼트 유실) 스냅샷 번호부터 새로
+        long next = Math.max(from, nextSequence());
+        if (segments.isEmpty() || segments.get(segments.size() - 1).nextSequence() < next) {
+            segments.add(openSegment(next));
+        }
+        log.info("event=mutation_log_recovered snapshot_sequence={} replayed={} took_ms={}", from, replayed,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    // 읽을 수 있는 가장 최근 스냅샷을 적용하고 그 번호를 돌려준다 (없으면 0: 로그 전체를 적용)
+    private long loadSnapshot() throws IOException {
+        List<Path> snapshots = files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path path = snapshots.get(i);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (in.readInt() != SNAPSHOT_MAGIC) {
+                    throw new IOException("not a snapshot");
+                }
+                long sequence = in.readLong();
+                long takenAgo = Math.max(0, wallClock.getAsLong() - in.readLong());
+                // 모두 읽은 뒤에 적용한다 (중간에 깨져 있으면 일부만 적용되지 않게)
+                Map<String, byte[]> entries = new LinkedHashMap<>();
+                int count = in.readInt();
+                for (int j = 0; j < count; j++) {
+                    String name = in.readUTF();
+                    byte[] body = new byte[in.readInt()];
+                    in.readFully(body);
+                    entries.put(name, body);
+                }
+                for (RecoverableState state : states) {
+                    byte[] body = entries.get(state.name());
+                    if (body != null) {
+                        state.readSnapshot(new DataInputStream(new ByteArrayInputStream(body)), takenAgo);
+                    }
+                }
+                return sequence;
+            } catch (IOException e) {
+                log.warn("event=mutation_log_snapshot_unreadable file={} cause={}", path.getFileName(), e.toString());
+            }
+        }
+        return 0;
+    }
+
+    private MutationLogSegment roll(MutationLogSegment full) throws IOException {
+        full.force();
+        MutationLogSegment next = openSegment(full.nextSequence());
+        segments.add(next);
+        return next;
+    }
+
+    private MutationLogSegment openSegment(long firstSequence) throws IOException {
+        return MutationLogSegment.open(directory.resolve(SEGMENT_PREFIX + firstSequence + SEGMENT_SUFFIX), firstSequence,
+            properties.getSegmentBytes());
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("event=mutation_log_snapshot_failed cause={}", e.toString());
+        }
+    }
+
+    // 번호 순으로
+    private List<Path> files(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(prefix) && name.endsWith(suffix);
+                })
+                .sorted(Comparator.comparingLong(path -> number(path, prefix, suffix)))
+                .toList();
+        }
+    }
+
+    private static long number(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private static void closeQuietly(MutationLogSegment segment) {
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("event=mutation_log_close_failed file={} cause={}", segment.path().getFileName(), e.toString());
+        }
+    }
+}
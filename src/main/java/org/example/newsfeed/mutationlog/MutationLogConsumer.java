@@ -0,0 +1,45 @@
+package org.example.newsfeed.mutationlog;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.example.newsfeed.event.DomainEvent;
+import org.example.newsfeed.event.EventConsumer;
+import org.example.newsfeed.outbox.OutboxProperties;
+import org.example.newsfeed.outbox.OutboxWatermark;
+import org.springframework.stereotype.Component;
+
+// 이벤트 버스에서 받은 게시글/댓글/사용자 변경을 묶음 그대로 로그에 덧붙인다.
+// 다시 발행된 outbox 이벤트는 빼고 쓴다: 재시작 때 두 번 적용되지 않게
+@Component
+public class MutationLogConsumer implements EventConsumer<DomainEvent> {
+
+    private final MutationLog mutationLog;
+    private final OutboxWatermark watermark;
+
+    public MutationLogConsumer(MutationLog mutationLog, OutboxProperties outboxProperties) {
+        this.mutationLog = mutationLog;
+        this.watermark = new OutboxWatermark(outboxProperties);
+    }
+
+    @Override
+    public Class<DomainEvent> eventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void consume(List<DomainEvent> events) {
+        List<DomainEvent> fresh = new ArrayList<>(events.size());
+        List<Mutation> mutations = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            Mutation mutation = Mutation.of(event, 0);
+            if (mutation != null && !watermark.isApplied(mutation.getAggregateId(), event)) {
+                fresh.add(event);
+                mutations.add(mutation);
+            }
+        }
+        mutationLog.append(fresh);
+        for (int i = 0; i < fresh.size(); i++) {
+            watermark.applied(mutations.get(i).getAggregateId(), fresh.get(i));
+        }
+    }
+}
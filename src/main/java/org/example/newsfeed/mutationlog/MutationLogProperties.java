@@ -0,0 +1,23 @@
+package org.example.newsfeed.mutationlog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "mutation-log")
+public class MutationLogProperties {
+
+    // 꺼져 있으면 기록도 복구도 하지 않는다 (예전처럼 빈 캐시로 시작)
+    private boolean enabled = false;
+
+    // 세그먼트와 스냅샷 파일을 두는 로컬 디렉터리
+    private String directory = "mutation-log";
+
+    // 세그먼트 파일 하나의 크기 (건당 32바이트). 가득 차면 다음 세그먼트로 넘어간다
+    private int segmentBytes = 8 * 1024 * 1024;
+
+    // 스냅샷 주기. 스냅샷 이전 세그먼트는 지운다 (복구 때 적용할 로그 = 마지막 스냅샷 이후)
+    private long snapshotIntervalMillis = 300_000;
+}
@@ -0,0 +1,108 @@
+package org.example.newsfeed.mutationlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+// 고정 크기 파일 하나를 통째로 mmap 한 세그먼트. 건당 32바이트:
+// [type 1][reserved 3][crc32 4][atMillis 8][aggregateId 8][entityId 8]
+// 쓰기는 페이지 캐시에 복사하는 것뿐이라 프로세스가 죽어도 남는다. 끝을 모르므로 열 때 type 이 0 이거나 crc 가 틀린 칸까지 센다
+final class MutationLogSegment implements Closeable {
+
+    static final int RECORD_BYTES = 32;
+
+    private final Path path;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private int count;
+
+    private MutationLogSegment(Path path, long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity() / RECORD_BYTES;
+    }
+
+    // 있으면 기존 크기 그대로 연다 (segmentBytes 설정이 바뀌어도 예전 세그먼트를 읽을 수 있게)
+    static MutationLogSegment open(Path path, long firstSequence, int segmentBytes) throws IOException {
+        long size = Files.exists(path) && Files.size(path) > 0 ? Files.size(path) : segmentBytes;
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        MutationLogSegment segment = new MutationLogSegment(path, firstSequence, channel,
+            channel.map(FileChannel.MapMode.READ_WRITE, 0, size - size % RECORD_BYTES));
+        while (segment.count < segment.capacity && segment.read(segment.count) != null) {
+            segment.count++;
+        }
+        return segment;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long firstSequence() {
+        return firstSequence;
+    }
+
+    // 다음에 쓸 번호 (= 이 세그먼트까지 쓴 건수의 끝)
+    long nextSequence() {
+        return firstSequence + count;
+    }
+
+    int count() {
+        return count;
+    }
+
+    // 가득 찼으면 false
+    boolean append(Mutation mutation) {
+        if (count >= capacity) {
+            return false;
+        }
+        int offset = count * RECORD_BYTES;
+        buffer.put(offset + 1, (byte) 0);
+        buffer.put(offset + 2, (byte) 0);
+        buffer.put(offset + 3, (byte) 0);
+        buffer.putLong(offset + 8, mutation.getAtMillis());
+        buffer.putLong(offset + 16, mutation.getAggregateId());
+        buffer.putLong(offset + 24, mutation.getEntityId());
+        buffer.putInt(offset + 4, checksum(offset, mutation.getType().code()));
+        buffer.put(offset, mutation.getType().code()); // type 을 마지막에 써서 반쯤 쓴 칸은 빈 칸으로 보인다
+        count++;
+        return true;
+    }
+
+    // 비었거나 깨진 칸이면 null
+    Mutation read(int index) {
+        int offset = index * RECORD_BYTES;
+        MutationType type = MutationType.of(buffer.get(offset));
+        if (type == null || buffer.getInt(offset + 4) != checksum(offset, buffer.get(offset))) {
+            return null;
+        }
+        return new Mutation(type, buffer.getLong(offset + 8), buffer.getLong(offset + 16), buffer.getLong(offset + 24));
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private int checksum(int offset, byte type) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(buffer.slice(offset + 8, RECORD_BYTES - 8));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.newsfeed.mutationlog;
+
+// 로그에 1바이트 코드로 저장한다 (0 은 "아직 안 쓴 칸" 이라 쓰지 않는다). 코드는 바꾸지 말고 추가만
+public enum MutationType {
+    POST_CREATED(1),
+    POST_UPDATED(2),
+    POST_DELETED(3),
+    COMMENT_CREATED(4),
+    COMMENT_UPDATED(5),
+    COMMENT_DELETED(6),
+    USER_WITHDRAWN(7);
+
+    private static final MutationType[] BY_CODE = new MutationType[8];
+
+    static {
+        for (MutationType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    MutationType(int code) {
+        this.code = (byte) code;
+    }
+
+    byte code() {
+        return code;
+    }
+
+    // 모르는 코드면 null
+    static MutationType of(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.newsfeed.mutationlog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// 재시작 때 MutationLog 로 복구하는 메모리 구조. 빈으로 등록하면 스냅샷에 포함된다.
+// 복구 = 마지막 스냅샷을 읽고(readSnapshot) 그 뒤에 쌓인 로그를 순서대로 다시 적용(replay)
+public interface RecoverableState {
+
+    // 스냅샷 안에서 구분하는 이름 (바꾸면 예전 스냅샷을 읽지 못하고 로그만 적용된다)
+    String name();
+
+    void writeSnapshot(DataOutput out) throws IOException;
+
+    // takenAgoMillis: 스냅샷을 만든 뒤 지난 시간
+    void readSnapshot(DataInput in, long takenAgoMillis) throws IOException;
+
+    // ageMillis: 로그에 기록된 뒤 지난 시간
+    void replay(Mutation mutation, long ageMillis);
+}
@@ -0,0 +1,74 @@
+package org.example.newsfeed.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.entity.OutboxEvent;
+import org.example.newsfeed.entity.OutboxEventType;
+import org.example.newsfeed.event.CommentCreatedEvent;
+import org.example.newsfeed.event.CommentDeletedEvent;
+import org.example.newsfeed.event.CommentUpdatedEvent;
+import org.example.newsfeed.event.DomainEvent;
+import org.example.newsfeed.event.PostCreatedEvent;
+import org.example.newsfeed.event.PostDeletedEvent;
+import org.example.newsfeed.event.PostUpdatedEvent;
+import org.example.newsfeed.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 게시글/댓글 이벤트를 변경과 같은 트랜잭션에서 outbox 테이블에 쓴다.
+// 커밋과 이벤트 기록이 함께 성공하거나 함께 실패하므로, 커밋 직후 서버가 죽어도 이벤트가 사라지지 않는다
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxEventRepository repository;
+    private final OutboxRelay relay;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        OutboxEvent row = toRow(event);
+        // 같은 게시글에 먼저 쓴 트랜잭션이 커밋할 때까지 기다린다: 그래야 먼저 커밋된 이벤트가 작은 id 를 갖는다.
+        // 새 게시글은 아직 아무도 볼 수 없어 앞선 이벤트가 없다
+        if (row.getType() != OutboxEventType.POST_CREATED) {
+            repository.lockAggregate(row.getAggregateId());
+        }
+        repository.save(row);
+        // 커밋되면 주기를 기다리지 않고 바로 발행하도록 깨운다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+
+    static OutboxEvent toRow(DomainEvent event) {
+        if (event instanceof PostCreatedEvent created) {
+            return new OutboxEvent(created.getPostId(), OutboxEventType.POST_CREATED, null);
+        } else if (event instanceof PostUpdatedEvent updated) {
+            return new OutboxEvent(updated.getPostId(), OutboxEventType.POST_UPDATED, null);
+        } else if (event instanceof PostDeletedEvent deleted) {
+            return new OutboxEvent(deleted.getPostId(), OutboxEventType.POST_DELETED, null);
+        } else if (event instanceof CommentCreatedEvent created) {
+            return new OutboxEvent(created.getPostId(), OutboxEventType.COMMENT_CREATED, created.getCommentId());
+        } else if (event instanceof CommentUpdatedEvent updated) {
+            return new OutboxEvent(updated.getPostId(), OutboxEventType.COMMENT_UPDATED, updated.getCommentId());
+        } else if (event instanceof CommentDeletedEvent deleted) {
+            return new OutboxEvent(deleted.getPostId(), OutboxEventType.COMMENT_DELETED, deleted.getCommentId());
+        }
+        throw new IllegalArgumentException("outbox 에 쓸 수 없는 이벤트: " + event.getClass().getSimpleName());
+    }
+
+    static DomainEvent toEvent(OutboxEvent row) {
+        return switch (row.getType()) {
+            case POST_CREATED -> new PostCreatedEvent(row.getAggregateId(), row.getId());
+            case POST_UPDATED -> new PostUpdatedEvent(row.getAggregateId(), row.getId());
+            case POST_DELETED -> new PostDeletedEvent(row.getAggregateId(), row.getId());
+            case COMMENT_CREATED -> new CommentCreatedEvent(row.getEntityId(), row.getAggregateId(), row.getId());
+            case COMMENT_UPDATED -> new CommentUpdatedEvent(row.getEntityId(), row.getAggregateId(), row.getId());
+            case COMMENT_DELETED -> new CommentDeletedEvent(row.getEntityId(), row.getAggregateId(), row.getId());
+        };
+    }
+}
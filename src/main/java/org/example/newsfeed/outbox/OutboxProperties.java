@@ -0,0 +1,21 @@
+package org.example.newsfeed.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    // 커밋 알림이 없을 때(다른 서버가 쓴 행, 실패 후 재시도) 테이블을 확인하는 주기
+    private long pollIntervalMillis = 1_000;
+
+    // 한 트랜잭션에서 잠그고 발행하는 행 수
+    private int batchSize = 100;
+
+    // 발행한 뒤 이 시간 안에 구독자 처리 완료를 받지 못한 행(서버가 죽었거나 구독자가 실패)은 다시 발행한다.
+    // 구독자 처리가 이보다 오래 걸리면 같은 이벤트가 두 번 갈 수 있다
+    private long redeliveryMillis = 60_000;
+}
@@ -0,0 +1,211 @@
+package org.example.newsfeed.outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.entity.OutboxEvent;
+import org.example.newsfeed.event.DomainEvent;
+import org.example.newsfeed.event.EventBus;
+import org.example.newsfeed.repository.OutboxEventRepository;
+import org.example.newsfeed.repository.OutboxEventRepository.AggregateHeadView;
+import org.example.newsfeed.sharding.ShardContext;
+import org.example.newsfeed.sharding.ShardingProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// outbox 행을 batch 단위로 잠가(SKIP LOCKED) 발행 표시(dispatched_at)를 남기고 EventBus 로 발행한다.
+// 서버마다 하나씩 돌아도 같은 행을 두 번 잡지 않는다. 행은 구독자가 모두 처리했다고 알려 온 뒤에야 지운다:
+// 커밋과 처리 사이에 서버가 죽거나 구독자가 실패하면 행이 남아 redeliveryMillis 뒤에 다시 발행된다
+// (at-least-once: 구독자는 같은 이벤트를 여러 번 받을 수 있다. 두 번 적용하면 안 되는 구독자는 OutboxWatermark 로 거른다).
+// 게시글 하나의 이벤트는 id 순서대로: 더 앞선 행을 다른 서버가 잡고 있거나 처리 완료를 기다리는 중이면 그 게시글의 뒤 행은 이번에 발행하지 않는다.
+// 샤딩을 켜면 outbox 행은 게시글과 같은 샤드에 쓰이므로 샤드마다 차례로 돈다
+@Slf4j(topic = "Outbox")
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository repository;
+    private final TransactionOperations transactions;
+    private final TransactionOperations acknowledgements;
+    private final EventBus eventBus;
+    private final OutboxProperties properties;
+    private final ShardingProperties sharding;
+    private final LongSupplier clock;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private Thread relay;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository repository, PlatformTransactionManager transactionManager,
+        EventBus eventBus, OutboxProperties properties, ShardingProperties sharding) {
+        this(repository, new TransactionTemplate(transactionManager), requiresNew(transactionManager), eventBus,
+            properties, sharding, System::currentTimeMillis);
+    }
+
+    OutboxRelay(OutboxEventRepository repository, PlatformTransactionManager transactionManager, EventBus eventBus,
+        OutboxProperties properties) {
+        this(repository, new TransactionTemplate(transactionManager), requiresNew(transactionManager), eventBus,
+            properties, new ShardingProperties(), System::currentTimeMillis);
+    }
+
+    OutboxRelay(OutboxEventRepository repository, TransactionOperations transactions, EventBus eventBus,
+        OutboxProperties properties) {
+        this(repository, transactions, transactions, eventBus, properties, new ShardingProperties(),
+            System::currentTimeMillis);
+    }
+
+    OutboxRelay(OutboxEventRepository repository, TransactionOperations transactions, EventBus eventBus,
+        OutboxProperties properties, LongSupplier clock) {
+        this(repository, transactions, transactions, eventBus, properties, new ShardingProperties(), clock);
+    }
+
+    private OutboxRelay(OutboxEventRepository repository, TransactionOperations transactions,
+        TransactionOperations acknowledgements, EventBus eventBus, OutboxProperties properties,
+        ShardingProperties sharding, LongSupplier clock) {
+        this.repository = repository;
+        this.transactions = transactions;
+        this.acknowledgements = acknowledgements;
+        this.eventBus = eventBus;
+        this.properties = properties;
+        this.sharding = sharding;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        relay = new Thread(this::relayLoop, "outbox-relay");
+        relay.setDaemon(true);
+        relay.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        wakeUps.release();
+        relay.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // 이 서버에서 outbox 행이 커밋됨
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    // 한 batch 를 발행한다. 발행한 행 수를 돌려준다 (batchSize 와 같으면 더 남아 있을 수 있다)
+    public int relayBatch() {
+        Integer shard = ShardContext.current(); // 처리 완료는 구독자 스레드에서 온다: 같은 샤드에서 지운다
+        Integer relayed = transactions.execute(status -> {
+            long now = clock.getAsLong();
+            List<OutboxEvent> rows = repository.findPending(new Timestamp(now - properties.getRedeliveryMillis()),
+                PageRequest.of(0, properties.getBatchSize()));
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            Set<Long> aggregateIds = new LinkedHashSet<>();
+            List<Long> claimedIds = new ArrayList<>(rows.size());
+            for (OutboxEvent row : rows) {
+                aggregateIds.add(row.getAggregateId());
+                claimedIds.add(row.getId());
+            }
+            Map<Long, Long> otherHeads = new HashMap<>();
+            for (AggregateHeadView head : repository.findOtherHeads(aggregateIds, claimedIds)) {
+                otherHeads.put(head.getAggregateId(), head.getFirstId());
+            }
+
+            List<Long> published = new ArrayList<>(rows.size());
+            List<DomainEvent> events = new ArrayList<>(rows.size());
+            for (OutboxEvent row : rows) {
+                Long otherHead = otherHeads.get(row.getAggregateId());
+                if (otherHead != null && otherHead < row.getId()) {
+                    continue; // 앞선 이벤트가 다른 서버에 잡혀 있거나 처리 중: 순서를 지키려고 다음 batch 로 미룬다
+                }
+                events.add(Outbox.toEvent(row));
+                published.add(row.getId());
+            }
+            if (!published.isEmpty()) {
+                repository.markDispatched(published, new Timestamp(now));
+                // 트랜잭션 안이므로 발행 표시가 커밋된 뒤에 큐에 들어간다
+                eventBus.publish(events, () -> acknowledge(shard, published));
+            }
+            return published.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    // 구독자가 모두 처리한 행을 지운다. 실패하면 행이 남아 다시 발행된다
+    private void acknowledge(Integer shard, List<Long> ids) {
+        try {
+            if (shard == null) {
+                deleteAcknowledged(ids);
+            } else {
+                ShardContext.call(shard, () -> deleteAcknowledged(ids));
+            }
+        } catch (RuntimeException e) {
+            log.warn("event=outbox_ack_failed rows={} cause={}", ids.size(), e.toString());
+        }
+    }
+
+    // 처리 완료는 relay 트랜잭션이 끝난 직후 같은 스레드에서 올 수도 있다 (큐가 가득 차 직접 처리한 경우).
+    // 그때는 끝난 트랜잭션이 아직 묶여 있어 REQUIRED 로는 거기에 참여해 커밋되지 않으므로 새 트랜잭션에서 지운다
+    private Integer deleteAcknowledged(List<Long> ids) {
+        return acknowledgements.execute(status -> repository.deleteAllByIdIn(ids));
+    }
+
+    private static TransactionTemplate requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    // 샤드마다 한 batch. 가장 많이 발행한 샤드의 행 수를 돌려준다
+    private int relayShards() {
+        if (!sharding.isEnabled()) {
+            return relayBatch();
+        }
+        int relayed = 0;
+        for (int shard = 0; shard < sharding.getShards().size(); shard++) {
+            try {
+                relayed = Math.max(relayed, ShardContext.call(shard, this::relayBatch));
+            } catch (RuntimeException e) {
+                log.warn("event=outbox_relay_failed shard={} cause={}", shard, e.toString()); // 다른 샤드는 계속
+            }
+        }
+        return relayed;
+    }
+
+    private void relayLoop() {
+        while (running) {
+            int relayed = 0;
+            try {
+                relayed = relayShards();
+            } catch (RuntimeException e) {
+                log.warn("event=outbox_relay_failed cause={}", e.toString()); // 행은 그대로 남아 있다: 다음 주기에 다시
+            }
+            if (relayed >= properties.getBatchSize()) {
+                continue; // 밀려 있음: 기다리지 않고 이어서
+            }
+            try {
+                wakeUps.tryAcquire(properties.getPollIntervalMillis(), TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits(); // 그 사이 여러 번 커밋되었어도 한 번만 확인
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.newsfeed.outbox;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.example.newsfeed.event.DomainEvent;
+
+// outbox 는 at-least-once 라 처리 완료를 받지 못한 행(다른 구독자 실패, 삭제 실패)은 redeliveryMillis 뒤에 다시 발행된다.
+// 더하기/빼기처럼 두 번 적용하면 안 되는 구독자가 하나씩 두고, 게시글별로 마지막에 적용한 outbox id 이하는 건너뛴다
+// (relay 가 게시글 안에서는 id 순서대로, 앞 행이 끝나야 뒤 행을 발행하므로 다시 온 이벤트는 항상 그 이하다).
+// 다시 발행될 수 있는 동안(redeliveryMillis 의 몇 배)만 기억한다. 메모리에만 있으므로 서버가 죽었다 뜬 뒤
+// 다시 발행된 이벤트는 한 번 더 적용될 수 있다 (그 구조들은 근사값: 주기적 보정/감쇠로 맞춰진다)
+public class OutboxWatermark {
+
+    private static final int RETAIN_REDELIVERIES = 3;
+
+    private final long retainMillis;
+    private final LongSupplier clock;
+    private final Map<Long, Applied> applied = new ConcurrentHashMap<>();
+    private final AtomicLong prunedAt;
+
+    public OutboxWatermark(OutboxProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    OutboxWatermark(OutboxProperties properties, LongSupplier clock) {
+        this.retainMillis = properties.getRedeliveryMillis() * RETAIN_REDELIVERIES;
+        this.clock = clock;
+        this.prunedAt = new AtomicLong(clock.getAsLong());
+    }
+
+    // 이미 적용한 이벤트를 다시 받았으면 true (outbox 를 거치지 않은 이벤트는 항상 false)
+    public boolean isApplied(Long aggregateId, DomainEvent event) {
+        Long outboxId = event.getOutboxId();
+        if (outboxId == null || aggregateId == null) {
+            return false;
+        }
+        Applied last = applied.get(aggregateId);
+        if (last == null || last.outboxId < outboxId) {
+            return false;
+        }
+        last.touchedAt = clock.getAsLong(); // 아직 다시 발행되는 중: 더 기억한다
+        return true;
+    }
+
+    // 적용을 마친 뒤에 부른다 (적용하다 실패한 이벤트는 다시 받으면 적용되도록)
+    public void applied(Long aggregateId, DomainEvent event) {
+        Long outboxId = event.getOutboxId();
+        if (outboxId == null || aggregateId == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        applied.merge(aggregateId, new Applied(outboxId, now),
+            (last, next) -> last.outboxId >= next.outboxId ? last : next);
+        pruneIfDue(now);
+    }
+
+    int size() {
+        return applied.size();
+    }
+
+    // 오래 다시 오지 않은 게시글은 행이 지워졌다: 잊는다
+    private void pruneIfDue(long now) {
+        long last = prunedAt.get();
+        if (now - last < retainMillis || !prunedAt.compareAndSet(last, now)) {
+            return;
+        }
+        applied.values().removeIf(entry -> now - entry.touchedAt > retainMillis);
+    }
+
+    private static final class Applied {
+
+        private final long outboxId;
+        private volatile long touchedAt;
+
+        private Applied(long outboxId, long touchedAt) {
+            this.outboxId = outboxId;
+            this.touchedAt = touchedAt;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.newsfeed.projection;
+
+// CommentResponseDTO 의 필드 + 내용 미리보기
+public enum CommentField implements ProjectedField {
+    ID("id"),
+    USER_ID("userId"),
+    POST_ID("postId"),
+    CONTENT("content"),
+    PREVIEW("preview"),
+    POST_DATE("postDate"),
+    MODIFIED_DATE("modifiedDate");
+
+    private final String jsonName;
+
+    CommentField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+}
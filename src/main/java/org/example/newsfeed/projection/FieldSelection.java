@@ -0,0 +1,49 @@
+package org.example.newsfeed.projection;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.util.StringUtils;
+
+// fields=id,userId,preview 파싱. 응답 필드 순서는 요청 순서가 아니라 enum 선언 순서를 따른다
+public final class FieldSelection {
+
+    public static final int PREVIEW_LENGTH = 100;
+
+    private FieldSelection() {
+    }
+
+    // 지정하지 않았으면 null (전체 응답)
+    public static <E extends Enum<E> & ProjectedField> Set<E> parse(String fields, Class<E> type) {
+        if (!StringUtils.hasText(fields)) {
+            return null;
+        }
+        EnumSet<E> selected = EnumSet.noneOf(type);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(find(trimmed, type));
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("fields 에 필드를 하나 이상 지정해주세요.");
+        }
+        return selected;
+    }
+
+    // ETag 등에 붙일 정규화된 표기
+    public static String key(Set<? extends ProjectedField> fields) {
+        return fields.stream().map(ProjectedField::jsonName).collect(Collectors.joining(","));
+    }
+
+    private static <E extends Enum<E> & ProjectedField> E find(String name, Class<E> type) {
+        for (E field : type.getEnumConstants()) {
+            if (field.jsonName().equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 필드입니다: " + name + " (가능: "
+            + EnumSet.allOf(type).stream().map(ProjectedField::jsonName).collect(Collectors.joining(",")) + ")");
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.newsfeed.projection;
+
+// PostResponseDTO 의 필드 + 내용 미리보기
+public enum PostField implements ProjectedField {
+    ID("id"),
+    USER_ID("userId"),
+    CONTENT("content"),
+    PREVIEW("preview"),
+    POST_DATE("postDate"),
+    MODIFIED_DATE("modifiedDate");
+
+    private final String jsonName;
+
+    PostField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.newsfeed.projection;
+
+// fields= 로 고를 수 있는 응답 필드 (JSON 이름)
+public interface ProjectedField {
+
+    String jsonName();
+}
@@ -0,0 +1,25 @@
+package org.example.newsfeed.projection;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// fields= 응답 한 행. 응답 값은 Map 항목(JSON 이름 → 값)으로, 정렬 기준 값(엔티티 속성 이름 → 값)은 따로 들고 있다.
+// 고른 필드에 정렬 기준(postDate)이 없어도 샤드별 결과를 정렬 순서대로 합칠 수 있고, 정렬 값은 응답에 나가지 않는다
+public class ProjectedRow extends LinkedHashMap<String, Object> {
+
+    private final Map<String, Object> sortValues = new HashMap<>(2);
+
+    public ProjectedRow withSortValue(String property, Object value) {
+        sortValues.put(property, value);
+        return this;
+    }
+
+    public boolean hasSortValue(String property) {
+        return sortValues.containsKey(property);
+    }
+
+    public Object sortValue(String property) {
+        return sortValues.get(property);
+    }
+}
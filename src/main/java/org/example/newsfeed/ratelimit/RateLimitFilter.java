@@ -0,0 +1,161 @@
+package org.example.newsfeed.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.CommonResponse;
+import org.example.newsfeed.jwt.JwtUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// JwtAuthorizationFilter(사용자 조회) 보다 앞에서 동작하므로 거절된 요청은 DB, BCrypt 작업을 하지 않는다
+@Slf4j(topic = "요청 수 제한")
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final List<RouteLimiter> limiters = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final LongSupplier clock;
+
+    public RateLimitFilter(RateLimitProperties properties, JwtUtil jwtUtil, ObjectMapper objectMapper) {
+        this(properties, jwtUtil, objectMapper, monotonicClock());
+    }
+
+    RateLimitFilter(RateLimitProperties properties, JwtUtil jwtUtil, ObjectMapper objectMapper, LongSupplier clock) {
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.trustForwardedFor = properties.isTrustForwardedFor();
+        this.clock = clock;
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            limiters.add(new RouteLimiter(route,
+                bucketOf(route.getIp(), properties.getStripes()),
+                bucketOf(route.getUser(), properties.getStripes())));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || limiters.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+
+        RouteLimiter limiter = match(req);
+        if (limiter != null) {
+            long now = clock.getAsLong();
+            long waitNanos = 0L;
+
+            if (limiter.ip != null) {
+                waitNanos = limiter.ip.tryAcquire(clientIp(req), now);
+            }
+            if (waitNanos == 0L && limiter.user != null) {
+                String userId = userIdOf(req);
+                if (userId != null) {
+                    waitNanos = limiter.user.tryAcquire(userId, now);
+                }
+            }
+
+            if (waitNanos > 0L) {
+                log.warn("요청 제한 초과: {} {} ({})", req.getMethod(), req.getRequestURI(), clientIp(req));
+                reject(res, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(req, res);
+    }
+
+    private RouteLimiter match(HttpServletRequest req) {
+        String uri = req.getRequestURI();
+        for (RouteLimiter limiter : limiters) {
+            if (limiter.method != null && !limiter.method.equalsIgnoreCase(req.getMethod())) {
+                continue;
+            }
+            if (pathMatcher.match(limiter.pattern, uri)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+
+    private String clientIp(HttpServletRequest req) {
+        if (trustForwardedFor) {
+            String forwarded = req.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwarded)) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return req.getRemoteAddr();
+    }
+
+    // 서명 검증만 하고 DB 는 조회하지 않는다. 유효하지 않은 토큰이면 IP 제한만 적용
+    private String userIdOf(HttpServletRequest req) {
+        String tokenValue = jwtUtil.getTokenFromRequest(req);
+        if (!StringUtils.hasText(tokenValue)) {
+            return null;
+        }
+        try {
+            return jwtUtil.getUserInfoFromToken(jwtUtil.substringToken(tokenValue)).getSubject();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse res, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(res.getWriter(), CommonResponse.builder()
+            .statusCode(HttpStatus.TOO_MANY_REQUESTS.value())
+            .msg("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")
+            .build());
+    }
+
+    private static StripedTokenBucket bucketOf(RateLimitProperties.Limit limit, int stripes) {
+        if (limit == null) {
+            return null;
+        }
+        return new StripedTokenBucket(stripes, limit.getCapacity(), limit.getRefillPerSecond());
+    }
+
+    // 0 부터 증가하는 나노초 시계 (버킷 슬롯의 초기값 0 과 비교할 수 있도록)
+    private static LongSupplier monotonicClock() {
+        long origin = System.nanoTime();
+        return () -> System.nanoTime() - origin;
+    }
+
+    private static class RouteLimiter {
+
+        private final String pattern;
+        private final String method;
+        private final StripedTokenBucket ip;
+        private final StripedTokenBucket user;
+
+        RouteLimiter(RateLimitProperties.Route route, StripedTokenBucket ip, StripedTokenBucket user) {
+            this.pattern = route.getPattern();
+            this.method = StringUtils.hasText(route.getMethod()) ? route.getMethod() : null;
+            this.ip = ip;
+            this.user = user;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.newsfeed.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 버킷 테이블 크기 (2의 거듭제곱으로 올림), 키는 해시로 슬롯에 매핑된다
+    private int stripes = 4096;
+
+    // 프록시 뒤에서만 true 로 설정 (X-Forwarded-For 는 위조 가능)
+    private boolean trustForwardedFor = false;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private String pattern;   // Ant 패턴 (예: /api/posts/*/comments)
+        private String method;    // null 이면 모든 메서드
+        private Limit ip;         // IP 기준 제한
+        private Limit user;       // 로그인 사용자(userId) 기준 제한
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int capacity;           // 버스트 허용량
+        private double refillPerSecond; // 초당 충전되는 토큰 수
+    }
+}
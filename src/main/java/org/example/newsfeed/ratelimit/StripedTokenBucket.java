@@ -0,0 +1,47 @@
+package org.example.newsfeed.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// GCRA 방식의 토큰 버킷. 슬롯마다 "다음 토큰이 생기는 시각(TAT)" 하나만 CAS 로 갱신하므로 락이 없다.
+// 서로 다른 키가 같은 슬롯에 충돌하면 버킷을 공유하게 되어 더 엄격하게 제한될 뿐, 한도를 넘지는 않는다.
+public class StripedTokenBucket {
+
+    private final AtomicLongArray tat;
+    private final int mask;
+    private final long intervalNanos;   // 토큰 1개가 충전되는 시간
+    private final long toleranceNanos;  // 버스트 허용 구간 (capacity 개)
+
+    public StripedTokenBucket(int stripes, int capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity, refillPerSecond 는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.tat = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.toleranceNanos = intervalNanos * capacity;
+    }
+
+    // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초를 반환
+    // nowNanos 는 0 이상에서 단조 증가하는 값이어야 한다
+    public long tryAcquire(String key, long nowNanos) {
+        int slot = spread(key.hashCode()) & mask;
+        while (true) {
+            long current = tat.get(slot);
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long waitNanos = next - nowNanos - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(slot, current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    private static int spread(int h) {
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        return h ^ (h >>> 13);
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.newsfeed.reaction;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.entity.ReactionCounterShard;
+import org.example.newsfeed.entity.ReactionTargetType;
+import org.example.newsfeed.repository.ReactionCounterShardRepository;
+import org.example.newsfeed.repository.ReactionCounterShardRepository.TargetCountView;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+// 좋아요 수. 요청마다 카운터 행을 갱신하지 않고 메모리에 증감을 모았다가 주기적으로 한 번에 반영한다.
+// 반영할 때마다 임의의 shard 행을 골라 더하므로 여러 서버가 같은 대상을 갱신해도 한 행에 몰리지 않는다.
+// 조회 값 = DB 의 shard 합 + 아직 반영 안된 증감
+@Slf4j(topic = "Reaction")
+@Component
+public class ReactionCounter {
+
+    private final ReactionCounterShardRepository repository;
+    private final TransactionOperations transactions;
+    private final ReactionProperties properties;
+
+    private final Map<Target, Long> pending = new ConcurrentHashMap<>(); // 아직 반영 안된 증감 (0 이면 항목 없음)
+    private ScheduledExecutorService flusher;
+
+    public ReactionCounter(ReactionCounterShardRepository repository, TransactionOperations transactions,
+        ReactionProperties properties) {
+        this.repository = repository;
+        this.transactions = transactions;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reaction-counter-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushIntervalMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        flushQuietly(); // 종료 시 남은 증감 반영
+    }
+
+    public void add(ReactionTargetType type, Long targetId, long delta) {
+        pending.merge(new Target(type, targetId), delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    public long count(ReactionTargetType type, Long targetId) {
+        return counts(type, List.of(targetId)).getOrDefault(targetId, 0L);
+    }
+
+    // 여러 대상의 합계를 쿼리 한 번으로
+    public Map<Long, Long> counts(ReactionTargetType type, Collection<Long> targetIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long targetId : targetIds) {
+            counts.put(targetId, pending.getOrDefault(new Target(type, targetId), 0L));
+        }
+        for (TargetCountView view : repository.sumByTargetIds(type, targetIds)) {
+            counts.merge(view.getTargetId(), view.getCount(), Long::sum);
+        }
+        counts.replaceAll((targetId, count) -> Math.max(0, count));
+        return counts;
+    }
+
+    public void flush() {
+        Map<ReactionTargetType, Map<Long, Long>> batch = new HashMap<>();
+        int size = 0;
+        for (Target target : pending.keySet()) {
+            Long delta = pending.remove(target); // 이후 증감은 새 항목으로 쌓인다
+            if (delta == null) {
+                continue;
+            }
+            batch.computeIfAbsent(target.type, type -> new HashMap<>()).put(target.id, delta);
+            if (++size >= properties.getFlushBatchSize()) {
+                write(batch);
+                batch = new HashMap<>();
+                size = 0;
+            }
+        }
+        if (size > 0) {
+            write(batch);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("event=reaction_flush_failed", e);
+        }
+    }
+
+    private void write(Map<ReactionTargetType, Map<Long, Long>> batch) {
+        int shard = ThreadLocalRandom.current().nextInt(properties.getShards());
+        try {
+            transactions.executeWithoutResult(status -> batch.forEach((type, deltas) -> {
+                Map<Long, ReactionCounterShard> rows = new HashMap<>();
+                for (ReactionCounterShard row : repository.findAllByTargetTypeAndShardAndTargetIdIn(type, shard, deltas.keySet())) {
+                    rows.put(row.getTargetId(), row);
+                }
+                List<ReactionCounterShard> created = new ArrayList<>();
+                deltas.forEach((targetId, delta) -> {
+                    ReactionCounterShard row = rows.get(targetId);
+                    if (row == null) {
+                        created.add(new ReactionCounterShard(type, targetId, shard, delta));
+                    } else {
+                        row.add(delta); // 더티 체킹으로 UPDATE
+                    }
+                });
+                repository.saveAll(created);
+            }));
+        } catch (RuntimeException e) {
+            // 다른 서버가 같은 shard 행을 동시에 갱신(낙관적 락/유니크 충돌)했거나 DB 오류: 다음 flush 때 다시
+            log.warn("event=reaction_flush_retry shard={} cause={}", shard, e.toString());
+            batch.forEach((type, deltas) -> deltas.forEach((targetId, delta) -> add(type, targetId, delta)));
+        }
+    }
+
+    private static final class Target {
+
+        private final ReactionTargetType type;
+        private final Long id;
+
+        private Target(ReactionTargetType type, Long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Target target && type == target.type && Objects.equals(id, target.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + id.hashCode();
+        }
+    }
+}
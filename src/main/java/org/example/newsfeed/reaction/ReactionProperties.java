@@ -0,0 +1,23 @@
+package org.example.newsfeed.reaction;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reaction")
+public class ReactionProperties {
+
+    // 대상 하나의 좋아요 수를 나눠 담는 행 수
+    private int shards = 8;
+
+    // 메모리에 모은 증감을 이 주기마다 DB 에 반영한다
+    private long flushIntervalMillis = 1_000;
+
+    // 한 트랜잭션에서 반영하는 대상 수
+    private int flushBatchSize = 500;
+
+    // 피드 한 페이지 조회에서 받는 최대 id 수
+    private int maxLookupIds = 100;
+}
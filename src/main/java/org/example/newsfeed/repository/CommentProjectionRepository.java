@@ -0,0 +1,12 @@
+package org.example.newsfeed.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.example.newsfeed.projection.CommentField;
+
+// fields= 요청용: 고른 컬럼만 SELECT 한다 (작성자는 userId 를 고른 경우에만 조인)
+public interface CommentProjectionRepository {
+
+    List<Map<String, Object>> findCommentFieldsByPostId(Long postId, Set<CommentField> fields);
+}
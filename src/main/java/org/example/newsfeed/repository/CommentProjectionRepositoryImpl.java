@@ -0,0 +1,56 @@
+package org.example.newsfeed.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.example.newsfeed.entity.Comment;
+import org.example.newsfeed.projection.CommentField;
+import org.example.newsfeed.projection.FieldSelection;
+
+public class CommentProjectionRepositoryImpl implements CommentProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findCommentFieldsByPostId(Long postId, Set<CommentField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Comment> comment = query.from(Comment.class);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (CommentField field : fields) {
+            Selection<?> selection = switch (field) {
+                case ID -> comment.get("id");
+                case USER_ID -> comment.join("user").get("userId");
+                case POST_ID -> comment.get("post").get("id"); // 외래 키 컬럼만 읽는다 (post 조인 없음)
+                case CONTENT -> comment.get("content");
+                case PREVIEW -> cb.substring(comment.<String>get("content"), 1, FieldSelection.PREVIEW_LENGTH);
+                case POST_DATE -> comment.get("createdAt");
+                case MODIFIED_DATE -> comment.get("updatedAt");
+            };
+            selections.add(selection.alias(field.jsonName()));
+        }
+        query.multiselect(selections)
+            .where(cb.equal(comment.get("post").get("id"), postId));
+
+        return entityManager.createQuery(query).getResultList().stream()
+            .map(tuple -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (CommentField field : fields) {
+                    row.put(field.jsonName(), tuple.get(field.jsonName()));
+                }
+                return row;
+            })
+            .toList();
+    }
+}
@@ -1,12 +1,28 @@
 package org.example.newsfeed.repository;
 
 
+import java.sql.Timestamp;
 import java.util.List;
 import org.example.newsfeed.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentProjectionRepository {
 
 
     List<Comment> findAllByPostId(Long postId);
+
+    boolean existsByIdAndPostId(Long commentId, Long postId);
+
+    // ETag 용 댓글 버전: 추가/삭제는 개수, 수정은 최종 수정 시각으로 드러난다
+    @Query("select count(c) as count, max(c.updatedAt) as lastUpdatedAt from Comment c where c.post.id = :postId")
+    CommentVersionView findVersionByPostId(@Param("postId") Long postId);
+
+    interface CommentVersionView {
+
+        long getCount();
+
+        Timestamp getLastUpdatedAt();
+    }
 }
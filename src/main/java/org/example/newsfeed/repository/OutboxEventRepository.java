@@ -0,0 +1,50 @@
+package org.example.newsfeed.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import org.example.newsfeed.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 아직 발행하지 않았거나 발행한 지 staleBefore 보다 오래된(처리 완료를 받지 못한) 행을 오래된 순으로 잠그며 가져온다.
+    // 다른 서버가 잠근 행은 기다리지 않고 건너뛴다 (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEvent o where o.dispatchedAt is null or o.dispatchedAt < :staleBefore order by o.id")
+    List<OutboxEvent> findPending(@Param("staleBefore") Timestamp staleBefore, Pageable pageable);
+
+    // 가져온 게시글들의, 내가 잡지 못한 행 중 가장 앞선 id (다른 서버가 처리 중이거나 그 뒤에 쌓인 이벤트)
+    @Query("select o.aggregateId as aggregateId, min(o.id) as firstId from OutboxEvent o"
+        + " where o.aggregateId in :aggregateIds and o.id not in :claimedIds group by o.aggregateId")
+    List<AggregateHeadView> findOtherHeads(@Param("aggregateIds") Collection<Long> aggregateIds,
+        @Param("claimedIds") Collection<Long> claimedIds);
+
+    // 게시글 행을 커밋까지 잠근다 (Outbox.append). 같은 게시글의 이벤트를 쓰는 트랜잭션이 줄을 서므로 id 순서가 커밋 순서가 된다
+    @Query(value = "select id from post where id = :postId for update", nativeQuery = true)
+    Long lockAggregate(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update OutboxEvent o set o.dispatchedAt = :at where o.id in :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("at") Timestamp at);
+
+    @Modifying
+    @Query("delete from OutboxEvent o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface AggregateHeadView {
+
+        Long getAggregateId();
+
+        Long getFirstId();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.newsfeed.repository;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.example.newsfeed.projection.PostField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// fields= 요청용: 고른 컬럼만 SELECT 한다 (작성자는 userId 를 고른 경우에만 조인)
+public interface PostProjectionRepository {
+
+    // from, to 가 null 이면 기간 조건 없음
+    Page<Map<String, Object>> findPostFields(Set<PostField> fields, Timestamp from, Timestamp to, Pageable pageable);
+
+    // count 쿼리 없는 버전
+    Slice<Map<String, Object>> findPostFieldsSlice(Set<PostField> fields, Timestamp from, Timestamp to, Pageable pageable);
+
+    Optional<Map<String, Object>> findPostFieldsById(Long postId, Set<PostField> fields);
+}
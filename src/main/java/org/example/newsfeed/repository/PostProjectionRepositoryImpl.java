@@ -0,0 +1,130 @@
+package org.example.newsfeed.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.example.newsfeed.entity.Post;
+import org.example.newsfeed.projection.FieldSelection;
+import org.example.newsfeed.projection.PostField;
+import org.example.newsfeed.projection.ProjectedRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class PostProjectionRepositoryImpl implements PostProjectionRepository {
+
+    // 목록은 고른 필드와 상관없이 정렬 기준을 함께 읽는다 (샤드별 결과를 합칠 때 쓰고 응답에는 나가지 않음)
+    private static final String SORT_CREATED_AT = "sortCreatedAt";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findPostFields(Set<PostField> fields, Timestamp from, Timestamp to, Pageable pageable) {
+        List<Map<String, Object>> content = content(fields, from, to, pageable.getOffset(), pageable.getPageSize());
+
+        // 마지막 페이지처럼 개수를 알 수 있으면 count 쿼리를 생략한다
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(from, to));
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findPostFieldsSlice(Set<PostField> fields, Timestamp from, Timestamp to, Pageable pageable) {
+        // 한 건 더 읽어서 다음 페이지가 있는지 본다
+        List<Map<String, Object>> content = content(fields, from, to, pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private List<Map<String, Object>> content(Set<PostField> fields, Timestamp from, Timestamp to, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Post> post = query.from(Post.class);
+        List<Selection<?>> selections = selections(cb, post, fields);
+        // postDate 를 골랐으면 그 값을 쓴다 (같은 경로에 별칭을 두 번 붙이면 앞의 별칭이 바뀐다)
+        String sortAlias = fields.contains(PostField.POST_DATE) ? PostField.POST_DATE.jsonName() : SORT_CREATED_AT;
+        if (!fields.contains(PostField.POST_DATE)) {
+            selections.add(post.get("createdAt").alias(SORT_CREATED_AT));
+        }
+        query.multiselect(selections)
+            .where(conditions(cb, post, from, to))
+            .orderBy(cb.desc(post.get("createdAt"))); // 생성일자 기준 최신순
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+            .setFirstResult((int) offset)
+            .setMaxResults(limit);
+        List<Map<String, Object>> rows = new ArrayList<>(limit);
+        for (Tuple tuple : typedQuery.getResultList()) {
+            rows.add(toMap(tuple, fields).withSortValue("createdAt", tuple.get(sortAlias)));
+        }
+        return rows;
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findPostFieldsById(Long postId, Set<PostField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Post> post = query.from(Post.class);
+        query.multiselect(selections(cb, post, fields))
+            .where(cb.equal(post.get("id"), postId), cb.isFalse(post.<Boolean>get("deleted")));
+
+        return entityManager.createQuery(query).getResultList().stream()
+            .findFirst()
+            .map(tuple -> toMap(tuple, fields));
+    }
+
+    private long count(Timestamp from, Timestamp to) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Post> post = query.from(Post.class);
+        query.select(cb.count(post)).where(conditions(cb, post, from, to));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate[] conditions(CriteriaBuilder cb, Root<Post> post, Timestamp from, Timestamp to) {
+        List<Predicate> predicates = new ArrayList<>(3);
+        predicates.add(cb.isFalse(post.<Boolean>get("deleted"))); // 삭제 안된 게시물
+        if (from != null && to != null) {
+            predicates.add(cb.greaterThanOrEqualTo(post.<Timestamp>get("createdAt"), from));
+            predicates.add(cb.lessThan(post.<Timestamp>get("createdAt"), to));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static List<Selection<?>> selections(CriteriaBuilder cb, Root<Post> post, Set<PostField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (PostField field : fields) {
+            Selection<?> selection = switch (field) {
+                case ID -> post.get("id");
+                case USER_ID -> post.join("user").get("userId");
+                case CONTENT -> post.get("content");
+                case PREVIEW -> cb.substring(post.<String>get("content"), 1, FieldSelection.PREVIEW_LENGTH);
+                case POST_DATE -> post.get("createdAt");
+                case MODIFIED_DATE -> post.get("updatedAt");
+            };
+            selections.add(selection.alias(field.jsonName()));
+        }
+        return selections;
+    }
+
+    private static ProjectedRow toMap(Tuple tuple, Set<PostField> fields) {
+        ProjectedRow row = new ProjectedRow();
+        for (PostField field : fields) {
+            row.put(field.jsonName(), tuple.get(field.jsonName()));
+        }
+        return row;
+    }
+}
@@ -1,22 +1,53 @@
 package org.example.newsfeed.repository;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.example.newsfeed.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostProjectionRepository {
 
     Optional<Post> findByIdAndDeleted(Long postId, Boolean deleted);
 
     List<Post> findByDeleted(Boolean deleted);
 
+    List<Post> findAllByIdInAndDeleted(Collection<Long> postIds, Boolean deleted);
+
     Page<Post> findAllByDeleted(Boolean deleted, Pageable pageable);
 
     Page<Post> findAllByDeletedAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(Boolean aFalse, Timestamp timestamp,
         Timestamp timestamp1, Pageable pageable);
-}
 
+    // 개수(count) 쿼리 없이 한 건 더 읽어서 다음 페이지 여부만 판단한다
+    Slice<Post> findSliceByDeleted(Boolean deleted, Pageable pageable);
+
+    Slice<Post> findSliceByDeletedAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(Boolean deleted, Timestamp from,
+        Timestamp to, Pageable pageable);
+
+    // PostCounter 보정용: 테이블을 한 번만 훑어 삭제 여부별 개수를 센다
+    @Query("select p.deleted as deleted, count(p) as count from Post p group by p.deleted")
+    List<DeletedCountView> countGroupByDeleted();
+
+    // ETag 용 버전 조회 (엔티티를 로딩하지 않고 updated_at 만 읽는다)
+    Optional<UpdatedAtView> findUpdatedAtByIdAndDeleted(Long postId, Boolean deleted);
+
+    Optional<UpdatedAtView> findFirstByOrderByUpdatedAtDesc();
+
+    interface UpdatedAtView {
+
+        Timestamp getUpdatedAt();
+    }
+
+    interface DeletedCountView {
+
+        Boolean getDeleted();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.newsfeed.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.example.newsfeed.entity.PostViewerSketch;
+import org.example.newsfeed.entity.PostViewerSketch.Key;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostViewerSketchRepository extends JpaRepository<PostViewerSketch, Key> {
+
+    List<PostViewerSketch> findAllByPostIdIn(Collection<Long> postIds);
+
+    List<PostViewerSketch> findAllByWindowDayAndPostIdIn(Integer windowDay, Collection<Long> postIds);
+}
@@ -0,0 +1,28 @@
+package org.example.newsfeed.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.example.newsfeed.entity.ReactionCounterShard;
+import org.example.newsfeed.entity.ReactionCounterShard.Key;
+import org.example.newsfeed.entity.ReactionTargetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReactionCounterShardRepository extends JpaRepository<ReactionCounterShard, Key> {
+
+    List<ReactionCounterShard> findAllByTargetTypeAndShardAndTargetIdIn(ReactionTargetType targetType, Integer shard,
+        Collection<Long> targetIds);
+
+    @Query("select c.targetId as targetId, sum(c.count) as count from ReactionCounterShard c"
+        + " where c.targetType = :targetType and c.targetId in :targetIds group by c.targetId")
+    List<TargetCountView> sumByTargetIds(@Param("targetType") ReactionTargetType targetType,
+        @Param("targetIds") Collection<Long> targetIds);
+
+    interface TargetCountView {
+
+        Long getTargetId();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.newsfeed.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.example.newsfeed.entity.Reaction;
+import org.example.newsfeed.entity.ReactionTargetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ReactionRepository extends JpaRepository<Reaction, Long> {
+
+    boolean existsByUserIdAndTargetTypeAndTargetId(Long userId, ReactionTargetType targetType, Long targetId);
+
+    // 지운 행 수 (0 이면 이미 취소된 상태)
+    @Transactional
+    @Modifying
+    @Query("delete from Reaction r where r.userId = :userId and r.targetType = :targetType and r.targetId = :targetId")
+    int deleteMembership(@Param("userId") Long userId, @Param("targetType") ReactionTargetType targetType,
+        @Param("targetId") Long targetId);
+
+    // 피드 한 페이지 분량을 쿼리 한 번으로 (uk_reaction_user_target 인덱스)
+    @Query("select r.targetId from Reaction r where r.userId = :userId and r.targetType = :targetType and r.targetId in :targetIds")
+    List<Long> findReactedTargetIds(@Param("userId") Long userId, @Param("targetType") ReactionTargetType targetType,
+        @Param("targetIds") Collection<Long> targetIds);
+}
@@ -7,19 +7,20 @@ import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.cache.PostCounter;
 import org.example.newsfeed.entity.Post;
 import org.example.newsfeed.repository.PostRepository;
 import org.springframework.cglib.core.Local;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+// 트랜잭션은 레포지토리 호출마다: 샤딩을 켜면 삭제할 게시글이 여러 샤드에 있고, 트랜잭션 하나는 샤드 하나만 쓸 수 있다
 @Component
 @RequiredArgsConstructor
-@Transactional //
 public class Scheduler {
 
     private final PostRepository postRepository;
+    private final PostCounter postCounter;
 
     @Scheduled(cron = "0 0 0 * * *")
     public void deletePost() {
@@ -28,6 +29,7 @@ public class Scheduler {
         LocalDate nowDate = now.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
 
         long daysBetween;
+        long purged = 0;
 
         List<Post> posts = postRepository.findByDeleted(Boolean.TRUE);
 
@@ -40,8 +42,10 @@ public class Scheduler {
             if (daysBetween >= 90) {
 
                 postRepository.delete(post);
+                purged++;
             }
         }
+        postCounter.postsPurged(purged);
 
 
     }
@@ -2,17 +2,25 @@ package org.example.newsfeed.service;
 
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.example.newsfeed.dto.CommentRequestDTO;
 import org.example.newsfeed.entity.Comment;
 import org.example.newsfeed.entity.Post;
 import org.example.newsfeed.entity.User;
+import org.example.newsfeed.event.CommentCreatedEvent;
+import org.example.newsfeed.event.CommentDeletedEvent;
+import org.example.newsfeed.event.CommentUpdatedEvent;
 import org.example.newsfeed.exception.CommentNotFoundException;
 import org.example.newsfeed.exception.InvalidUserException;
 import org.example.newsfeed.exception.PostNotFoundException;
+import org.example.newsfeed.outbox.Outbox;
+import org.example.newsfeed.projection.CommentField;
 import org.example.newsfeed.repository.CommentRepository;
 import org.example.newsfeed.repository.PostRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @AllArgsConstructor
@@ -20,13 +28,17 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final Outbox outbox;
 
+    @Transactional // 변경과 outbox 이벤트를 함께 커밋
     public Comment creatComment(Long postId, CommentRequestDTO dto, User user) {
         var newComment = dto.toEntity(user);
         Post post = postRepository.findByIdAndDeleted(postId, Boolean.FALSE)
             .orElseThrow(() -> new PostNotFoundException("해당 게시물이 존재하지 않습니다."));
         newComment.setPost(post);
-        return commentRepository.save(newComment);
+        Comment comment = commentRepository.save(newComment);
+        outbox.append(new CommentCreatedEvent(comment.getId(), postId)); // 댓글 목록 ETag, 인기 점수
+        return comment;
 
 
     }
@@ -42,6 +54,17 @@ public class CommentService {
 
     }
 
+    // fields= : 고른 필드의 컬럼만 읽는다 (게시글 존재 확인도 updated_at 만)
+    public List<Map<String, Object>> getCommentFields(Long postId, Set<CommentField> fields) {
+
+        if (postRepository.findUpdatedAtByIdAndDeleted(postId, Boolean.FALSE).isPresent()) {
+            return commentRepository.findCommentFieldsByPostId(postId, fields);
+        }else{
+            throw new PostNotFoundException("해당 게시물이 존재하지 않습니다.");
+        }
+    }
+
+    @Transactional
     public Comment updateComment(Long commentId, CommentRequestDTO dto, User user) {
 
         Comment comment = commentRepository.findById(commentId)
@@ -58,9 +81,12 @@ public class CommentService {
             throw new InvalidUserException("작성자가 아닙니다.");
         }
 
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        outbox.append(new CommentUpdatedEvent(commentId, comment.getPost().getId()));
+        return saved;
     }
 
+    @Transactional
     public void deleteComment(Long commentId, User user) {
 
         Comment comment = commentRepository.findById(commentId)
@@ -72,6 +98,7 @@ public class CommentService {
 
         if (comment.getUser().getId().equals(user.getId())) {
             commentRepository.delete(comment);
+            outbox.append(new CommentDeletedEvent(commentId, comment.getPost().getId()));
         } else {
             throw new InvalidUserException("작성자가 아닙니다.");
         }
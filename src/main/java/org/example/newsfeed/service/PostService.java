@@ -3,34 +3,65 @@ package org.example.newsfeed.service;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
+import org.example.newsfeed.cache.JsonFragment;
+import org.example.newsfeed.cache.PostCounter;
+import org.example.newsfeed.cache.PostJsonCache;
+import org.example.newsfeed.cache.PostVersionIndex;
+import org.example.newsfeed.dto.PostBatchResponseDTO;
 import org.example.newsfeed.dto.PostRequestDTO;
 import org.example.newsfeed.dto.PostResponseDTO;
 import org.example.newsfeed.dto.SearchRequestDTO;
 import org.example.newsfeed.entity.Post;
 import org.example.newsfeed.entity.User;
+import org.example.newsfeed.event.PostCreatedEvent;
+import org.example.newsfeed.event.PostDeletedEvent;
+import org.example.newsfeed.event.PostUpdatedEvent;
 import org.example.newsfeed.exception.InvalidUserException;
 import org.example.newsfeed.exception.PostNotFoundException;
+import org.example.newsfeed.outbox.Outbox;
+import org.example.newsfeed.projection.PostField;
 import org.example.newsfeed.repository.PostRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @AllArgsConstructor
 public class PostService {
 
+    // hibernate.default_batch_fetch_size 와 같게: 작성자를 쿼리 한 번으로 가져온다
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private static final int PAGE_SIZE = 10; //각 페이지 당 뉴스피드 데이터가 10개씩
+
     private PostRepository postRepository;
+    private PostVersionIndex postVersionIndex;
+    private PostJsonCache postJsonCache;
+    private PostCounter postCounter;
+    private Outbox outbox;
 
+    @Transactional // 변경과 outbox 이벤트를 함께 커밋
     public Post createPost(PostRequestDTO dto, User user) {
 
         var newPost = dto.toEntity(user); //userid 추가해서 post 생성
-        return postRepository.save(newPost);
+        Post post = postRepository.save(newPost);
+        outbox.append(new PostCreatedEvent(post.getId())); // 피드 ETag, 게시글 수 갱신
+        return post;
     }
 
+    @Transactional
     public Post updatePost(Long postId, PostRequestDTO dto, User user) {
 
         Post post = postRepository.findByIdAndDeleted(postId, Boolean.FALSE)
@@ -44,10 +75,13 @@ public class PostService {
         }
 
 
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        outbox.append(new PostUpdatedEvent(postId)); // ETag, JSON 캐시 무효화
+        return saved;
 
     }
 
+    @Transactional
     public void deletePost(Long postId, User user) {
         Post post = postRepository.findByIdAndDeleted(postId, Boolean.FALSE)
             .orElseThrow(()->new PostNotFoundException("해당 게시글이 존재하지 않습니다."));
@@ -59,6 +93,7 @@ public class PostService {
         }
 
         postRepository.save(post);
+        outbox.append(new PostDeletedEvent(postId)); // ETag, JSON 캐시, 게시글 수, 인기 순위
         //postRepository.delete(post);
     }
 
@@ -69,9 +104,101 @@ public class PostService {
 
     }
 
+    // 버전이 같은 직렬화 결과가 있으면 게시글을 읽지 않고 그대로 쓴다
+    public JsonFragment getPostJson(Long postId) {
+        String version = postVersionIndex.postVersion(postId);
+        JsonFragment cached = version == null ? null : postJsonCache.find(postId, version);
+        return cached != null ? cached : postJsonCache.get(getPost(postId));
+    }
+
+    // 여러 게시글을 한 번에: 캐시에 있는 것은 그대로 쓰고, 나머지는 IN 쿼리 한 번 + 작성자 배치 조회 한 번
+    public PostBatchResponseDTO getPostsByIds(List<Long> postIds) {
+        Set<Long> ids = new LinkedHashSet<>(postIds); // 요청 순서 유지, 중복 제거
+        ids.remove(null);
+        Map<Long, JsonFragment> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            String version = postVersionIndex.peekPostVersion(id);
+            JsonFragment cached = version == null ? null : postJsonCache.find(id, version);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (Post post : postRepository.findAllByIdInAndDeleted(misses, Boolean.FALSE)) {
+                found.put(post.getId(), postJsonCache.get(post));
+                postVersionIndex.rememberPost(post.getId(), PostVersionIndex.versionOf(post.getUpdatedAt()));
+            }
+        }
+
+        List<JsonFragment> posts = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            JsonFragment json = found.get(id);
+            if (json != null) {
+                posts.add(json);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new PostBatchResponseDTO(posts, missingIds);
+    }
+
     public Page<PostResponseDTO> getPosts(int page, boolean canSearch, SearchRequestDTO dto) {
+        return findPosts(page, canSearch, dto).map(post -> new PostResponseDTO(post));
+    }
+
+    // 페이지 본문은 게시글별로 캐시된 JSON 조각을 이어 붙인다 (작성자 조회, DTO 생성, 직렬화 생략)
+    public Page<JsonFragment> getPostsJson(int page, boolean canSearch, SearchRequestDTO dto) {
+        return findPosts(page, canSearch, dto).map(postJsonCache::get);
+    }
+
+    // slice=true : count(*) 없이 다음 페이지 여부만
+    public Slice<JsonFragment> getPostsJsonSlice(int page, boolean canSearch, SearchRequestDTO dto) {
+        Pageable pageable = pageRequest(page);
+        Slice<Post> posts;
+        if (!canSearch) {
+            posts = postRepository.findSliceByDeleted(Boolean.FALSE, pageable);
+        } else {
+            posts = postRepository.findSliceByDeletedAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(Boolean.FALSE,
+                firstDateToTimestamp(dto.getFirstDate()), lastDateToTimestamp(dto.getLastDate()), pageable);
+        }
+        return posts.map(postJsonCache::get);
+    }
+
+    // 전체 게시글 수 근사값 (테이블을 훑지 않는다)
+    public long getApproximatePostCount() {
+        return postCounter.liveCount();
+    }
+
+    // fields= : 고른 필드의 컬럼만 읽어서 그대로 응답한다
+    public Page<Map<String, Object>> getPostFields(int page, boolean canSearch, SearchRequestDTO dto, Set<PostField> fields) {
+        Timestamp from = canSearch ? firstDateToTimestamp(dto.getFirstDate()) : null;
+        Timestamp to = canSearch ? lastDateToTimestamp(dto.getLastDate()) : null;
+        return postRepository.findPostFields(fields, from, to, pageRequest(page));
+    }
+
+    public Slice<Map<String, Object>> getPostFieldsSlice(int page, boolean canSearch, SearchRequestDTO dto, Set<PostField> fields) {
+        Timestamp from = canSearch ? firstDateToTimestamp(dto.getFirstDate()) : null;
+        Timestamp to = canSearch ? lastDateToTimestamp(dto.getLastDate()) : null;
+        return postRepository.findPostFieldsSlice(fields, from, to, pageRequest(page));
+    }
+
+    public Map<String, Object> getPostFields(Long postId, Set<PostField> fields) {
+        return postRepository.findPostFieldsById(postId, fields)
+            .orElseThrow(()->new PostNotFoundException("해당 게시글이 존재하지 않습니다."));
+    }
+
+    private static Pageable pageRequest(int page) {
         Sort sort = Sort.by(Direction.DESC, "createdAt"); //생성일자 기준 최신순
-        Pageable pageable = PageRequest.of(page, 10, sort); //각 페이지 당 뉴스피드 데이터가 10개씩
+        return PageRequest.of(page, PAGE_SIZE, sort);
+    }
+
+    private Page<Post> findPosts(int page, boolean canSearch, SearchRequestDTO dto) {
+        Pageable pageable = pageRequest(page);
         Page<Post> posts;
         if (!canSearch) {   //전체조회
             posts = postRepository.findAllByDeleted(Boolean.FALSE, pageable); // 삭제 안된 게시물 불러오기
@@ -80,7 +207,7 @@ public class PostService {
                 firstDateToTimestamp(dto.getFirstDate()), lastDateToTimestamp(dto.getLastDate()),
                 pageable);  //삭제 안된 게시물, 기간별 검색
         }
-        return posts.map(post -> new PostResponseDTO(post));
+        return posts;
     }
     public Timestamp firstDateToTimestamp(String dateString) {
         return Timestamp.valueOf(LocalDate.parse(dateString).atStartOfDay());
@@ -0,0 +1,80 @@
+package org.example.newsfeed.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import org.example.newsfeed.dto.ReactionResponseDTO;
+import org.example.newsfeed.entity.Reaction;
+import org.example.newsfeed.entity.ReactionTargetType;
+import org.example.newsfeed.entity.User;
+import org.example.newsfeed.exception.CommentNotFoundException;
+import org.example.newsfeed.exception.PostNotFoundException;
+import org.example.newsfeed.reaction.ReactionCounter;
+import org.example.newsfeed.repository.CommentRepository;
+import org.example.newsfeed.repository.PostRepository;
+import org.example.newsfeed.repository.ReactionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+@Service
+@AllArgsConstructor
+public class ReactionService {
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCounter reactionCounter;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    // 좋아요: 이미 눌렀으면 아무것도 바뀌지 않는다
+    public ReactionResponseDTO react(ReactionTargetType type, Long targetId, User user) {
+        if (!reactionRepository.existsByUserIdAndTargetTypeAndTargetId(user.getId(), type, targetId)) {
+            try {
+                reactionRepository.saveAndFlush(new Reaction(user.getId(), type, targetId));
+                reactionCounter.add(type, targetId, 1);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 요청이 동시에 들어와 다른 쪽이 먼저 저장했다 (유니크 제약)
+            }
+        }
+        return new ReactionResponseDTO(targetId, true, reactionCounter.count(type, targetId));
+    }
+
+    // 좋아요 취소: 누르지 않았으면 아무것도 바뀌지 않는다
+    public ReactionResponseDTO unreact(ReactionTargetType type, Long targetId, User user) {
+        if (reactionRepository.deleteMembership(user.getId(), type, targetId) > 0) {
+            reactionCounter.add(type, targetId, -1);
+        }
+        return new ReactionResponseDTO(targetId, false, reactionCounter.count(type, targetId));
+    }
+
+    // 피드 한 페이지: 내가 누른 것(쿼리 1번) + 좋아요 수(쿼리 1번), 요청 순서대로
+    public List<ReactionResponseDTO> getReactions(ReactionTargetType type, List<Long> targetIds, User user) {
+        Set<Long> ids = new LinkedHashSet<>(targetIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> reacted = new HashSet<>(reactionRepository.findReactedTargetIds(user.getId(), type, ids));
+        Map<Long, Long> counts = reactionCounter.counts(type, ids);
+        List<ReactionResponseDTO> reactions = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            reactions.add(new ReactionResponseDTO(id, reacted.contains(id), counts.getOrDefault(id, 0L)));
+        }
+        return reactions;
+    }
+
+    public void checkPost(Long postId) {
+        if (postRepository.findUpdatedAtByIdAndDeleted(postId, Boolean.FALSE).isEmpty()) {
+            throw new PostNotFoundException("해당 게시글이 존재하지 않습니다.");
+        }
+    }
+
+    public void checkComment(Long postId, Long commentId) {
+        if (!commentRepository.existsByIdAndPostId(commentId, postId)) {
+            throw new CommentNotFoundException("해당 댓글이 존재하지 않습니다.");
+        }
+    }
+}
@@ -10,6 +10,8 @@ import org.example.newsfeed.dto.SignupRequestDTO;
 import org.example.newsfeed.dto.UserRequestDTO;
 import org.example.newsfeed.entity.User;
 import org.example.newsfeed.entity.UserStatusEnum;
+import org.example.newsfeed.event.EventBus;
+import org.example.newsfeed.event.UserWithdrawnEvent;
 import org.example.newsfeed.exception.AlreadyWithdrawnUserException;
 import org.example.newsfeed.exception.InvalidPasswordException;
 import org.example.newsfeed.exception.PasswordMismatchException;
@@ -30,6 +32,7 @@ public class UserService {
     private final UserRepository userRepository;
     private static final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
     private final JwtUtil jwtUtil;
+    private final EventBus eventBus;
 
     // 비밀번호 암호화
     private String encodePassword(String password) {
@@ -84,6 +87,7 @@ public class UserService {
 
         user.setStatus(UserStatusEnum.WITHDRAWN);
         userRepository.save(user);
+        eventBus.publish(new UserWithdrawnEvent(user.getId())); // 커밋 후 발행
         // 상태 변경 로그 추가
         System.out.println("User status changed to WITHDRAWN for userId: " + userId);
     }
@@ -102,6 +106,7 @@ public class UserService {
 
         user.setStatus(UserStatusEnum.WITHDRAWN);
         userRepository.save(user);
+        eventBus.publish(new UserWithdrawnEvent(user.getId())); // 커밋 후 발행
     }
 
 
@@ -0,0 +1,48 @@
+package org.example.newsfeed.sharding;
+
+import java.util.Arrays;
+
+// 작성자 id -> 샤드. 샤드마다 virtualNodes 개의 점을 링에 뿌리고, 키의 해시에서 시계 방향으로 처음 만나는 점의 샤드를 고른다.
+// 점의 위치는 샤드 번호로만 정해지므로 샤드를 뒤에 추가하면 새 샤드로 옮겨 가는 작성자만 바뀐다 (약 1/N)
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(int shards, int virtualNodes) {
+        if (shards < 1 || shards > ShardIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 수는 1 이상 " + ShardIds.MAX_SHARDS + " 이하: " + shards);
+        }
+        long[][] entries = new long[shards * virtualNodes][];
+        for (int shard = 0; shard < shards; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                entries[shard * virtualNodes + node] = new long[]{mix(((long) shard << 32) | node), shard};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+        points = new long[entries.length];
+        owners = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            points[i] = entries[i][0];
+            owners[i] = (int) entries[i][1];
+        }
+    }
+
+    public int shardOf(long key) {
+        int index = Arrays.binarySearch(points, mix(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    // murmur3 fmix64: 연속된 id 도 링 위에 고르게 흩어진다
+    static long mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+}
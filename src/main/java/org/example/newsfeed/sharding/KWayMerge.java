@@ -0,0 +1,59 @@
+package org.example.newsfeed.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 샤드마다 정렬되어 온 목록을 하나로 합친다. 앞의 skip 개를 건너뛰고 limit 개까지만 만든다.
+// 비교가 같으면 앞 샤드 것이 먼저 (정렬 기준이 없거나 값이 없는 항목은 샤드 순서 그대로)
+public final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    public static <T> List<T> merge(List<? extends List<? extends T>> sortedLists, Comparator<? super T> comparator,
+        long skip, int limit) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>((a, b) -> {
+            int order = comparator.compare(a.head(), b.head());
+            return order != 0 ? order : Integer.compare(a.list, b.list);
+        });
+        for (int i = 0; i < sortedLists.size(); i++) {
+            List<? extends T> list = sortedLists.get(i);
+            if (!list.isEmpty()) {
+                heads.add(new Cursor<>(list, i));
+            }
+        }
+        List<T> merged = new ArrayList<>((int) Math.min(limit, 1_024));
+        long skipped = 0;
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor<T> cursor = heads.poll();
+            T item = cursor.head();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                merged.add(item);
+            }
+            if (++cursor.position < cursor.items.size()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor<T> {
+
+        private final List<? extends T> items;
+        private final int list;
+        private int position;
+
+        private Cursor(List<? extends T> items, int list) {
+            this.items = items;
+            this.list = list;
+        }
+
+        private T head() {
+            return items.get(position);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.newsfeed.sharding;
+
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 지금 스레드가 쓸 샤드. ShardRoutingDataSource 가 커넥션을 얻을 때 읽는다 (없으면 홈 샤드)
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+    private static final Object PIN = new Object();
+
+    private ShardContext() {
+    }
+
+    // 트랜잭션이 샤드에 고정되어 있으면 그 샤드가 우선이다
+    public static Integer current() {
+        Integer pinned = pinned();
+        return pinned != null ? pinned : CURRENT.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+
+    // work 동안만 shard 를 쓰고 원래 값으로 되돌린다
+    public static <T> T call(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    // 트랜잭션이 쓰는 샤드 (아직 커넥션을 얻지 않았으면 null)
+    public static Integer pinned() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        return (Integer) TransactionSynchronizationManager.getResource(PIN);
+    }
+
+    // 트랜잭션 하나는 커넥션 하나, 즉 DB 하나만 쓴다. 처음 정해진 샤드를 커밋(롤백)까지 고정하고 그 샤드를 돌려준다.
+    // 트랜잭션 밖이면 고정하지 않고 shard 를 그대로 돌려준다
+    static int pin(int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return shard;
+        }
+        Integer pinned = (Integer) TransactionSynchronizationManager.getResource(PIN);
+        if (pinned != null) {
+            return pinned;
+        }
+        TransactionSynchronizationManager.bindResource(PIN, shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PIN);
+            }
+        });
+        return shard;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.newsfeed.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.sql.DataSource;
+
+// 샤드별 커넥션 풀 (번호 순서). 애플리케이션의 DataSource 는 이 풀들을 ShardRoutingDataSource 로 묶은 것이고,
+// 홈 샤드 id 블록이나 사용자 복제처럼 라우팅 없이 특정 샤드에 바로 써야 할 때 여기서 꺼낸다
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<HikariDataSource> pools;
+
+    public ShardDataSources(ShardingProperties properties) {
+        List<HikariDataSource> created = new ArrayList<>(properties.getShards().size());
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("shard-" + created.size());
+            pool.setJdbcUrl(shard.getUrl());
+            pool.setUsername(shard.getUsername());
+            pool.setPassword(shard.getPassword());
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            created.add(pool);
+        }
+        this.pools = Collections.unmodifiableList(created);
+    }
+
+    public int size() {
+        return pools.size();
+    }
+
+    public DataSource get(int shard) {
+        return pools.get(shard);
+    }
+
+    public DataSource home() {
+        return pools.get(ShardIds.HOME_SHARD);
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.newsfeed.sharding;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 게시글/댓글 id 의 순번 (hi/lo). 홈 샤드의 shard_id_block 행에서 blockSize 개씩 받아 메모리에서 나눠 준다.
+// 서버가 여럿이어도 블록이 겹치지 않으므로 어느 샤드에 쓰든 id 가 하나뿐이다 (재시작하면 남은 블록은 버려져 번호가 빈다)
+public class ShardIdAllocator {
+
+    private final JdbcTemplate home;
+    private final TransactionTemplate transaction;
+    private final int blockSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    // homeDataSource 는 라우팅 없이 홈 샤드 풀: 게시글을 쓰는 트랜잭션(다른 샤드)과 별개로 바로 커밋한다
+    public ShardIdAllocator(DataSource homeDataSource, int blockSize) {
+        this.home = new JdbcTemplate(homeDataSource);
+        this.transaction = new TransactionTemplate(new DataSourceTransactionManager(homeDataSource));
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public long next(String name) {
+        Block block = blocks.computeIfAbsent(name, n -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                long limit = reserve(name);
+                block.next = limit - blockSize;
+                block.limit = limit;
+            }
+            return block.next++;
+        }
+    }
+
+    // [반환값 - blockSize, 반환값) 을 이 서버 몫으로 잡는다. 순번은 1 부터
+    private long reserve(String name) {
+        try {
+            return transaction.execute(status -> reserveRow(name));
+        } catch (DuplicateKeyException e) {
+            // 다른 서버가 같은 이름의 첫 행을 동시에 만들었다: 다시 하면 update 가 된다
+            return transaction.execute(status -> reserveRow(name));
+        }
+    }
+
+    private long reserveRow(String name) {
+        int updated = home.update("update shard_id_block set next_val = next_val + ? where name = ?", blockSize, name);
+        if (updated == 0) {
+            home.update("insert into shard_id_block (name, next_val) values (?, ?)", name, 1L + blockSize);
+        }
+        return home.queryForObject("select next_val from shard_id_block where name = ?", Long.class, name);
+    }
+
+    private static final class Block {
+
+        private long next;
+        private long limit;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.newsfeed.sharding;
+
+// 게시글/댓글 id = 순번 * 64 + 샤드 번호. id 만 보고 어느 샤드에 있는지 안다 (댓글은 게시글과 같은 샤드).
+// 순번은 홈 샤드 한 곳에서 나눠 주므로(ShardIdAllocator) 샤드가 달라도 id 가 겹치지 않는다
+public final class ShardIds {
+
+    public static final int HOME_SHARD = 0;
+    public static final int MAX_SHARDS = 64;
+
+    private static final int SHARD_BITS = 6;
+
+    private ShardIds() {
+    }
+
+    public static long compose(long sequence, int shard) {
+        return (sequence << SHARD_BITS) | shard;
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id & (MAX_SHARDS - 1));
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.newsfeed.sharding;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 샤드 고르기와 샤드 단위 실행. 작성자의 게시글(과 그 댓글)은 모두 한 샤드에 있다
+public class ShardRouter {
+
+    private final int shardCount;
+    private final ConsistentHashRing ring;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    private final ExecutorService scatterExecutor;
+
+    public ShardRouter(ShardingProperties properties, PlatformTransactionManager transactionManager) {
+        this.shardCount = properties.getShards().size();
+        this.ring = new ConsistentHashRing(shardCount, properties.getVirtualNodes());
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.scatterExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getScatterThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        scatterExecutor.shutdownNow();
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // 새 게시글이 갈 샤드 (사용자 PK 기준)
+    public int shardOfAuthor(long userId) {
+        return ring.shardOf(userId);
+    }
+
+    // 이미 있는 게시글/댓글의 샤드는 id 에 들어 있다
+    public int shardOfId(long id) {
+        int shard = ShardIds.shardOf(id);
+        if (shard >= shardCount) {
+            throw new IllegalStateException("id " + id + " 는 없는 샤드 " + shard + " 를 가리킴 (샤드 " + shardCount + " 개)");
+        }
+        return shard;
+    }
+
+    // 지금 스레드에서 shard 의 트랜잭션으로 실행한다 (이미 트랜잭션 안이면 호출하지 않는다: ShardRoutingAspect 참고)
+    public <T> T onShard(int shard, Supplier<T> work) {
+        return ShardContext.call(shard, () -> writeTransaction.execute(status -> work.get()));
+    }
+
+    // 모든 샤드에서 동시에 실행하고 결과를 샤드 순서로 돌려준다. 샤드마다 따로 트랜잭션이고 하나라도 실패하면 예외
+    public <T> List<T> scatter(boolean readOnly, IntFunction<T> work) {
+        TransactionTemplate transaction = readOnly ? readTransaction : writeTransaction;
+        List<Future<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(scatterExecutor.submit(() -> ShardContext.call(target, () -> transaction.execute(status -> work.apply(target)))));
+        }
+        List<T> results = new ArrayList<>(shardCount);
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("샤드 조회 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("샤드 조회 실패", e.getCause());
+        }
+        return results;
+    }
+}
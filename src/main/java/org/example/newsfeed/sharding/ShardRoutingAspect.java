@@ -0,0 +1,364 @@
+package org.example.newsfeed.sharding;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.newsfeed.entity.Comment;
+import org.example.newsfeed.entity.Post;
+import org.example.newsfeed.projection.ProjectedRow;
+import org.example.newsfeed.repository.CommentRepository;
+import org.example.newsfeed.repository.NewsFeedRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 게시글/댓글 레포지토리 호출을 샤드로 보낸다. 서비스 코드는 샤딩을 모른다.
+//  - id 목록(findAllByIdIn..., saveAll 등): 샤드별로 나눠 각 샤드에 보내고 합친다
+//  - Post/Comment 엔티티 인자: 엔티티의 id (새 게시글은 작성자, 새 댓글은 게시글) 로 샤드 하나
+//  - 첫 인자가 Long: 게시글 id (댓글 레포지토리는 댓글 id 또는 게시글 id, 둘 다 같은 샤드) 로 샤드 하나
+//  - 그 밖(피드, 기간 검색, 개수): 모든 샤드에 동시에 보내고 정렬 기준대로 k-way merge
+// 트랜잭션 안에서 샤드 하나로 가는 호출은 트랜잭션을 그 샤드에 고정한다. 다른 샤드로 가는 쓰기는 원자적으로 할 수 없어 예외.
+// 돌려주는 엔티티는 작성자(와 피드는 댓글)를 미리 읽어 둔다: sharded 프로필은 open-in-view 를 끄므로 트랜잭션 밖에서는 지연 로딩이 안 된다
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE) // 메트릭/로그 aspect 는 샤드 호출마다 안쪽에서
+public class ShardRoutingAspect {
+
+    private final ShardRouter router;
+    // 메서드 이름에서 읽은 정렬/개수 제한 (findFirstByOrderByUpdatedAtDesc 등). 파생 쿼리가 아니면 없음
+    private final Map<Method, Optional<PartTree>> partTrees = new ConcurrentHashMap<>();
+
+    public ShardRoutingAspect(ShardRouter router) {
+        this.router = router;
+    }
+
+    @Around("target(org.example.newsfeed.repository.PostRepository)"
+        + " || target(org.example.newsfeed.repository.CommentRepository)"
+        + " || target(org.example.newsfeed.repository.NewsFeedRepository)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return joinPoint.proceed();
+        }
+        Object[] args = joinPoint.getArgs();
+        boolean feed = joinPoint.getTarget() instanceof NewsFeedRepository;
+
+        if (args.length > 0 && args[0] instanceof Iterable<?> keys) {
+            Map<Integer, List<Object>> groups = partition(keys);
+            if (groups != null) {
+                return byGroups(joinPoint, method, args, groups, feed);
+            }
+        }
+        for (Object arg : args) {
+            Integer shard = shardOfEntity(arg);
+            if (shard != null) {
+                return onShard(shard, joinPoint, args, feed);
+            }
+        }
+        if (args.length > 0 && args[0] instanceof Long id) {
+            return onShard(router.shardOfId(id), joinPoint, args, feed);
+        }
+        return scatter(joinPoint, method, args, feed);
+    }
+
+    private Object onShard(int shard, ProceedingJoinPoint joinPoint, Object[] args, boolean feed) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            Integer pinned = ShardContext.pinned();
+            if (pinned != null && pinned != shard) {
+                throw new IllegalStateException("트랜잭션이 이미 샤드 " + pinned + " 를 쓰고 있어 샤드 " + shard + " 에 접근할 수 없음");
+            }
+            ShardContext.pin(shard);
+            return initialize(joinPoint.proceed(args), feed);
+        }
+        try {
+            return router.onShard(shard, () -> initialize(proceed(joinPoint, args), feed));
+        } catch (ProceedFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object scatter(ProceedingJoinPoint joinPoint, Method method, Object[] args, boolean feed) throws Throwable {
+        boolean readOnly = isRead(method);
+        requireReadOrNoTransaction(readOnly, method);
+
+        Pageable pageable = null;
+        Sort sort = Sort.unsorted();
+        Object[] shardArgs = args.clone();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Pageable requested && requested.isPaged()) {
+                // 샤드마다 앞에서부터 offset + size 개를 읽어야 합친 뒤 그 페이지를 정확히 자를 수 있다
+                pageable = requested;
+                sort = requested.getSort();
+                shardArgs[i] = PageRequest.of(0, Math.toIntExact(requested.getOffset() + requested.getPageSize()), sort);
+            } else if (args[i] instanceof Sort requested) {
+                sort = requested;
+            }
+        }
+        PartTree tree = partTree(joinPoint, method);
+        if (sort.isUnsorted() && tree != null) {
+            sort = tree.getSort();
+        }
+        Comparator<Object> comparator = comparator(sort);
+
+        List<Object> results;
+        try {
+            results = router.scatter(readOnly, shard -> initialize(proceed(joinPoint, shardArgs.clone()), feed));
+        } catch (ProceedFailure e) {
+            throw e.getCause();
+        }
+        int limit = tree != null && tree.getMaxResults() != null ? tree.getMaxResults() : Integer.MAX_VALUE;
+        return merge(method.getReturnType(), results, pageable, sort.isSorted() ? comparator : null, limit);
+    }
+
+    private Object byGroups(ProceedingJoinPoint joinPoint, Method method, Object[] args, Map<Integer, List<Object>> groups,
+        boolean feed) throws Throwable {
+        if (groups.size() == 1) {
+            Map.Entry<Integer, List<Object>> only = groups.entrySet().iterator().next();
+            return onShard(only.getKey(), joinPoint, withFirst(args, only.getValue()), feed);
+        }
+        boolean readOnly = isRead(method);
+        requireReadOrNoTransaction(readOnly, method);
+        List<Object> results;
+        try {
+            // 키가 없는 샤드는 건너뛴다
+            results = router.scatter(readOnly, shard -> groups.containsKey(shard)
+                ? initialize(proceed(joinPoint, withFirst(args, groups.get(shard))), feed)
+                : null);
+        } catch (ProceedFailure e) {
+            throw e.getCause();
+        }
+        results.removeIf(result -> result == null && method.getReturnType() != void.class);
+        return merge(method.getReturnType(), results, null, null, Integer.MAX_VALUE);
+    }
+
+    // id(Long) 또는 엔티티 목록을 샤드별로 나눈다. 둘 다 아니거나 비어 있으면 null
+    private Map<Integer, List<Object>> partition(Iterable<?> keys) {
+        Map<Integer, List<Object>> groups = new LinkedHashMap<>();
+        for (Object key : keys) {
+            Integer shard = key instanceof Long id ? Integer.valueOf(router.shardOfId(id)) : shardOfEntity(key);
+            if (shard == null) {
+                return null;
+            }
+            groups.computeIfAbsent(shard, s -> new ArrayList<>()).add(key);
+        }
+        return groups.isEmpty() ? null : groups;
+    }
+
+    private Integer shardOfEntity(Object arg) {
+        if (arg instanceof Post post) {
+            if (post.getId() != null) {
+                return router.shardOfId(post.getId());
+            }
+            if (post.getUser() == null || post.getUser().getId() == null) {
+                throw new IllegalStateException("작성자가 없는 게시글은 샤드를 정할 수 없음");
+            }
+            return router.shardOfAuthor(post.getUser().getId());
+        }
+        if (arg instanceof Comment comment) {
+            if (comment.getId() != null) {
+                return router.shardOfId(comment.getId());
+            }
+            // 댓글은 게시글과 같은 샤드 (게시글 조회 한 번에 댓글까지)
+            if (comment.getPost() == null || comment.getPost().getId() == null) {
+                throw new IllegalStateException("게시글이 없는 댓글은 샤드를 정할 수 없음");
+            }
+            return router.shardOfId(comment.getPost().getId());
+        }
+        return null;
+    }
+
+    private static void requireReadOrNoTransaction(boolean readOnly, Method method) {
+        if (!readOnly && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("트랜잭션 안에서 여러 샤드에 쓸 수 없음: " + method.getName());
+        }
+    }
+
+    private static boolean isRead(Method method) {
+        String name = method.getName();
+        return name.startsWith("find") || name.startsWith("count") || name.startsWith("exists") || name.startsWith("get")
+            || name.startsWith("read") || name.startsWith("query") || name.startsWith("search");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object merge(Class<?> type, List<Object> results, Pageable pageable, Comparator<Object> comparator, int limit) {
+        if (type == void.class) {
+            return null;
+        }
+        if (Page.class.isAssignableFrom(type)) {
+            List<List<Object>> contents = new ArrayList<>(results.size());
+            long total = 0;
+            for (Object result : results) {
+                Page<Object> page = (Page<Object>) result;
+                contents.add(page.getContent());
+                total += page.getTotalElements();
+            }
+            if (pageable == null) {
+                return new PageImpl<>(concatOrMerge(contents, comparator, 0, Integer.MAX_VALUE));
+            }
+            return new PageImpl<>(concatOrMerge(contents, comparator, pageable.getOffset(), pageable.getPageSize()), pageable, total);
+        }
+        if (Slice.class.isAssignableFrom(type)) {
+            List<List<Object>> contents = new ArrayList<>(results.size());
+            long seen = 0;
+            boolean anyHasNext = false;
+            for (Object result : results) {
+                Slice<Object> slice = (Slice<Object>) result;
+                contents.add(slice.getContent());
+                seen += slice.getNumberOfElements();
+                anyHasNext |= slice.hasNext();
+            }
+            if (pageable == null) {
+                return new SliceImpl<>(concatOrMerge(contents, comparator, 0, Integer.MAX_VALUE));
+            }
+            boolean hasNext = anyHasNext || seen > pageable.getOffset() + pageable.getPageSize();
+            return new SliceImpl<>(concatOrMerge(contents, comparator, pageable.getOffset(), pageable.getPageSize()), pageable, hasNext);
+        }
+        if (Collection.class.isAssignableFrom(type) || type == Iterable.class) {
+            List<List<Object>> contents = new ArrayList<>(results.size());
+            for (Object result : results) {
+                List<Object> items = new ArrayList<>();
+                ((Iterable<Object>) result).forEach(items::add);
+                contents.add(items);
+            }
+            return concatOrMerge(contents, comparator, 0, limit);
+        }
+        if (type == Optional.class) {
+            List<Object> found = new ArrayList<>();
+            for (Object result : results) {
+                ((Optional<Object>) result).ifPresent(found::add);
+            }
+            List<Object> best = concatOrMerge(List.of(found), comparator, 0, found.size());
+            return best.isEmpty() ? Optional.empty() : Optional.of(best.get(0));
+        }
+        if (type == long.class || type == Long.class || type == int.class || type == Integer.class) {
+            long sum = 0;
+            for (Object result : results) {
+                sum += ((Number) result).longValue();
+            }
+            return type == int.class || type == Integer.class ? (Object) Math.toIntExact(sum) : (Object) sum;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return results.stream().anyMatch(Boolean.TRUE::equals);
+        }
+        // 단건 (엔티티, 프로젝션): 정렬 기준으로 첫 번째
+        List<Object> found = new ArrayList<>(results);
+        found.removeIf(result -> result == null);
+        List<Object> best = concatOrMerge(List.of(found), comparator, 0, found.size());
+        return best.isEmpty() ? null : best.get(0);
+    }
+
+    private static List<Object> concatOrMerge(List<List<Object>> contents, Comparator<Object> comparator, long skip, int limit) {
+        if (comparator == null) {
+            List<Object> all = new ArrayList<>();
+            contents.forEach(all::addAll);
+            int from = (int) Math.min(skip, all.size());
+            return new ArrayList<>(all.subList(from, (int) Math.min(all.size(), (long) from + limit)));
+        }
+        if (contents.size() == 1) {
+            List<Object> sorted = new ArrayList<>(contents.get(0));
+            sorted.sort(comparator);
+            return KWayMerge.merge(List.of(sorted), comparator, skip, limit);
+        }
+        return KWayMerge.merge(contents, comparator, skip, limit);
+    }
+
+    // 엔티티/프로젝션은 getter, fields= 응답은 함께 읽어 둔 정렬 값(ProjectedRow), 그 밖의 Map 은 키로 값을 읽는다. 값이 없으면 뒤로
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Comparator<Object> comparator(Sort sort) {
+        Comparator<Object> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Comparable> values = order.isAscending() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+            comparator = comparator.thenComparing(item -> (Comparable) property(item, order.getProperty()),
+                Comparator.nullsLast(values));
+        }
+        return comparator;
+    }
+
+    private static Object property(Object item, String property) {
+        if (item == null) {
+            return null;
+        }
+        if (item instanceof ProjectedRow row && row.hasSortValue(property)) {
+            return row.sortValue(property);
+        }
+        if (item instanceof Map<?, ?> map) {
+            return map.get(property);
+        }
+        return PropertyAccessorFactory.forBeanPropertyAccess(item).getPropertyValue(property);
+    }
+
+    private PartTree partTree(ProceedingJoinPoint joinPoint, Method method) {
+        return partTrees.computeIfAbsent(method, m -> {
+            try {
+                Class<?> domain = joinPoint.getTarget() instanceof CommentRepository ? Comment.class : Post.class;
+                return Optional.of(new PartTree(m.getName(), domain));
+            } catch (RuntimeException notDerived) {
+                return Optional.empty(); // @Query, 직접 구현한 프로젝션 메서드
+            }
+        }).orElse(null);
+    }
+
+    // 트랜잭션이 닫힌 뒤 쓰는 연관을 미리 읽는다 (작성자는 default_batch_fetch_size 로 묶여서)
+    private static Object initialize(Object result, boolean feed) {
+        if (result instanceof Iterable<?> items) {
+            items.forEach(item -> initializeEntity(item, feed));
+        } else if (result instanceof Optional<?> optional) {
+            optional.ifPresent(item -> initializeEntity(item, feed));
+        } else {
+            initializeEntity(result, feed);
+        }
+        return result;
+    }
+
+    private static void initializeEntity(Object item, boolean feed) {
+        if (item instanceof Post post) {
+            Hibernate.initialize(post.getUser());
+            if (feed) {
+                Hibernate.initialize(post.getComments()); // NewsFeedController 가 엔티티를 그대로 직렬화한다
+            }
+        } else if (item instanceof Comment comment) {
+            Hibernate.initialize(comment.getUser());
+        }
+    }
+
+    private static Object[] withFirst(Object[] args, List<Object> first) {
+        Object[] copy = args.clone();
+        copy[0] = first;
+        return copy;
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint, Object[] args) {
+        try {
+            return joinPoint.proceed(args);
+        } catch (Throwable e) {
+            throw new ProceedFailure(e);
+        }
+    }
+
+    // 트랜잭션 템플릿/스캐터 스레드를 지나 원래 예외를 그대로 다시 던지기 위한 포장
+    private static final class ProceedFailure extends RuntimeException {
+
+        private ProceedFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
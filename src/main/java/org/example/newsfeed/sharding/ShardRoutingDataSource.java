@@ -0,0 +1,14 @@
+package org.example.newsfeed.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// 커넥션을 얻는 순간의 ShardContext 로 샤드 풀을 고른다 (없으면 홈 샤드).
+// JPA 트랜잭션은 시작할 때 커넥션을 얻으므로 LazyConnectionDataSourceProxy 로 감싸 첫 SQL 때까지 미룬다
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return ShardContext.pin(shard == null ? ShardIds.HOME_SHARD : shard);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.newsfeed.sharding;
+
+import java.util.Properties;
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+// 게시글/댓글 id 생성기. 샤딩이 꺼져 있으면 예전과 같은 시퀀스(post_seq, comment_seq)를 쓰고,
+// 켜져 있으면 홈 샤드의 블록 순번에 지금 샤드 번호를 붙인다 (ShardIds). 시퀀스는 스키마를 그대로 두려고 계속 등록해 둔다
+public class ShardedSequenceGenerator extends SequenceStyleGenerator {
+
+    // Hibernate 가 직접 만드는 객체라 빈을 주입받을 수 없다. ShardingConfig 가 시작할 때 넣는다
+    private static volatile ShardIdAllocator allocator;
+
+    private String name;
+
+    static void useAllocator(ShardIdAllocator shardIdAllocator) {
+        allocator = shardIdAllocator;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        super.configure(type, parameters, serviceRegistry);
+        name = parameters.getProperty(SEQUENCE_PARAM);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        ShardIdAllocator current = allocator;
+        if (current == null) {
+            return super.generate(session, object);
+        }
+        Integer shard = ShardContext.current();
+        if (shard == null) {
+            throw new IllegalStateException("샤드를 정하지 않고 " + object.getClass().getSimpleName() + " 를 저장할 수 없음");
+        }
+        return ShardIds.compose(current.next(name), shard);
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.newsfeed.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.relational.SchemaManager;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// sharding.enabled=true (sharded 프로필): 게시글/댓글을 작성자 기준으로 여러 DB 에 나눠 저장한다.
+// spring.datasource 대신 sharding.shards 의 풀들을 묶은 라우팅 DataSource 를 쓰고, 레포지토리 호출은 ShardRoutingAspect 가 샤드로 보낸다
+@Slf4j(topic = "Sharding")
+@Configuration
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardDataSources shardDataSources(ShardingProperties properties, Environment environment) {
+        if (properties.getShards().isEmpty() || properties.getShards().size() > ShardIds.MAX_SHARDS) {
+            throw new IllegalStateException("sharding.shards 는 1 개 이상 " + ShardIds.MAX_SHARDS + " 개 이하: "
+                + properties.getShards().size());
+        }
+        // 엔티티를 응답 직렬화 때까지 지연 로딩하면 커넥션이 어느 샤드인지 알 수 없다 (ShardRoutingAspect 가 미리 읽어 둔다)
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException("샤딩은 spring.jpa.open-in-view=false 에서만 쓸 수 있음");
+        }
+        return new ShardDataSources(properties);
+    }
+
+    // JPA 트랜잭션은 시작할 때 커넥션을 얻는다: 첫 SQL 까지 미뤄야 그 전에 정해진 샤드로 간다
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            targets.put(shard, shardDataSources.get(shard));
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(shardDataSources.home());
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ShardIdAllocator shardIdAllocator(ShardDataSources shardDataSources, ShardingProperties properties) {
+        ShardIdAllocator allocator = new ShardIdAllocator(shardDataSources.home(), properties.getIdBlockSize());
+        ShardedSequenceGenerator.useAllocator(allocator);
+        return allocator;
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties, PlatformTransactionManager transactionManager) {
+        return new ShardRouter(properties, transactionManager);
+    }
+
+    @Bean
+    public ShardRoutingAspect shardRoutingAspect(ShardRouter shardRouter) {
+        return new ShardRoutingAspect(shardRouter);
+    }
+
+    @Bean
+    public UserShardReplicator userShardReplicator(ShardDataSources shardDataSources) {
+        return new UserShardReplicator(shardDataSources);
+    }
+
+    // Hibernate 는 스키마(ddl-auto)를 홈 샤드에만 만든다. 같은 매핑으로 나머지 샤드에도 만들거나 확인하고,
+    // 사용자 복제 리스너를 건다. 사용자 전체 복사는 data.sql/합성 데이터가 들어간 뒤에
+    @Bean
+    public ApplicationRunner shardBootstrap(EntityManagerFactory entityManagerFactory, ShardDataSources shardDataSources,
+        UserShardReplicator replicator, Environment environment) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        String ddlAuto = environment.getProperty("spring.jpa.hibernate.ddl-auto", "none");
+        SchemaManager schemaManager = sessionFactory.getSchemaManager();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            if (shard == ShardIds.HOME_SHARD) {
+                continue;
+            }
+            ShardContext.call(shard, () -> {
+                switch (ddlAuto) {
+                    case "create", "create-drop" -> {
+                        schemaManager.dropMappedObjects(false);
+                        schemaManager.exportMappedObjects(false);
+                    }
+                    case "validate" -> schemaManager.validateMappedObjects();
+                    default -> {
+                        // none, update: 스키마는 운영자가 맞춘다
+                    }
+                }
+                return null;
+            });
+        }
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, replicator);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, replicator);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, replicator);
+        log.info("event=sharding_ready shards={} ddl_auto={}", shardDataSources.size(), ddlAuto);
+
+        return args -> log.info("event=users_replicated rows={}", replicator.copyAll());
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.newsfeed.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    // 꺼져 있으면 spring.datasource 하나만 쓴다 (예전과 같음)
+    private boolean enabled = false;
+
+    // 샤드 DB 목록. 0번은 홈 샤드: 사용자, 좋아요, outbox 릴레이 외 나머지 테이블과 id 블록이 여기에 있다.
+    // 순서가 곧 샤드 번호이고 게시글/댓글 id 에 들어가므로 중간에 끼우거나 빼면 안 된다 (뒤에 추가만)
+    private List<Shard> shards = new ArrayList<>();
+
+    // 해시 링에서 샤드 하나가 차지하는 점 개수. 많을수록 작성자가 고르게 나뉜다
+    private int virtualNodes = 160;
+
+    // 여러 샤드에 동시에 보내는 읽기(피드, 기간 검색)를 실행하는 스레드 수
+    private int scatterThreads = 8;
+
+    // 홈 샤드에서 id 순번을 한 번에 받아 오는 개수
+    private int idBlockSize = 1_000;
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.newsfeed.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.entity.User;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 사용자는 샤드로 나누지 않고 홈 샤드가 원본, 나머지 샤드는 사본이다 (게시글/댓글의 작성자 외래키와 조인용).
+// 시작할 때 전부 복사하고, 이후에는 홈 샤드에서 커밋된 변경을 Hibernate post-commit 이벤트로 받아 그 행만 복사한다.
+// 복사가 실패하면 로그만 남기고 다음 시작 때 전체 복사로 맞춘다
+@Slf4j(topic = "Sharding")
+public class UserShardReplicator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+    PostCommitDeleteEventListener {
+
+    private static final String TABLE = "user";
+
+    private final JdbcTemplate home;
+    private final List<JdbcTemplate> replicas = new ArrayList<>();
+
+    public UserShardReplicator(ShardDataSources dataSources) {
+        this.home = new JdbcTemplate(dataSources.home());
+        for (int shard = 0; shard < dataSources.size(); shard++) {
+            if (shard != ShardIds.HOME_SHARD) {
+                replicas.add(new JdbcTemplate(dataSources.get(shard)));
+            }
+        }
+    }
+
+    public int copyAll() {
+        ColumnMapRowMapper mapper = new ColumnMapRowMapper();
+        int[] copied = {0};
+        home.query("select * from " + TABLE, resultSet -> {
+            Map<String, Object> row = mapper.mapRow(resultSet, copied[0]);
+            replicas.forEach(replica -> upsert(replica, row));
+            copied[0]++;
+        });
+        return copied[0];
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.getMappedClass() == User.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        copy(event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        copy(event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        for (JdbcTemplate replica : replicas) {
+            try {
+                replica.update("delete from " + TABLE + " where id = ?", event.getId());
+            } catch (RuntimeException e) {
+                log.warn("event=user_replication_failed op=delete id={} error={}", event.getId(), e.toString());
+            }
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백: 복사할 것 없음
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void copy(Object id) {
+        List<Map<String, Object>> rows = home.queryForList("select * from " + TABLE + " where id = ?", id);
+        if (rows.isEmpty()) {
+            return; // 그 사이 지워짐
+        }
+        for (JdbcTemplate replica : replicas) {
+            try {
+                upsert(replica, rows.get(0));
+            } catch (RuntimeException e) {
+                log.warn("event=user_replication_failed op=copy id={} error={}", id, e.toString());
+            }
+        }
+    }
+
+    // MySQL 과 H2 에서 모두 되도록 update 후 없으면 insert (사본에 쓰는 곳은 여기뿐)
+    private static void upsert(JdbcTemplate replica, Map<String, Object> row) {
+        Object id = null;
+        StringJoiner assignments = new StringJoiner(", ");
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner placeholders = new StringJoiner(", ");
+        List<Object> updateValues = new ArrayList<>(row.size());
+        List<Object> insertValues = new ArrayList<>(row.size());
+        for (Map.Entry<String, Object> column : row.entrySet()) {
+            columns.add(column.getKey());
+            placeholders.add("?");
+            insertValues.add(column.getValue());
+            if ("id".equalsIgnoreCase(column.getKey())) {
+                id = column.getValue();
+            } else {
+                assignments.add(column.getKey() + " = ?");
+                updateValues.add(column.getValue());
+            }
+        }
+        updateValues.add(id);
+        if (replica.update("update " + TABLE + " set " + assignments + " where id = ?", updateValues.toArray()) == 0) {
+            replica.update("insert into " + TABLE + " (" + columns + ") values (" + placeholders + ")", insertValues.toArray());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.newsfeed.sql;
+
+import java.util.regex.Pattern;
+
+// SQL 에서 값(문자열, 숫자, IN 목록 길이)을 지워 같은 모양의 쿼리끼리 묶는다
+public final class SqlShapes {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShapes() {
+    }
+
+    public static String normalize(String sql) {
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ");
+        return shape.trim().toLowerCase();
+    }
+}
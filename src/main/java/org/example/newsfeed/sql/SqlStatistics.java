@@ -0,0 +1,48 @@
+package org.example.newsfeed.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청 하나에서 실행된 SQL 통계. 요청 스레드에서만 접근하므로 동기화하지 않는다
+public class SqlStatistics {
+
+    private int statementCount;
+    private long jdbcNanos;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        jdbcNanos += nanos;
+        if (sql != null) {
+            shapes.merge(SqlShapes.normalize(sql), 1, Integer::sum);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    // 같은 모양의 SQL 이 가장 많이 반복된 횟수 (N+1 이면 N 에 가까워진다)
+    public int getMaxRepeat() {
+        int max = 0;
+        for (int count : shapes.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    // threshold 번 이상 반복된 SQL 모양과 횟수
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count >= threshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+}
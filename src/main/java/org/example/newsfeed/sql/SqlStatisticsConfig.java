@@ -0,0 +1,37 @@
+package org.example.newsfeed.sql;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class SqlStatisticsConfig {
+
+    // static: 다른 빈보다 먼저 등록되어야 DataSource 생성 시점에 적용된다
+    @Bean
+    public static BeanPostProcessor sqlTimingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return StatementTimingProxy.wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(
+        @Value("${sql-stats.repeat-threshold:5}") int repeatThreshold,
+        @Value("${sql-stats.expose-headers:false}") boolean exposeHeaders) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration =
+            new FilterRegistrationBean<>(new SqlStatisticsFilter(repeatThreshold, exposeHeaders));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20); // RequestMetricsFilter 바로 안쪽
+        return registration;
+    }
+}
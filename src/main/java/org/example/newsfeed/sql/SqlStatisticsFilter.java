@@ -0,0 +1,60 @@
+package org.example.newsfeed.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+// 요청마다 SQL 실행 횟수와 JDBC 시간을 집계하고, 같은 모양의 SQL 이 반복되면 N+1 로 경고한다
+// exposeHeaders 가 켜져 있으면 (운영 외 프로필) 본문을 버퍼링한 뒤 응답 헤더로 통계를 내려준다
+@Slf4j(topic = "SQL 통계")
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_COUNT = "X-Sql-Count";
+    public static final String HEADER_TIME = "X-Sql-Time-Ms";
+    public static final String HEADER_MAX_REPEAT = "X-Sql-Max-Repeat";
+
+    private final int repeatThreshold;
+    private final boolean exposeHeaders;
+
+    public SqlStatisticsFilter(int repeatThreshold, boolean exposeHeaders) {
+        this.repeatThreshold = repeatThreshold;
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+
+        SqlStatistics statistics = SqlStatisticsHolder.start();
+        try {
+            if (exposeHeaders) {
+                ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(res);
+                filterChain.doFilter(req, wrapper);
+                wrapper.setHeader(HEADER_COUNT, String.valueOf(statistics.getStatementCount()));
+                wrapper.setHeader(HEADER_TIME, String.format("%.3f", statistics.getJdbcNanos() / 1_000_000.0));
+                wrapper.setHeader(HEADER_MAX_REPEAT, String.valueOf(statistics.getMaxRepeat()));
+                wrapper.copyBodyToResponse();
+            } else {
+                filterChain.doFilter(req, res);
+            }
+        } finally {
+            SqlStatisticsHolder.clear();
+            warnRepeated(req, statistics);
+        }
+    }
+
+    private void warnRepeated(HttpServletRequest req, SqlStatistics statistics) {
+        if (statistics.getMaxRepeat() < repeatThreshold) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : statistics.repeatedShapes(repeatThreshold).entrySet()) {
+            log.warn("N+1 의심: {} {} 에서 같은 SQL 이 {}번 실행됨 (전체 {}건): {}",
+                req.getMethod(), req.getRequestURI(), entry.getValue(), statistics.getStatementCount(), entry.getKey());
+        }
+    }
+}
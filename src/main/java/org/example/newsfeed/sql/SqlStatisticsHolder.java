@@ -0,0 +1,31 @@
+package org.example.newsfeed.sql;
+
+// 현재 요청 스레드의 SqlStatistics. 요청 밖(스케줄러 등)에서는 null 이며 기록하지 않는다
+public final class SqlStatisticsHolder {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private SqlStatisticsHolder() {
+    }
+
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void record(String sql, long nanos) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.record(sql, nanos);
+        }
+    }
+}
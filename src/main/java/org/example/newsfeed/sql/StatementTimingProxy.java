@@ -0,0 +1,74 @@
+package org.example.newsfeed.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+// DataSource -> Connection -> Statement 를 동적 프록시로 감싸 execute* 호출마다 SQL 과 실행 시간을 기록한다
+// Hibernate, JdbcTemplate 모두 이 경로를 지나므로 둘 다 집계된다
+public final class StatementTimingProxy {
+
+    private StatementTimingProxy() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return wrapConnection(connection);
+            }
+            return result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                // prepareStatement(sql, ...) 는 첫 번째 인자가 SQL
+                String sql = method.getName().startsWith("prepare") && args != null && args[0] instanceof String s ? s : null;
+                return wrapStatement(method.getReturnType(), statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Object wrapStatement(Class<?> type, Statement statement, String preparedSql) {
+        return proxy(type, statement, (target, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(target, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return invoke(target, method, args);
+            } finally {
+                SqlStatisticsHolder.record(sql, System.nanoTime() - start);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(StatementTimingProxy.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
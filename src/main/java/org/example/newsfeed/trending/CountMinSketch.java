@@ -0,0 +1,106 @@
+package org.example.newsfeed.trending;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 고정 크기 count-min sketch. 여러 요청 스레드가 잠금 없이 더한다.
+// 추정값은 실제 값 이상이며(충돌로 과대 추정), 행마다 다른 해시 중 최소값을 쓴다
+class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counts;
+
+    CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counts = new AtomicLongArray(width * depth);
+    }
+
+    void add(long key, long delta) {
+        for (int row = 0; row < depth; row++) {
+            counts.addAndGet(index(row, key), delta);
+        }
+    }
+
+    long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts.get(index(row, key)));
+        }
+        return Math.max(0, min);
+    }
+
+    // 만료되는 창을 합계에서 뺄 때 사용 (같은 크기 스케치끼리)
+    void subtract(CountMinSketch other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long value = other.counts.get(i);
+            if (value != 0) {
+                counts.addAndGet(i, -value);
+            }
+        }
+    }
+
+    // 스냅샷 복구 때 창을 합계에 더할 때 사용
+    void add(CountMinSketch other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long value = other.counts.get(i);
+            if (value != 0) {
+                counts.addAndGet(i, value);
+            }
+        }
+    }
+
+    boolean sameShape(int width, int depth) {
+        return this.width == width && this.depth == depth;
+    }
+
+    // 0 이 아닌 칸만 (index, 값) 으로
+    void writeTo(DataOutput out) throws IOException {
+        int nonZero = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            if (counts.get(i) != 0) {
+                nonZero++;
+            }
+        }
+        out.writeInt(nonZero);
+        for (int i = 0; i < counts.length() && nonZero > 0; i++) {
+            long value = counts.get(i);
+            if (value != 0) {
+                out.writeInt(i);
+                out.writeLong(value);
+                nonZero--;
+            }
+        }
+    }
+
+    static CountMinSketch readFrom(DataInput in, int width, int depth) throws IOException {
+        CountMinSketch sketch = new CountMinSketch(width, depth);
+        int nonZero = in.readInt();
+        for (int i = 0; i < nonZero; i++) {
+            int index = in.readInt();
+            sketch.counts.set(index, in.readLong());
+        }
+        return sketch;
+    }
+
+    void clear() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    private int index(int row, long key) {
+        return row * width + (int) Long.remainderUnsigned(hash(key, row), width);
+    }
+
+    // 행마다 다른 seed 로 SplitMix64
+    private static long hash(long key, int row) {
+        long z = key + (row + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.newsfeed.trending;
+
+import java.util.List;
+import org.example.newsfeed.event.CommentCreatedEvent;
+import org.example.newsfeed.event.DomainEvent;
+import org.example.newsfeed.event.EventConsumer;
+import org.example.newsfeed.event.PostDeletedEvent;
+import org.example.newsfeed.outbox.OutboxProperties;
+import org.example.newsfeed.outbox.OutboxWatermark;
+import org.springframework.stereotype.Component;
+
+// 댓글은 인기 점수에 더하고, 삭제된 게시글은 순위에서 뺀다. 다시 발행된 outbox 이벤트는 한 번만 더한다
+@Component
+public class TrendingEventConsumer implements EventConsumer<DomainEvent> {
+
+    private final TrendingPosts trendingPosts;
+    private final OutboxWatermark watermark;
+
+    public TrendingEventConsumer(TrendingPosts trendingPosts, OutboxProperties outboxProperties) {
+        this.trendingPosts = trendingPosts;
+        this.watermark = new OutboxWatermark(outboxProperties);
+    }
+
+    @Override
+    public Class<DomainEvent> eventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void consume(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof CommentCreatedEvent created) {
+                if (!watermark.isApplied(created.getPostId(), event)) {
+                    trendingPosts.recordComment(created.getPostId());
+                    watermark.applied(created.getPostId(), event);
+                }
+            } else if (event instanceof PostDeletedEvent deleted) {
+                trendingPosts.remove(deleted.getPostId()); // 여러 번 빼도 같다
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.newsfeed.trending;
+
+import lombok.Getter;
+
+@Getter
+public class TrendingPost {
+
+    private final Long postId;
+    private final long score; // 최근 N분 가중 합 (근사값, 실제 이상)
+
+    public TrendingPost(Long postId, long score) {
+        this.postId = postId;
+        this.score = score;
+    }
+}
@@ -0,0 +1,284 @@
+package org.example.newsfeed.trending;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// 최근 N분 동안 조회/댓글이 많은 게시글. DB 에 쓰지 않고 메모리(고정 크기)에서만 센다.
+// - 1분마다 새 count-min sketch 를 쓰고, N개를 링으로 돌려 쓴다. total 은 링 전체의 합
+// - 상위 후보(heavy hitters)는 candidates 개까지만 들고 있고, 점수는 조회 시 total 에서 다시 읽는다.
+//   후보 교체는 점수 하한 min-heap 으로 O(log K), 다른 스레드가 교체 중이면 기다리지 않고 건너뛴다
+// 서버별로 따로 센다 (여러 대면 각 서버에서 본 인기 게시글)
+@Component
+public class TrendingPosts {
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final TrendingProperties properties;
+    private final LongSupplier clock;
+
+    private final CountMinSketch[] windows;
+    private final long[] windowStarts;   // 각 칸이 담고 있는 분 (만료 판단용)
+    private final CountMinSketch total;
+    private volatile long currentWindow;
+
+    private final Map<Long, Boolean> candidates = new ConcurrentHashMap<>(); // record/top 은 잠금 없이 읽는다
+    // 후보마다 넣을(다시 잰) 때의 점수. 창이 바뀌기 전에는 점수가 줄지 않으므로 실제 점수의 하한이다 (admission 잠금 안에서만)
+    private final PriorityQueue<Candidate> weakest = new PriorityQueue<>(Comparator.comparingLong((Candidate candidate) -> candidate.score));
+    private final ReentrantLock admission = new ReentrantLock();
+    private volatile long admissionThreshold; // 후보가 가득 찼을 때 들어오려면 넘어야 하는 점수 (가장 낮은 후보의 하한)
+
+    @Autowired
+    public TrendingPosts(TrendingProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    TrendingPosts(TrendingProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.windows = new CountMinSketch[properties.getWindows()];
+        for (int i = 0; i < windows.length; i++) {
+            windows[i] = new CountMinSketch(properties.getWidth(), properties.getDepth());
+        }
+        this.windowStarts = new long[windows.length];
+        this.total = new CountMinSketch(properties.getWidth(), properties.getDepth());
+        this.currentWindow = clock.getAsLong() / WINDOW_NANOS;
+        windowStarts[slot(currentWindow)] = currentWindow;
+    }
+
+    public void recordView(Long postId) {
+        record(postId, properties.getViewWeight(), 0);
+    }
+
+    public void recordComment(Long postId) {
+        record(postId, properties.getCommentWeight(), 0);
+    }
+
+    // 재시작 복구: ageMillis 전에 달린 댓글 (창 밖이면 무시)
+    public void replayComment(Long postId, long ageMillis) {
+        long age = ageMillis / WINDOW_MILLIS;
+        if (age < windows.length) {
+            record(postId, properties.getCommentWeight(), (int) age);
+        }
+    }
+
+    // 창마다 (몇 분 전인지, 스케치) 와 후보 목록. 조회 점수(recordView)는 로그에 없으므로 스냅샷으로만 복구된다
+    public void writeSnapshot(DataOutput out) throws IOException {
+        rotate();
+        long window = currentWindow;
+        out.writeInt(properties.getWidth());
+        out.writeInt(properties.getDepth());
+        List<Integer> ages = new ArrayList<>();
+        for (int age = 0; age < windows.length; age++) {
+            if (windowStarts[slot(window - age)] == window - age) {
+                ages.add(age);
+            }
+        }
+        out.writeInt(ages.size());
+        for (int age : ages) {
+            out.writeInt(age);
+            windows[slot(window - age)].writeTo(out);
+        }
+        List<Long> candidateIds = new ArrayList<>(candidates.keySet());
+        out.writeInt(candidateIds.size());
+        for (Long postId : candidateIds) {
+            out.writeLong(postId);
+        }
+    }
+
+    // takenAgoMillis 만큼 창을 뒤로 밀어서 더한다 (그 사이 만료된 창은 버린다)
+    public void readSnapshot(DataInput in, long takenAgoMillis) throws IOException {
+        int width = in.readInt();
+        int depth = in.readInt();
+        if (!total.sameShape(width, depth)) {
+            return; // width/depth 설정이 바뀜: 해시 위치가 달라 쓸 수 없다
+        }
+        rotate();
+        long shift = takenAgoMillis / WINDOW_MILLIS;
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            long age = in.readInt() + shift;
+            CountMinSketch sketch = CountMinSketch.readFrom(in, width, depth);
+            if (age < windows.length) {
+                pastWindow(currentWindow - age).add(sketch);
+                total.add(sketch);
+            }
+        }
+        int candidateCount = in.readInt();
+        admission.lock();
+        try {
+            for (int i = 0; i < candidateCount; i++) {
+                long postId = in.readLong();
+                if (candidates.size() < properties.getCandidates() && candidates.putIfAbsent(postId, Boolean.TRUE) == null) {
+                    weakest.add(new Candidate(postId, total.estimate(postId)));
+                }
+            }
+            updateThreshold();
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    // 점수 높은 순 (postId, 최근 N분 점수)
+    public List<TrendingPost> top(int limit) {
+        rotate();
+        List<TrendingPost> ranking = new ArrayList<>(candidates.size());
+        for (Long postId : candidates.keySet()) {
+            long score = total.estimate(postId);
+            if (score > 0) {
+                ranking.add(new TrendingPost(postId, score));
+            }
+        }
+        ranking.sort(Comparator.comparingLong(TrendingPost::getScore).reversed());
+        return ranking.size() > limit ? ranking.subList(0, limit) : ranking;
+    }
+
+    public void remove(Long postId) {
+        admission.lock(); // 삭제된 게시글: 드물어서 힙에서 바로 뺀다 (O(K))
+        try {
+            if (candidates.remove(postId) != null) {
+                weakest.removeIf(candidate -> candidate.postId == postId);
+                updateThreshold();
+            }
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    long admissionThreshold() {
+        return admissionThreshold;
+    }
+
+    private void record(Long postId, long weight, int ageMinutes) {
+        if (postId == null || weight <= 0) {
+            return;
+        }
+        rotate();
+        CountMinSketch window = ageMinutes == 0 ? windows[slot(currentWindow)] : pastWindow(currentWindow - ageMinutes);
+        window.add(postId, weight);
+        total.add(postId, weight);
+
+        if (!candidates.containsKey(postId)) {
+            long score = total.estimate(postId);
+            if (candidates.size() < properties.getCandidates() || score > admissionThreshold) {
+                admit(postId, score);
+            }
+        }
+    }
+
+    // 후보가 넘치면 현재 점수가 가장 낮은 후보(새 게시글일 수도 있다)를 내보낸다.
+    // 다른 스레드가 교체 중이면 건너뛴다: 점수가 계속 오르는 게시글은 다음 기록 때 다시 들어온다
+    private void admit(Long postId, long score) {
+        if (!admission.tryLock()) {
+            return;
+        }
+        try {
+            if (candidates.putIfAbsent(postId, Boolean.TRUE) != null) {
+                return;
+            }
+            weakest.add(new Candidate(postId, score));
+            if (candidates.size() > properties.getCandidates()) {
+                candidates.remove(pollWeakest().postId);
+            }
+            updateThreshold();
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    // 힙 맨 앞을 다시 재서 하한 그대로면 실제 최소 (나머지 후보는 하한부터 이미 크거나 같다).
+    // 올랐으면 새 점수로 다시 넣고 다음 후보를 본다. 동시 기록으로 끝없이 돌지 않도록 후보 수만큼만
+    private Candidate pollWeakest() {
+        for (int remaining = weakest.size(); ; remaining--) {
+            Candidate head = weakest.poll();
+            long score = total.estimate(head.postId);
+            if (score <= head.score || remaining <= 1) {
+                return head;
+            }
+            weakest.add(new Candidate(head.postId, score));
+        }
+    }
+
+    private void updateThreshold() {
+        Candidate head = weakest.peek();
+        admissionThreshold = candidates.size() < properties.getCandidates() || head == null ? 0 : head.score;
+    }
+
+    // 창이 바뀌어 점수가 줄었다: 후보 점수를 모두 다시 재서 힙과 문턱을 새로 만든다 (분에 한 번, O(K x depth))
+    private void rescore() {
+        admission.lock();
+        try {
+            List<Candidate> rescored = new ArrayList<>(weakest.size());
+            for (Candidate candidate : weakest) {
+                rescored.add(new Candidate(candidate.postId, total.estimate(candidate.postId)));
+            }
+            weakest.clear();
+            weakest.addAll(rescored);
+            updateThreshold();
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    // 분이 바뀌었으면 만료된 칸을 합계에서 빼고 비운다
+    private void rotate() {
+        long window = clock.getAsLong() / WINDOW_NANOS;
+        if (window == currentWindow) {
+            return;
+        }
+        synchronized (this) {
+            if (window == currentWindow) {
+                return;
+            }
+            long steps = Math.min(window - currentWindow, windows.length);
+            for (long w = window - steps + 1; w <= window; w++) {
+                int slot = slot(w);
+                if (windowStarts[slot] != w) {
+                    total.subtract(windows[slot]);
+                    windows[slot].clear();
+                    windowStarts[slot] = w;
+                }
+            }
+            currentWindow = window;
+            rescore();
+        }
+    }
+
+    // 지난 창 (복구용). 그 칸에 더 오래된 창이 남아 있으면 비우고 쓴다
+    private synchronized CountMinSketch pastWindow(long window) {
+        int slot = slot(window);
+        if (windowStarts[slot] != window) {
+            total.subtract(windows[slot]);
+            windows[slot].clear();
+            windowStarts[slot] = window;
+        }
+        return windows[slot];
+    }
+
+    private int slot(long window) {
+        return (int) Math.floorMod(window, (long) windows.length);
+    }
+
+    private static final class Candidate {
+
+        private final long postId;
+        private final long score;
+
+        private Candidate(long postId, long score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
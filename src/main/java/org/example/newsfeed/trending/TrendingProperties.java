@@ -0,0 +1,26 @@
+package org.example.newsfeed.trending;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trending")
+public class TrendingProperties {
+
+    // 최근 windows 분 동안의 조회/댓글을 센다 (1분짜리 스케치를 링으로 돌려 쓴다)
+    private int windows = 60;
+
+    // count-min sketch 크기. 오차 ~ (전체 이벤트 수 * e / width), 확률 1 - e^-depth 로 그 안
+    private int width = 2048;
+    private int depth = 4;
+
+    // 상위 topK 를 위해 추적하는 후보 수 (클수록 정확, 조회가 느려짐)
+    private int candidates = 100;
+    private int topK = 10;
+
+    // 댓글은 조회보다 무겁게 친다
+    private long viewWeight = 1;
+    private long commentWeight = 5;
+}
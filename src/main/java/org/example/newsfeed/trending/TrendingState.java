@@ -0,0 +1,42 @@
+package org.example.newsfeed.trending;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeed.mutationlog.Mutation;
+import org.example.newsfeed.mutationlog.RecoverableState;
+import org.springframework.stereotype.Component;
+
+// 재시작해도 최근 N분 인기 순위가 비지 않도록 스케치를 스냅샷에 넣고, 그 뒤의 댓글/삭제를 다시 적용한다
+@Component
+@RequiredArgsConstructor
+public class TrendingState implements RecoverableState {
+
+    private final TrendingPosts trendingPosts;
+
+    @Override
+    public String name() {
+        return "trending";
+    }
+
+    @Override
+    public void writeSnapshot(DataOutput out) throws IOException {
+        trendingPosts.writeSnapshot(out);
+    }
+
+    @Override
+    public void readSnapshot(DataInput in, long takenAgoMillis) throws IOException {
+        trendingPosts.readSnapshot(in, takenAgoMillis);
+    }
+
+    @Override
+    public void replay(Mutation mutation, long ageMillis) {
+        switch (mutation.getType()) {
+            case COMMENT_CREATED -> trendingPosts.replayComment(mutation.getAggregateId(), ageMillis);
+            case POST_DELETED -> trendingPosts.remove(mutation.getAggregateId());
+            default -> {
+            }
+        }
+    }
+}
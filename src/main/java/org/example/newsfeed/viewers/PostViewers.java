@@ -0,0 +1,260 @@
+package org.example.newsfeed.viewers;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.entity.PostViewerSketch;
+import org.example.newsfeed.repository.PostViewerSketchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+// 게시글별 고유 방문자 수 ("N명이 봤어요"). 요청마다 DB 에 쓰지 않는다.
+// - total: 저장된 모든 날짜 스케치의 합집합 + 아직 저장 안된 방문자. 처음 필요할 때 DB 에서 읽고,
+//   refreshMillis 마다 다시 읽어 합친다 (다른 서버가 저장한 방문자). 모든 서버가 flush + refresh 뒤에는 같은 값을 낸다
+// - pending: 마지막 flush 이후 total 을 바꾼 방문자. flush 때 오늘 날짜 행에 병합한다
+@Slf4j(topic = "Viewers")
+@Component
+public class PostViewers {
+
+    private final PostViewerSketchRepository repository;
+    private final TransactionOperations transactions;
+    private final ViewerProperties properties;
+    private final LongSupplier clock;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public PostViewers(PostViewerSketchRepository repository, TransactionOperations transactions,
+        ViewerProperties properties) {
+        this(repository, transactions, properties, System::currentTimeMillis);
+    }
+
+    PostViewers(PostViewerSketchRepository repository, TransactionOperations transactions, ViewerProperties properties,
+        LongSupplier clock) {
+        this.repository = repository;
+        this.transactions = transactions;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-viewers-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushIntervalMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        flushQuietly(); // 종료 시 남은 방문자 저장
+    }
+
+    public void record(Long postId, Long viewerId) {
+        if (postId == null || viewerId == null) {
+            return;
+        }
+        entry(postId).record(hash(viewerId));
+    }
+
+    public long count(Long postId) {
+        return entry(postId).estimate();
+    }
+
+    // 피드처럼 여러 게시글: 메모리에 없거나 다시 읽을 때가 된 게시글은 IN 쿼리 한 번으로 읽는다
+    public Map<Long, Long> counts(Collection<Long> postIds) {
+        long now = clock.getAsLong();
+        List<Long> load = new ArrayList<>();
+        for (Long postId : postIds) {
+            Entry entry = entries.get(postId);
+            if (entry == null || entry.claimRefresh(now, properties.getRefreshMillis())) {
+                load.add(postId);
+            }
+        }
+        if (!load.isEmpty()) {
+            readStored(load).forEach((postId, stored) -> mergeStored(postId, stored, now));
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long postId : postIds) {
+            counts.put(postId, count(postId));
+        }
+        return counts;
+    }
+
+    // 모아 둔 방문자를 오늘 날짜 행에 batch 단위로 병합한다
+    public void flush() {
+        int day = (int) LocalDate.now().toEpochDay();
+        Map<Long, HyperLogLog> batch = new HashMap<>();
+        for (Map.Entry<Long, Entry> entry : entries.entrySet()) {
+            HyperLogLog pending = entry.getValue().takePending();
+            if (pending == null) {
+                continue;
+            }
+            batch.put(entry.getKey(), pending);
+            if (batch.size() >= properties.getFlushBatchSize()) {
+                write(day, batch);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(day, batch);
+        }
+        if (entries.size() > properties.getMaxPosts()) {
+            entries.values().removeIf(Entry::isClean); // 방금 저장했으므로 대부분 내려놓을 수 있다
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("event=viewer_flush_failed", e);
+        }
+    }
+
+    private void write(int day, Map<Long, HyperLogLog> batch) {
+        try {
+            transactions.executeWithoutResult(status -> {
+                Map<Long, PostViewerSketch> rows = new HashMap<>();
+                for (PostViewerSketch row : repository.findAllByWindowDayAndPostIdIn(day, batch.keySet())) {
+                    rows.put(row.getPostId(), row);
+                }
+                List<PostViewerSketch> created = new ArrayList<>();
+                batch.forEach((postId, pending) -> {
+                    PostViewerSketch row = rows.get(postId);
+                    if (row == null) {
+                        created.add(new PostViewerSketch(postId, day, pending.toBytes()));
+                    } else {
+                        HyperLogLog merged = HyperLogLog.fromBytes(row.getSketch());
+                        merged.merge(pending);
+                        row.setSketch(merged.toBytes()); // 더티 체킹으로 UPDATE
+                    }
+                });
+                repository.saveAll(created);
+            });
+        } catch (RuntimeException e) {
+            // 다른 서버와 같은 행을 동시에 병합(낙관적 락 충돌)했거나 DB 오류: 다음 flush 때 다시 시도
+            log.warn("event=viewer_flush_retry posts={} cause={}", batch.size(), e.toString());
+            batch.forEach((postId, pending) -> {
+                Entry entry = entries.get(postId);
+                if (entry != null) {
+                    entry.restorePending(pending);
+                }
+            });
+        }
+    }
+
+    private Entry entry(Long postId) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(postId);
+        if (entry != null && !entry.claimRefresh(now, properties.getRefreshMillis())) {
+            return entry;
+        }
+        // DB 조회는 맵 잠금 밖에서 한다
+        return mergeStored(postId, readStored(List.of(postId)).get(postId), now);
+    }
+
+    // 처음이면 저장된 스케치가 total, 이미 있으면 합집합 (HyperLogLog 병합은 같은 것을 여러 번 합쳐도 같다)
+    private Entry mergeStored(Long postId, HyperLogLog stored, long now) {
+        Entry loaded = new Entry(stored, now);
+        Entry previous = entries.putIfAbsent(postId, loaded);
+        if (previous == null) {
+            return loaded;
+        }
+        previous.mergeStored(stored, now);
+        return previous;
+    }
+
+    // 게시글별로 모든 날짜 행의 합집합
+    private Map<Long, HyperLogLog> readStored(Collection<Long> postIds) {
+        Map<Long, HyperLogLog> stored = new HashMap<>();
+        for (Long postId : postIds) {
+            stored.put(postId, new HyperLogLog());
+        }
+        for (PostViewerSketch row : repository.findAllByPostIdIn(postIds)) {
+            stored.get(row.getPostId()).merge(HyperLogLog.fromBytes(row.getSketch()));
+        }
+        return stored;
+    }
+
+    // 방문자 id -> 64비트 해시 (SplitMix64)
+    static long hash(long viewerId) {
+        long z = viewerId + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Entry {
+
+        private final HyperLogLog total;
+        private HyperLogLog pending;
+        private final AtomicLong refreshedAt;
+
+        private Entry(HyperLogLog total, long now) {
+            this.total = total;
+            this.refreshedAt = new AtomicLong(now);
+        }
+
+        // 다시 읽을 때가 되었으면 한 스레드만 true (나머지는 기다리지 않고 지금 값을 쓴다)
+        boolean claimRefresh(long now, long ttl) {
+            long last = refreshedAt.get();
+            return now - last >= ttl && refreshedAt.compareAndSet(last, now);
+        }
+
+        synchronized void mergeStored(HyperLogLog stored, long now) {
+            total.merge(stored);
+            refreshedAt.set(now);
+        }
+
+        synchronized void record(long hash) {
+            // total 이 그대로면 이미 반영된 방문자: 저장할 것도 없다
+            if (total.add(hash)) {
+                if (pending == null) {
+                    pending = new HyperLogLog();
+                }
+                pending.add(hash);
+            }
+        }
+
+        synchronized long estimate() {
+            return total.estimate();
+        }
+
+        synchronized HyperLogLog takePending() {
+            HyperLogLog taken = pending;
+            pending = null;
+            return taken;
+        }
+
+        synchronized void restorePending(HyperLogLog failed) {
+            if (pending == null) {
+                pending = new HyperLogLog();
+            }
+            pending.merge(failed);
+        }
+
+        synchronized boolean isClean() {
+            return pending == null;
+        }
+    }
+}
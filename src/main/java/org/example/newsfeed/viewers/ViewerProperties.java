@@ -0,0 +1,24 @@
+package org.example.newsfeed.viewers;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "viewers")
+public class ViewerProperties {
+
+    // 메모리에 쌓인 새 방문자를 이 주기마다 DB 에 병합한다 (그 사이 서버가 죽으면 유실)
+    private long flushIntervalMillis = 10_000;
+
+    // 메모리의 방문자 수에 다른 서버가 저장한 방문자를 다시 합치는 주기. 서버마다 다른 값(ETag)을 내는 시간은
+    // flushIntervalMillis + refreshMillis 를 넘지 않는다
+    private long refreshMillis = 10_000;
+
+    // 한 트랜잭션에서 병합하는 게시글 수
+    private int flushBatchSize = 500;
+
+    // 메모리에 두는 게시글 수. 넘으면 flush 후 모두 내려놓고 필요할 때 다시 읽는다
+    private int maxPosts = 50_000;
+}
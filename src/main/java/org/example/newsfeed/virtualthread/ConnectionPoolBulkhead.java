@@ -0,0 +1,55 @@
+package org.example.newsfeed.virtualthread;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 커넥션 풀 크기에 맞춘 동시 실행 한도. 한도를 넘으면 maxQueue 까지만 FIFO 로 기다리고, 그 이상은 바로 거절한다
+public class ConnectionPoolBulkhead {
+
+    private final Semaphore permits;
+    private final int limit;
+    private final int maxQueue;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public ConnectionPoolBulkhead(int limit, int maxQueue) {
+        if (limit < 1 || maxQueue < 0) {
+            throw new IllegalArgumentException("limit >= 1, maxQueue >= 0 이어야 합니다.");
+        }
+        this.permits = new Semaphore(limit, true);
+        this.limit = limit;
+        this.maxQueue = maxQueue;
+    }
+
+    public boolean acquire(long timeoutNanos) throws InterruptedException {
+        // 인자 없는 tryAcquire() 는 공정 모드여도 대기열을 새치기한다: 시간 0 짜리는 먼저 온 대기자가 있으면 양보한다
+        if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInUse() {
+        return limit - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+}
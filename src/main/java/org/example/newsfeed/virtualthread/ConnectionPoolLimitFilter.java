@@ -0,0 +1,86 @@
+package org.example.newsfeed.virtualthread;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.CommonResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 가상 스레드 모드에서는 Tomcat 스레드 수(기본 200)가 더 이상 동시 요청을 막아주지 않는다.
+// 수천 개의 요청이 Hikari 안에서 connectionTimeout 까지 기다리다 실패하지 않도록, 풀 크기만큼만 들여보내고
+// 나머지는 짧게 기다리게 한 뒤 503 으로 돌려보낸다
+@Slf4j(topic = "가상 스레드")
+public class ConnectionPoolLimitFilter extends OncePerRequestFilter {
+
+    private final ConnectionPoolBulkhead bulkhead;
+    private final ObjectMapper objectMapper;
+    private final long maxWaitNanos;
+    private final int retryAfterSeconds;
+    private final List<String> excludedPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConnectionPoolLimitFilter(ConnectionPoolBulkhead bulkhead, VirtualThreadProperties properties,
+        ObjectMapper objectMapper) {
+        this.bulkhead = bulkhead;
+        this.objectMapper = objectMapper;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMillis());
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+        this.excludedPaths = List.copyOf(properties.getExcludedPaths());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (String pattern : excludedPaths) {
+            if (pathMatcher.match(pattern, uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = bulkhead.acquire(maxWaitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.warn("커넥션 풀 대기 초과로 요청 거절: {} {} (limit={}, waiting={})",
+                req.getMethod(), req.getRequestURI(), bulkhead.getLimit(), bulkhead.getWaiting());
+            reject(res);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(req, res);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void reject(HttpServletResponse res) throws IOException {
+        res.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(res.getWriter(), CommonResponse.builder()
+            .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .msg("서버가 혼잡합니다. 잠시 후 다시 시도해주세요.")
+            .build());
+    }
+}
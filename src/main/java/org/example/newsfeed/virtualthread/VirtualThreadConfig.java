@@ -0,0 +1,53 @@
+package org.example.newsfeed.virtualthread;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Java 21 + spring.threads.virtual.enabled=true 일 때만 적용된다.
+// 이때 Spring Boot 가 Tomcat 요청 처리, @Async, @Scheduled 를 가상 스레드로 실행한다
+@Slf4j(topic = "가상 스레드")
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10; // Hikari 기본값
+
+    @Bean
+    public ConnectionPoolBulkhead connectionPoolBulkhead(DataSource dataSource, VirtualThreadProperties properties) {
+        int poolSize = poolSize(dataSource);
+        int limit = Math.max(1, (int) Math.round(poolSize * properties.getPermitsPerConnection()));
+        log.info("가상 스레드 모드: 커넥션 풀 {}개, 동시 요청 한도 {}, 대기열 {}", poolSize, limit, properties.getMaxQueue());
+        return new ConnectionPoolBulkhead(limit, properties.getMaxQueue());
+    }
+
+    // SQL 통계 필터 안쪽: 대기 시간은 요청 지연시간 지표에 포함되고, 거절된 요청은 SQL 을 실행하지 않는다
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolLimitFilter> connectionPoolLimitFilter(ConnectionPoolBulkhead bulkhead,
+        VirtualThreadProperties properties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConnectionPoolLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConnectionPoolLimitFilter(bulkhead, properties, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+        return registration;
+    }
+
+    // DataSource 는 SQL 통계 프록시로 감싸져 있으므로 unwrap 으로 Hikari 를 꺼낸다
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 크기 확인 실패: {}", e.getMessage());
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
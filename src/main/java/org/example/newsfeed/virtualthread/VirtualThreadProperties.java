@@ -0,0 +1,26 @@
+package org.example.newsfeed.virtualthread;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// spring.threads.virtual.enabled=true 일 때만 쓰인다
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+
+    // 동시 요청 한도 = 커넥션 풀 크기 * 이 값 (open-in-view 가 켜져 있으면 요청이 끝날 때까지 커넥션을 잡으므로 1 이 적당)
+    private double permitsPerConnection = 1.0;
+
+    private int maxQueue = 1_000;       // 한도를 넘었을 때 기다릴 수 있는 요청 수
+
+    private long maxWaitMillis = 2_000; // Hikari connectionTimeout(30초) 보다 훨씬 짧게
+
+    private int retryAfterSeconds = 1;
+
+    // DB 를 쓰지 않는 경로
+    private List<String> excludedPaths = new ArrayList<>();
+}
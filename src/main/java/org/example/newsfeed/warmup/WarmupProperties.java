@@ -0,0 +1,45 @@
+package org.example.newsfeed.warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    // 꺼져 있으면 예전처럼 시작하자마자 ready
+    private boolean enabled = false;
+
+    // 자기 자신에게 GET 으로 보낼 경로. 인증이 필요한 경로는 userId 가 있어야 컨트롤러까지 간다
+    private List<String> paths = new ArrayList<>(List.of(
+        "/api/newsfeed",
+        "/api/posts/page?page=1&search=false",
+        "/api/posts/trending"));
+
+    // 인증 경로용 사용자 (JWT 를 직접 만들어 쿠키로 보낸다). DB 에 있는 계정이어야 한다.
+    // 비우면 인증 경로는 401 이 나므로 시작할 때 경고를 남기고 건너뛴다
+    private String userId = "";
+
+    // 동시에 돌릴 스레드 수
+    private int concurrency = 4;
+
+    // 스레드 하나가 한 라운드에 도는 반복 수. 라운드가 끝날 때마다 JIT 컴파일 시간 증가량을 본다
+    private int roundIterations = 50;
+
+    // 이만큼은 무조건 돌고(스레드당 반복 수), 이만큼 넘으면 컴파일이 계속되어도 끝낸다
+    private int minIterations = 200;
+    private int maxIterations = 2000;
+
+    // 한 라운드 동안 컴파일 시간이 이보다 적게 늘면 조용한 라운드
+    private long settleCompileMillis = 20;
+
+    // 조용한 라운드가 연속 이만큼이면 컴파일이 가라앉았다고 본다
+    private int settleRounds = 2;
+
+    // 전체 상한. DB 가 느리거나 죽어 있어도 ready 를 무한정 미루지 않는다
+    private long maxDurationMillis = 60_000;
+}
@@ -0,0 +1,248 @@
+package org.example.newsfeed.warmup;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeed.exception.InvalidPasswordException;
+import org.example.newsfeed.exception.UserNotFoundException;
+import org.example.newsfeed.jwt.JwtUtil;
+import org.example.newsfeed.jwt.Token;
+import org.example.newsfeed.service.UserService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// 시작 직후 JIT(C2)가 JwtUtil, Jackson 직렬화, Hibernate 경로를 컴파일하는 동안 실제 트래픽이 오지 않도록
+// ready 전에 합성 요청으로 뜨거운 경로를 미리 돌린다.
+// ApplicationRunner 는 ApplicationReadyEvent 전에 실행되므로 이게 끝날 때까지 readiness 는 REFUSING_TRAFFIC 이고
+// (liveness 는 이미 CORRECT) 로드밸런서는 /actuator/health/readiness 가 UP 이 된 뒤에야 트래픽을 보낸다
+@Slf4j(topic = "Warmup")
+@Component
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    // 존재하지 않는 사용자: 로그인은 항상 실패하지만 조회 쿼리와 예외 경로는 실제와 같다
+    private static final String SYNTHETIC_USER_ID = "warmup-nonexistent-user";
+    private static final String SYNTHETIC_PASSWORD = "warmup-password";
+
+    private final WarmupProperties properties;
+    private final JwtUtil jwtUtil;
+    private final UserService userService;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationContext context;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean monitored = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        long compileStart = monitored ? compiler.getTotalCompilationTime() : 0;
+        String port = environment.getProperty("local.server.port");
+        Target target = new Target(port == null ? null : "http://localhost:" + port, authCookie(), passwordEncoder.encode(SYNTHETIC_PASSWORD));
+        target.paths.addAll(acceptedPaths(target));
+
+        int threads = Math.max(1, properties.getConcurrency());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        int iterations = 0;
+        int quietRounds = 0;
+        String reason = null;
+        try {
+            while (reason == null) {
+                long before = monitored ? compiler.getTotalCompilationTime() : 0;
+                runRound(executor, threads, target);
+                iterations += properties.getRoundIterations();
+                long roundCompileMillis = monitored ? compiler.getTotalCompilationTime() - before : -1;
+                quietRounds = roundCompileMillis >= 0 && roundCompileMillis < properties.getSettleCompileMillis() ? quietRounds + 1 : 0;
+                reason = stopReason(properties, iterations, quietRounds, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Map<String, Long> failures = new TreeMap<>();
+        target.failures.forEach((key, count) -> failures.put(key, count.sum()));
+        log.info("event=warmup_done reason={} iterations={} threads={} took_ms={} compile_ms={} http_paths={} http_non_2xx={} http_non_2xx_by_path=\"{}\"",
+            reason, iterations, threads, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+            monitored ? compiler.getTotalCompilationTime() - compileStart : -1, target.paths.size(),
+            failures.values().stream().mapToLong(Long::longValue).sum(), describeFailures(failures));
+    }
+
+    // "경로 상태" 별 횟수를 한 줄로: "/api/posts/trending 401x800, /api/newsfeed io_errorx2"
+    static String describeFailures(Map<String, Long> failures) {
+        return failures.entrySet().stream()
+            .map(entry -> entry.getKey() + "x" + entry.getValue())
+            .collect(Collectors.joining(", "));
+    }
+
+    // 멈출 이유 (계속이면 null). 최소 반복 전에는 컴파일이 조용해도 계속 돈다
+    static String stopReason(WarmupProperties properties, int iterations, int quietRounds, long elapsedMillis) {
+        if (elapsedMillis >= properties.getMaxDurationMillis()) {
+            return "timeout";
+        }
+        if (iterations >= properties.getMaxIterations()) {
+            return "max_iterations";
+        }
+        if (iterations >= properties.getMinIterations() && quietRounds >= properties.getSettleRounds()) {
+            return "settled";
+        }
+        return null;
+    }
+
+    private void runRound(ExecutorService executor, int threads, Target target) throws InterruptedException {
+        List<Callable<Void>> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> {
+                for (int n = 0; n < properties.getRoundIterations() && !Thread.currentThread().isInterrupted(); n++) {
+                    exerciseLogin();
+                    exerciseToken();
+                    exerciseHttp(target);
+                }
+                // BCrypt 는 한 번에 수십 ms 라 라운드당 한 번만
+                passwordEncoder.matches(SYNTHETIC_PASSWORD, target.passwordHash);
+                return null;
+            });
+        }
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                log.warn("event=warmup_round_failed error={}", e.toString());
+            }
+        }
+    }
+
+    // /api/login 은 IP 별 요청 수 제한이 있어 HTTP 로 보내면 localhost 버킷만 비우고 429 가 난다. 컨트롤러가 부르는 경로를 직접 돈다
+    private void exerciseLogin() {
+        try {
+            userService.login(SYNTHETIC_USER_ID, SYNTHETIC_PASSWORD);
+        } catch (InvalidPasswordException | UserNotFoundException ignored) {
+            // 없는 사용자라 항상 실패
+        }
+        jwtUtil.generateAccessToken(SYNTHETIC_USER_ID);
+        jwtUtil.generateRefreshToken(SYNTHETIC_USER_ID);
+    }
+
+    // JwtAuthorizationFilter 가 요청마다 하는 서명 검증과 클레임 파싱
+    private void exerciseToken() {
+        String token = jwtUtil.substringToken(jwtUtil.createToken(SYNTHETIC_USER_ID, Token.TOKEN_TYPE_ACCESS));
+        if (jwtUtil.validateToken(token)) {
+            jwtUtil.getUserInfoFromToken(token).getSubject();
+        }
+    }
+
+    // 401/403 이 나는 경로는 보안 필터에서 끝나 컨트롤러를 데우지 못하므로 시작 전에 한 번씩 보내 보고 뺀다
+    // (인증 경로인데 warmup.user-id 가 비었거나, 그 사용자가 DB 에 없을 때)
+    private List<String> acceptedPaths(Target target) throws InterruptedException {
+        List<String> accepted = new ArrayList<>();
+        if (target.baseUrl == null) {
+            return accepted; // 웹 서버 없이 뜬 경우 (테스트 등)
+        }
+        for (String path : properties.getPaths()) {
+            int status;
+            try {
+                status = send(target, path);
+            } catch (IOException e) {
+                status = -1;
+            }
+            if (status == 401 || status == 403) {
+                log.warn("event=warmup_path_skipped path=\"{}\" status={} user_id_set={}",
+                    path, status, StringUtils.hasText(properties.getUserId()));
+            } else {
+                accepted.add(path);
+            }
+        }
+        return accepted;
+    }
+
+    private void exerciseHttp(Target target) throws InterruptedException {
+        for (String path : target.paths) {
+            String outcome;
+            try {
+                int status = send(target, path);
+                outcome = status >= 200 && status < 300 ? null : String.valueOf(status);
+            } catch (IOException e) {
+                outcome = "io_error";
+            }
+            if (outcome != null) {
+                target.failures.computeIfAbsent(path + " " + outcome, key -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    private int send(Target target, String path) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target.baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json")
+            .GET();
+        if (target.cookie != null) {
+            request.header("Cookie", target.cookie);
+        }
+        return target.client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+    }
+
+    private String authCookie() {
+        if (!StringUtils.hasText(properties.getUserId())) {
+            return null;
+        }
+        String token = jwtUtil.createToken(properties.getUserId(), Token.TOKEN_TYPE_ACCESS);
+        return JwtUtil.AUTHORIZATION_HEADER + "=" + URLEncoder.encode(token, StandardCharsets.UTF_8);
+    }
+
+    private static final class Target {
+
+        private final String baseUrl;
+        private final String cookie;
+        private final String passwordHash;
+        private final HttpClient client;
+        private final List<String> paths = new ArrayList<>(); // 401/403 이 나지 않은 경로만
+        private final Map<String, LongAdder> failures = new ConcurrentHashMap<>(); // "경로 상태" -> 2xx 가 아닌 응답 수
+
+        private Target(String baseUrl, String cookie, String passwordHash) {
+            this.baseUrl = baseUrl;
+            this.cookie = cookie;
+            this.passwordHash = passwordHash;
+            this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- H2 (loadtest 프로필과 같이 띄울 때): Hibernate 는 MySQL 에서만 @Enumerated(STRING) 을 enum 컬럼으로 보고,
+-- H2 에서는 varchar(length) 로 본다. schema-prod.sql 의 enum 컬럼을 varchar 로 바꿔야 validate 를 통과한다
+alter table reaction alter column target_type set data type varchar(16);
+alter table reaction_counter_shard alter column target_type set data type varchar(16);
+alter table outbox_event alter column type set data type varchar(32);
+alter table cache_invalidation alter column region set data type varchar(16);
@@ -0,0 +1,101 @@
+-- 운영 스키마 (prod 프로필). ddl-auto=validate 는 테이블을 만들지 않으므로 시작할 때 이 파일을 먼저 실행한다.
+-- 엔티티를 바꾸면 여기도 같이 바꾼다. 모두 IF NOT EXISTS 라 이미 있는 테이블은 건드리지 않는다 (인덱스도 테이블 안에 둔다).
+-- 있는 테이블에 컬럼을 더할 때는 ALTER 를 따로 실행한다 (예: outbox_event.dispatched_at)
+-- 시퀀스(post_seq, comment_seq, reaction_seq)는 DB 마다 달라 sequences-<platform>.sql 에 있다.
+-- sharded 프로필: 이 스크립트는 홈 샤드에만 실행된다. 나머지 샤드에는 같은 파일을 미리 적용해 둔다
+
+create table if not exists user (
+    id bigint not null auto_increment,
+    user_id varchar(255) not null,
+    password varchar(255) not null,
+    name varchar(255),
+    email varchar(255),
+    comment varchar(255),
+    status varchar(255),
+    refresh_token varchar(255),
+    status_change_time varchar(255),
+    create_date datetime(6),
+    modify_date datetime(6),
+    primary key (id),
+    constraint uk_user_user_id unique (user_id),
+    constraint uk_user_email unique (email)
+);
+
+create table if not exists post (
+    id bigint not null,
+    user_id bigint not null,
+    content varchar(255),
+    deleted bit not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    index idx_post_updated_at (updated_at), -- 피드 버전(ETag) 조회용
+    constraint fk_post_user foreign key (user_id) references user (id)
+);
+
+create table if not exists comment (
+    comment_id bigint not null,
+    user_id bigint not null,
+    post_id bigint,
+    content varchar(255),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (comment_id),
+    constraint fk_comment_user foreign key (user_id) references user (id),
+    constraint fk_comment_post foreign key (post_id) references post (id)
+);
+
+create table if not exists reaction (
+    id bigint not null,
+    user_id bigint not null,
+    target_type enum ('POST','COMMENT') not null,
+    target_id bigint not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint uk_reaction_user_target unique (user_id, target_type, target_id)
+);
+
+create table if not exists reaction_counter_shard (
+    target_type enum ('POST','COMMENT') not null,
+    target_id bigint not null,
+    shard integer not null,
+    count bigint not null,
+    version bigint,
+    primary key (target_type, target_id, shard)
+);
+
+create table if not exists post_viewer_sketch (
+    post_id bigint not null,
+    window_day integer not null,
+    sketch varbinary(4096) not null,
+    version bigint,
+    primary key (post_id, window_day)
+);
+
+create table if not exists outbox_event (
+    id bigint not null auto_increment,
+    aggregate_id bigint not null,
+    type enum ('POST_CREATED','POST_UPDATED','POST_DELETED','COMMENT_CREATED','COMMENT_UPDATED','COMMENT_DELETED') not null,
+    entity_id bigint,
+    created_at datetime(6),
+    dispatched_at datetime(6),
+    primary key (id),
+    index idx_outbox_aggregate (aggregate_id, id)
+);
+
+create table if not exists shard_id_block (
+    name varchar(64) not null,
+    next_val bigint not null,
+    primary key (name)
+);
+
+create table if not exists cache_invalidation (
+    id bigint not null auto_increment,
+    region enum ('POST','COMMENTS') not null,
+    key_id bigint not null,
+    origin varchar(64) not null,
+    created_at datetime(6) not null,
+    primary key (id),
+    index idx_cache_invalidation_created_at (created_at)
+);
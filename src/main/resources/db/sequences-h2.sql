@@ -0,0 +1,4 @@
+-- H2 (loadtest 프로필과 같이 띄울 때): 진짜 시퀀스
+create sequence if not exists post_seq start with 1 increment by 50;
+create sequence if not exists comment_seq start with 1 increment by 50;
+create sequence if not exists reaction_seq start with 1 increment by 50;
@@ -0,0 +1,9 @@
+-- MySQL 에는 시퀀스가 없어 Hibernate 가 테이블로 흉내낸다 (next_val 한 행, increment 50)
+create table if not exists post_seq (next_val bigint);
+insert into post_seq (next_val) select 1 from dual where not exists (select * from post_seq);
+
+create table if not exists comment_seq (next_val bigint);
+insert into comment_seq (next_val) select 1 from dual where not exists (select * from comment_seq);
+
+create table if not exists reaction_seq (next_val bigint);
+insert into reaction_seq (next_val) select 1 from dual where not exists (select * from reaction_seq);
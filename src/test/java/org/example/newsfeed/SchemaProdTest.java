@@ -0,0 +1,69 @@
+package org.example.newsfeed;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.sql.DataSource;
+import org.example.newsfeed.dto.CommentRequestDTO;
+import org.example.newsfeed.dto.PostRequestDTO;
+import org.example.newsfeed.entity.User;
+import org.example.newsfeed.repository.UserRepository;
+import org.example.newsfeed.service.CommentService;
+import org.example.newsfeed.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// prod 프로필의 스키마 스크립트(db/schema-prod.sql + 시퀀스)로 만든 테이블이 엔티티와 맞는지 (ddl-auto=validate 로 기동).
+// MySQL 대신 loadtest 와 같은 H2(MySQL 호환 모드)에서 확인한다
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:schema-prod;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:db/schema-prod.sql,classpath:db/sequences-h2.sql,classpath:db/enums-h2.sql",
+    "spring.sql.init.data-locations=",
+    "ratelimit.enabled=false"
+})
+class SchemaProdTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    @DisplayName("스키마 스크립트로 만든 테이블에 게시글과 댓글을 저장할 수 있음")
+    public void testWrite() {
+        User author = userRepository.save(new User("schemauser", "password1234", "schema@example.com", ""));
+        PostRequestDTO post = new PostRequestDTO();
+        post.setContent("게시글");
+        Long postId = postService.createPost(post, author).getId();
+        CommentRequestDTO comment = new CommentRequestDTO();
+        ReflectionTestUtils.setField(comment, "content", "댓글");
+        commentService.creatComment(postId, comment, author);
+
+        assertNotNull(postId);
+    }
+
+    @Test
+    @DisplayName("재시작마다 다시 실행해도 실패하지 않음 (if not exists)")
+    public void testRerun() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+            new ClassPathResource("db/schema-prod.sql"), new ClassPathResource("db/sequences-h2.sql"),
+            new ClassPathResource("db/enums-h2.sql"));
+        assertDoesNotThrow(() -> populator.execute(dataSource));
+    }
+}
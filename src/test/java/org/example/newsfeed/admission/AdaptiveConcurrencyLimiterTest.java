@@ -0,0 +1,78 @@
+package org.example.newsfeed.admission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("한도만큼만 동시에 허용")
+    public void testAcquireUpToLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5, 0.2);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+
+        limiter.onComplete(10 * MILLIS, false);
+        assertEquals(1, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("지연시간이 길어지면 한도가 줄어듦")
+    public void testLimitDecreasesWhenLatencyGrows() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 5, 200, 1.5, 0.2);
+        saturate(limiter, 10 * MILLIS, 200);
+        int before = limiter.getLimit();
+
+        saturate(limiter, 200 * MILLIS, 1);
+
+        assertTrue(limiter.getLimit() < before);
+        assertTrue(limiter.getLimit() >= 5);
+    }
+
+    @Test
+    @DisplayName("실패한 요청이 이어지면 최소 한도까지 줄어듦")
+    public void testDropShrinksToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 200, 1.5, 0.2);
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onComplete(MILLIS, true);
+        }
+
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("여유가 있을 때는 한도를 늘리지 않음")
+    public void testNoGrowthWhenUnderused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 1.5, 0.2);
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onComplete(MILLIS, false);
+        }
+
+        assertTrue(limiter.getLimit() <= 20);
+    }
+
+    // 한도까지 채운 상태에서 표본을 넣는다
+    private void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int r = 0; r < rounds; r++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.onComplete(rttNanos, false);
+            }
+        }
+    }
+}
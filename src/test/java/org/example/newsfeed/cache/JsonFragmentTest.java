@@ -0,0 +1,67 @@
+package org.example.newsfeed.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonFragmentTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("조각을 이어 붙인 결과가 직접 직렬화한 결과와 같음 (바이트/문자 출력 모두)")
+    public void testSameAsDirectSerialization() throws Exception {
+        Map<String, Object> post = new LinkedHashMap<>();
+        post.put("id", 1);
+        post.put("content", "게시글 \"내용\"");
+        JsonFragment fragment = new JsonFragment(objectMapper.writeValueAsBytes(post));
+
+        Map<String, Object> direct = Map.of("content", List.of(post, post));
+        Map<String, Object> assembled = Map.of("content", List.of(fragment, fragment));
+
+        String expected = objectMapper.writeValueAsString(direct);
+        assertEquals(expected, new String(objectMapper.writeValueAsBytes(assembled), StandardCharsets.UTF_8));
+        assertEquals(expected, objectMapper.writeValueAsString(assembled));
+    }
+
+    @Test
+    @DisplayName("출력 버퍼보다 큰 조각도 그대로 기록")
+    public void testLargerThanBuffer() throws Exception {
+        JsonFragment fragment = new JsonFragment(objectMapper.writeValueAsBytes(Map.of("content", "x".repeat(20_000))));
+
+        byte[] json = objectMapper.writeValueAsBytes(List.of(fragment, fragment));
+
+        assertEquals(2, objectMapper.readTree(json).size());
+        assertEquals(2 * fragment.size() + 3, json.length);
+    }
+
+    @Test
+    @DisplayName("raw 값을 쓸 수 없는 출력(TokenBuffer, Smile/CBOR)에는 토큰으로 옮겨 씀")
+    public void testNonTextOutput() throws Exception {
+        Map<String, Object> post = new LinkedHashMap<>();
+        post.put("id", 1);
+        post.put("content", "게시글");
+        JsonFragment fragment = new JsonFragment(objectMapper.writeValueAsBytes(post));
+
+        assertEquals(objectMapper.valueToTree(post), objectMapper.valueToTree(fragment));
+    }
+
+    @Test
+    @DisplayName("객체 끝에 필드를 덧붙여도 유효한 JSON")
+    public void testWithField() throws Exception {
+        Map<String, Object> post = new LinkedHashMap<>();
+        post.put("id", 1);
+        post.put("content", "게시글");
+        JsonFragment fragment = new JsonFragment(objectMapper.writeValueAsBytes(post));
+
+        post.put("viewers", 42);
+        assertEquals(objectMapper.writeValueAsString(post), fragment.withField("viewers", 42).toString());
+        assertEquals("{\"viewers\":0}", new JsonFragment("{}".getBytes(StandardCharsets.UTF_8)).withField("viewers", 0).toString());
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.newsfeed.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import org.example.newsfeed.repository.PostRepository;
+import org.example.newsfeed.repository.PostRepository.DeletedCountView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostCounterTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+
+    private static DeletedCountView rows(boolean deleted, long count) {
+        return new DeletedCountView() {
+            @Override
+            public Boolean getDeleted() {
+                return deleted;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("처음 한 번만 세고, 이후에는 작성/삭제/정리로 값을 바꾼다")
+    public void testMaintainedWithoutScan() {
+        when(postRepository.countGroupByDeleted()).thenReturn(List.of(rows(false, 100), rows(true, 5)));
+        PostCounter counter = new PostCounter(postRepository, 60_000);
+
+        assertEquals(100, counter.liveCount());
+        counter.postCreated();
+        counter.postCreated();
+        counter.postDeleted();
+        assertEquals(101, counter.liveCount());
+        assertEquals(6, counter.deletedCount());
+        counter.postsPurged(6);
+        assertEquals(0, counter.deletedCount());
+
+        verify(postRepository, times(1)).countGroupByDeleted();
+    }
+
+    @Test
+    @DisplayName("보정 주기가 지나면 실제 개수로 다시 맞춤")
+    public void testReconcile() {
+        when(postRepository.countGroupByDeleted()).thenReturn(List.of(rows(false, 10)), List.of(rows(false, 42)));
+        PostCounter counter = new PostCounter(postRepository, 0);
+
+        assertEquals(10, counter.liveCount());
+        counter.postCreated();
+        assertEquals(42, counter.liveCount());
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.newsfeed.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostETagsTest {
+
+    @Test
+    @DisplayName("Accept 로 협상될 형식이 ETag 에 들어감 (JSON 은 그대로)")
+    public void testFormat() {
+        assertNull(PostETags.format(null));
+        assertNull(PostETags.format("*/*"));
+        assertNull(PostETags.format("application/json"));
+        assertNull(PostETags.format("application/json, application/cbor;q=0.5"));
+        assertEquals("smile", PostETags.format("application/x-jackson-smile"));
+        assertEquals("cbor", PostETags.format("application/cbor, */*;q=0.1"));
+        assertEquals("cbor", PostETags.format("*/*, application/cbor")); // 구체적인 형식이 먼저
+        assertNull(PostETags.format("application/cbor;q=0, */*"));
+
+        assertEquals("\"p1-3-cbor\"", PostETags.withSuffix("\"p1-3\"", PostETags.format("application/cbor")));
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.newsfeed.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import org.example.newsfeed.repository.CommentRepository;
+import org.example.newsfeed.repository.PostRepository;
+import org.example.newsfeed.repository.PostRepository.UpdatedAtView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostVersionIndexTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+
+    private static Optional<UpdatedAtView> updatedAt(long millis) {
+        return Optional.of(() -> new Timestamp(millis));
+    }
+
+    @Test
+    @DisplayName("버전은 한 번만 조회하고, 무효화하면 다시 조회")
+    public void testCachedUntilInvalidated() {
+        PostVersionIndex index = new PostVersionIndex(postRepository, commentRepository, 60_000, 100);
+        when(postRepository.findUpdatedAtByIdAndDeleted(1L, Boolean.FALSE)).thenReturn(updatedAt(1_000), updatedAt(2_000));
+
+        String first = index.postVersion(1L);
+        assertEquals(first, index.postVersion(1L));
+        verify(postRepository, times(1)).findUpdatedAtByIdAndDeleted(1L, Boolean.FALSE);
+
+        index.invalidatePost(1L);
+        assertNotEquals(first, index.postVersion(1L));
+        verify(postRepository, times(2)).findUpdatedAtByIdAndDeleted(1L, Boolean.FALSE);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 버전이 없음 (ETag 없음)")
+    public void testDeletedPostHasNoVersion() {
+        PostVersionIndex index = new PostVersionIndex(postRepository, commentRepository, 60_000, 100);
+        when(postRepository.findUpdatedAtByIdAndDeleted(2L, Boolean.FALSE)).thenReturn(Optional.empty());
+
+        assertNull(index.postVersion(2L));
+        assertNull(new PostETags(index).post(2L));
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 다른 서버의 변경을 반영하도록 다시 조회")
+    public void testExpires() {
+        PostVersionIndex index = new PostVersionIndex(postRepository, commentRepository, 0, 100);
+        when(postRepository.findFirstByOrderByUpdatedAtDesc()).thenReturn(updatedAt(1_000), updatedAt(5_000));
+
+        String first = index.feedVersion();
+        assertNotEquals(first, index.feedVersion());
+    }
+}
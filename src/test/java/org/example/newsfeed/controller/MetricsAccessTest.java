@@ -0,0 +1,46 @@
+package org.example.newsfeed.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:metrics-access;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.sql.init.mode=never",
+    "ratelimit.enabled=false",
+    "metrics.allowed-addresses=127.0.0.1/32,10.1.0.0/16"
+})
+@AutoConfigureMockMvc
+class MetricsAccessTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    @DisplayName("허용된 주소에서는 로그인 없이 /metrics 를 읽는다")
+    public void testAllowedAddress() throws Exception {
+        mvc.perform(get("/metrics")).andExpect(status().isOk()); // MockMvc 기본 주소는 127.0.0.1
+        mvc.perform(get("/metrics").with(request -> {
+            request.setRemoteAddr("10.1.2.3");
+            return request;
+        })).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("그 외 주소에서는 /metrics 를 읽을 수 없다")
+    public void testOtherAddress() throws Exception {
+        mvc.perform(get("/metrics").with(request -> {
+            request.setRemoteAddr("203.0.113.7");
+            return request;
+        })).andExpect(status().is4xxClientError());
+    }
+}
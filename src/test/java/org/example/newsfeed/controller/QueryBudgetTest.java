@@ -0,0 +1,121 @@
+package org.example.newsfeed.controller;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.example.newsfeed.dto.CommentRequestDTO;
+import org.example.newsfeed.dto.PostRequestDTO;
+import org.example.newsfeed.entity.User;
+import org.example.newsfeed.repository.UserRepository;
+import org.example.newsfeed.security.UserDetailsImpl;
+import org.example.newsfeed.service.CommentService;
+import org.example.newsfeed.service.PostService;
+import org.example.newsfeed.sql.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+// 엔드포인트별 SQL 수 상한 (N+1 회귀 방지). 게시글/댓글/작성자 수를 늘려도 쿼리 수가 늘지 않아야 한다.
+// 내장 H2 에 직접 데이터를 넣고, SqlStatisticsFilter 가 내려주는 헤더로 검사한다 (캐시가 빈 첫 요청 기준)
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.sql.init.mode=never",
+    "ratelimit.enabled=false",
+    "sql-stats.expose-headers=true"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD) // 요청마다 빈 캐시에서 시작
+class QueryBudgetTest {
+
+    private static final int AUTHORS = 5;
+    private static final int POSTS = 30;
+    private static final int COMMENTS_PER_POST = 4;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    private final List<User> authors = new ArrayList<>();
+    private Long postId;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(userRepository.save(
+                new User("budgetuser" + i, "password1234", "budget" + i + "@example.com", "")));
+        }
+        for (int i = 0; i < POSTS; i++) {
+            PostRequestDTO post = new PostRequestDTO();
+            post.setContent("게시글 " + i);
+            postId = postService.createPost(post, authors.get(i % AUTHORS)).getId();
+            for (int j = 0; j < COMMENTS_PER_POST; j++) {
+                CommentRequestDTO comment = new CommentRequestDTO();
+                ReflectionTestUtils.setField(comment, "content", "댓글 " + j);
+                commentService.creatComment(postId, comment, authors.get((i + j + 1) % AUTHORS));
+            }
+        }
+    }
+
+    private Authentication reader() {
+        UserDetailsImpl userDetails = new UserDetailsImpl(authors.get(0));
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    @Test
+    @DisplayName("게시글 페이지: 작성자를 게시글마다 읽지 않음")
+    public void testPostPage() throws Exception {
+        mvc.perform(get("/api/posts/page").param("page", "1").param("search", "false").with(authentication(reader())))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudget.atMost(6))
+            .andExpect(QueryBudget.noRepeatOver(2));
+    }
+
+    @Test
+    @DisplayName("게시글 하나: 버전, 방문자 수, 본문")
+    public void testPost() throws Exception {
+        mvc.perform(get("/api/posts/" + postId).with(authentication(reader())))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudget.atMost(6))
+            .andExpect(QueryBudget.noRepeatOver(2));
+    }
+
+    @Test
+    @DisplayName("댓글 목록: 댓글 작성자를 댓글마다 읽지 않음")
+    public void testComments() throws Exception {
+        mvc.perform(get("/api/posts/" + postId + "/comments").with(authentication(reader())))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudget.atMost(8))
+            .andExpect(QueryBudget.noRepeatOver(2));
+    }
+
+    @Test
+    @DisplayName("뉴스피드: 게시글, 댓글, 작성자를 묶어서 읽음")
+    public void testNewsFeed() throws Exception {
+        mvc.perform(get("/api/newsfeed"))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudget.atMost(8))
+            .andExpect(QueryBudget.noRepeatOver(3));
+    }
+}
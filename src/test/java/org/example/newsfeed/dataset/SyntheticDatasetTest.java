@@ -0,0 +1,100 @@
+package org.example.newsfeed.dataset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SyntheticDatasetTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private static DatasetProperties properties(long seed) {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setUsers(1_000);
+        properties.setPosts(10_000);
+        properties.setSeed(seed);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("같은 seed 면 같은 데이터, 다른 seed 면 다른 데이터")
+    public void testDeterministic() {
+        SyntheticDataset a = new SyntheticDataset(properties(42), NOW);
+        SyntheticDataset b = new SyntheticDataset(properties(42), NOW);
+        SyntheticDataset c = new SyntheticDataset(properties(7), NOW);
+
+        int differences = 0;
+        for (long id = 1; id <= 1_000; id++) {
+            assertEquals(a.postAuthor(id), b.postAuthor(id));
+            assertEquals(a.postCreatedAt(id), b.postCreatedAt(id));
+            assertEquals(a.commentPost(id), b.commentPost(id));
+            if (a.commentPost(id) != c.commentPost(id)) {
+                differences++;
+            }
+        }
+        assertTrue(differences > 900);
+    }
+
+    @Test
+    @DisplayName("id 와 시각이 범위 안, 댓글은 게시글 이후")
+    public void testRanges() {
+        DatasetProperties properties = properties(42);
+        SyntheticDataset dataset = new SyntheticDataset(properties, NOW);
+        long oldest = NOW - properties.getMaxAgeDays() * 24 * 60 * 60 * 1000L;
+
+        for (long id = 1; id <= 10_000; id++) {
+            long author = dataset.postAuthor(id);
+            assertTrue(author >= 1 && author <= properties.getUsers());
+            long createdAt = dataset.postCreatedAt(id);
+            assertTrue(createdAt >= oldest && createdAt <= NOW);
+
+            long postId = dataset.commentPost(id);
+            assertTrue(postId >= 1 && postId <= properties.getPosts());
+            long commentedAt = dataset.commentCreatedAt(id, postId);
+            assertTrue(commentedAt >= dataset.postCreatedAt(postId) && commentedAt <= NOW);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제 비율과 최근 게시글 편중")
+    public void testDistribution() {
+        DatasetProperties properties = properties(42);
+        SyntheticDataset dataset = new SyntheticDataset(properties, NOW);
+        long halfAge = properties.getMaxAgeDays() * 24 * 60 * 60 * 1000L / 2;
+
+        int deleted = 0;
+        int recent = 0;
+        for (long id = 1; id <= 10_000; id++) {
+            if (dataset.postDeleted(id)) {
+                deleted++;
+            }
+            if (NOW - dataset.postCreatedAt(id) < halfAge) {
+                recent++;
+            }
+        }
+        assertEquals(500, deleted, 100);
+        // skew 3 이면 u^3 < 0.5 인 비율 = 0.5^(1/3) ≈ 79%
+        assertEquals(7_937, recent, 300);
+    }
+
+    @Test
+    @DisplayName("게시글별 댓글 수가 멱법칙: 상위 1% 게시글에 댓글이 몰림")
+    public void testCommentsArePowerLaw() {
+        SyntheticDataset dataset = new SyntheticDataset(properties(42), NOW);
+        int[] counts = new int[10_001];
+        int comments = 100_000;
+        for (long id = 1; id <= comments; id++) {
+            counts[(int) dataset.commentPost(id)]++;
+        }
+
+        int[] sorted = java.util.Arrays.stream(counts).sorted().toArray();
+        long top = 0;
+        for (int i = sorted.length - 100; i < sorted.length; i++) {
+            top += sorted[i];
+        }
+        assertTrue(top > comments * 0.3, "top1%=" + top);
+        assertTrue(SyntheticDataset.zipfRank(0.0, 10_000, 1.1) == 1);
+        assertTrue(SyntheticDataset.zipfRank(0.999999, 10_000, 1.1) <= 10_000);
+    }
+}
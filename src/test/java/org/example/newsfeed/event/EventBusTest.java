@@ -0,0 +1,192 @@
+package org.example.newsfeed.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class EventBusTest {
+
+    private EventBus eventBus;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (eventBus != null) {
+            eventBus.stop();
+        }
+    }
+
+    private static EventBusProperties properties(int queueCapacity) {
+        EventBusProperties properties = new EventBusProperties();
+        properties.setQueueCapacity(queueCapacity);
+        properties.setPublishTimeoutMillis(10);
+        return properties;
+    }
+
+    // 받은 묶음을 기록하고, latch 가 열릴 때까지 처리를 멈출 수 있는 구독자
+    private static class Recorder<E extends DomainEvent> implements EventConsumer<E> {
+
+        private final Class<E> type;
+        private final List<List<E>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch release;
+        private final CountDownLatch entered = new CountDownLatch(1);
+
+        Recorder(Class<E> type, CountDownLatch release) {
+            this.type = type;
+            this.release = release;
+        }
+
+        @Override
+        public Class<E> eventType() {
+            return type;
+        }
+
+        @Override
+        public void consume(List<E> events) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(events);
+        }
+
+        List<E> received() {
+            List<E> all = new ArrayList<>();
+            synchronized (batches) {
+                batches.forEach(all::addAll);
+            }
+            return all;
+        }
+    }
+
+    @Test
+    @DisplayName("구독한 타입만 발행 순서대로, 밀린 이벤트는 묶어서 받는다")
+    public void testTypedBatches() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Recorder<PostUpdatedEvent> posts = new Recorder<>(PostUpdatedEvent.class, release);
+        Recorder<DomainEvent> all = new Recorder<>(DomainEvent.class, new CountDownLatch(0));
+        eventBus = new EventBus(List.of(posts, all), properties(100));
+        eventBus.start();
+
+        eventBus.publish(new PostUpdatedEvent(1L));
+        assertTrue(posts.entered.await(5, TimeUnit.SECONDS));
+        for (long id = 2; id <= 20; id++) {
+            eventBus.publish(new PostUpdatedEvent(id));
+        }
+        eventBus.publish(new UserWithdrawnEvent(7L));
+        // 첫 이벤트를 붙잡고 있는 동안 나머지 19 개가 모두 posts 큐까지 분배될 때까지 (분배가 늦으면 하나씩 받게 됨)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (eventBus.getPendingCount() != 19 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        eventBus.stop(); // 남은 이벤트까지 처리
+        eventBus = null;
+
+        assertEquals(20, posts.received().size());
+        assertEquals(1L, posts.received().get(0).getPostId());
+        assertEquals(20L, posts.received().get(19).getPostId());
+        assertEquals(2, posts.batches.size());
+        assertEquals(21, all.received().size());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행하면 커밋 후에, 롤백되면 발행하지 않음")
+    public void testAfterCommit() throws InterruptedException {
+        Recorder<DomainEvent> all = new Recorder<>(DomainEvent.class, new CountDownLatch(0));
+        eventBus = new EventBus(List.of(all), properties(100));
+        eventBus.start();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            eventBus.publish(new PostCreatedEvent(1L));
+            assertEquals(0, eventBus.getPendingCount());
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            eventBus.publish(new PostCreatedEvent(2L));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        eventBus.stop();
+        eventBus = null;
+        assertEquals(1, all.received().size());
+        assertEquals(1L, ((PostCreatedEvent) all.received().get(0)).getPostId());
+    }
+
+    @Test
+    @DisplayName("묶음을 받는 구독자가 모두 처리해야 완료 알림, 하나라도 실패하면 알리지 않음")
+    public void testOnConsumed() throws InterruptedException {
+        Recorder<PostUpdatedEvent> posts = new Recorder<>(PostUpdatedEvent.class, new CountDownLatch(0));
+        Recorder<DomainEvent> all = new Recorder<>(DomainEvent.class, new CountDownLatch(0));
+        EventConsumer<UserWithdrawnEvent> failing = new EventConsumer<>() {
+            @Override
+            public Class<UserWithdrawnEvent> eventType() {
+                return UserWithdrawnEvent.class;
+            }
+
+            @Override
+            public void consume(List<UserWithdrawnEvent> events) {
+                throw new IllegalStateException("실패");
+            }
+        };
+        eventBus = new EventBus(List.of(posts, all, failing), properties(100));
+        eventBus.start();
+
+        CountDownLatch consumed = new CountDownLatch(1);
+        eventBus.publish(List.of(new PostUpdatedEvent(1L), new PostCreatedEvent(2L)), consumed::countDown);
+        assertTrue(consumed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, posts.received().size());
+        assertEquals(2, all.received().size());
+
+        CountDownLatch failed = new CountDownLatch(1);
+        eventBus.publish(List.of(new PostUpdatedEvent(3L), new UserWithdrawnEvent(7L)), failed::countDown);
+        eventBus.stop();
+        eventBus = null;
+        assertEquals(4, all.received().size());
+        assertEquals(1, failed.getCount());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 잠시 기다린 뒤 발행 스레드에서 직접 처리 (이벤트를 버리지 않음)")
+    public void testBackpressure() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Recorder<DomainEvent> slow = new Recorder<>(DomainEvent.class, release);
+        eventBus = new EventBus(List.of(slow), properties(2));
+        eventBus.start();
+
+        Thread publisher = new Thread(() -> {
+            for (long id = 1; id <= 10; id++) {
+                eventBus.publish(new PostCreatedEvent(id));
+            }
+        });
+        publisher.start();
+        Thread.sleep(200);
+        release.countDown();
+        publisher.join(5_000);
+
+        eventBus.stop();
+        eventBus = null;
+        assertEquals(10, slow.received().size());
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.newsfeed.invalidation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class InvalidationBusTest {
+
+    private static final String CREATE_TABLE = "CREATE TABLE cache_invalidation ("
+        + "id BIGINT AUTO_INCREMENT PRIMARY KEY, region VARCHAR(16) NOT NULL, key_id BIGINT NOT NULL, "
+        + "origin VARCHAR(64) NOT NULL, created_at TIMESTAMP NOT NULL)";
+
+    // 노드들이 같이 쓰는 DB (H2 메모리)
+    private final DataSource dataSource = sharedDatabase();
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final List<AnnotationConfigApplicationContext> contexts = new ArrayList<>();
+
+    private static DataSource sharedDatabase() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute(CREATE_TABLE);
+        return dataSource;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        contexts.forEach(AnnotationConfigApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("두 애플리케이션 컨텍스트: 한쪽의 무효화가 다른 쪽에 제한 시간 안에 반영됨")
+    public void testBoundedStalenessAcrossContexts() throws InterruptedException {
+        InvalidationProperties properties = properties("a");
+        AnnotationConfigApplicationContext nodeA = node(properties);
+        AnnotationConfigApplicationContext nodeB = node(properties("b"));
+        RecordingListener listenerA = nodeA.getBean(RecordingListener.class);
+        RecordingListener listenerB = nodeB.getBean(RecordingListener.class);
+        Thread.sleep(2 * properties.getPollIntervalMillis()); // 두 노드 모두 읽기 시작 위치를 잡을 때까지
+
+        nodeA.getBean(InvalidationBus.class).publish(List.of(InvalidationKey.post(1L)));
+        assertEquals(1, listenerA.count(InvalidationKey.post(1L))); // 보낸 노드는 바로
+
+        long bound = 2 * properties.getPollIntervalMillis() + 1_000; // 2 x pollInterval + 쿼리/스케줄링 여유
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(bound);
+        while (listenerB.count(InvalidationKey.post(1L)) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, listenerB.count(InvalidationKey.post(1L)));
+
+        Thread.sleep(3 * properties.getPollIntervalMillis());
+        assertEquals(1, listenerA.count(InvalidationKey.post(1L))); // 자기가 보낸 것을 다시 적용하지 않음
+        assertEquals(1, listenerB.count(InvalidationKey.post(1L)));
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 같은 키는 한 번만 보내고 받는 쪽도 한 번만 적용")
+    public void testCoalescing() {
+        RecordingListener listenerB = new RecordingListener();
+        InvalidationBus busA = bus("a", new RecordingListener());
+        InvalidationBus busB = bus("b", listenerB);
+        busB.sync(); // 시작 위치
+
+        for (int i = 0; i < 100; i++) {
+            busA.publish(List.of(InvalidationKey.post(1L), InvalidationKey.comments(1L)));
+        }
+        busA.sync();
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cache_invalidation", Integer.class));
+        assertEquals(2, busB.sync());
+        assertEquals(1, listenerB.count(InvalidationKey.post(1L)));
+        assertEquals(1, listenerB.count(InvalidationKey.comments(1L)));
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 행(id 빈칸)도 받고, 다시 읽힌 행은 버전으로 걸러 냄")
+    public void testLateCommitFillsGap() {
+        RecordingListener listener = new RecordingListener();
+        InvalidationBus bus = bus("b", listener);
+        bus.sync();
+        long last = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidation", Long.class);
+
+        insert(last + 2, InvalidationKey.post(2L)); // id last+1 은 아직 커밋 전
+        assertEquals(1, bus.sync());
+        assertEquals(0, bus.sync()); // 빈칸 때문에 다시 읽지만 이미 적용함
+
+        insert(last + 1, InvalidationKey.post(1L));
+        assertEquals(1, bus.sync());
+        assertEquals(1, listener.count(InvalidationKey.post(1L)));
+        assertEquals(1, listener.count(InvalidationKey.post(2L)));
+    }
+
+    @Test
+    @DisplayName("무효화를 maxStaleness 넘게 받지 못하면 로컬 캐시를 모두 비움")
+    public void testClearsAllWhenStale() throws InterruptedException {
+        InvalidationProperties properties = properties("a");
+        properties.setMaxStalenessMillis(50);
+        RecordingListener listener = new RecordingListener();
+        InvalidationBus bus = new InvalidationBus(new FailingTransport(), List.of(listener), properties);
+
+        assertThrows(IllegalStateException.class, bus::sync);
+        assertFalse(bus.expireIfStale());
+        Thread.sleep(60);
+        assertTrue(bus.expireIfStale());
+        assertEquals(1, listener.cleared.get());
+    }
+
+    private AnnotationConfigApplicationContext node(InvalidationProperties properties) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(DataSource.class, () -> dataSource);
+        context.registerBean(InvalidationProperties.class, () -> properties);
+        context.register(InvalidationConfig.class);
+        context.registerBean(RecordingListener.class);
+        context.registerBean(InvalidationBus.class);
+        context.refresh();
+        contexts.add(context);
+        return context;
+    }
+
+    // 스레드를 띄우지 않은 버스: sync() 를 직접 부른다
+    private InvalidationBus bus(String nodeId, RecordingListener listener) {
+        InvalidationProperties properties = properties(nodeId);
+        return new InvalidationBus(new JdbcInvalidationTransport(jdbcTemplate, properties), List.of(listener), properties);
+    }
+
+    private static InvalidationProperties properties(String nodeId) {
+        InvalidationProperties properties = new InvalidationProperties();
+        properties.setTransport(InvalidationProperties.Transport.JDBC);
+        properties.setNodeId(nodeId);
+        properties.setPollIntervalMillis(50);
+        return properties;
+    }
+
+    private void insert(long id, InvalidationKey key) {
+        jdbcTemplate.update("INSERT INTO cache_invalidation (id, region, key_id, origin, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+            id, key.getRegion().name(), key.getId(), "a");
+    }
+
+    static class RecordingListener implements InvalidationListener {
+
+        private final List<InvalidationKey> invalidated = new ArrayList<>();
+        private final AtomicInteger cleared = new AtomicInteger();
+
+        @Override
+        public synchronized void invalidate(Set<InvalidationKey> keys) {
+            invalidated.addAll(keys);
+        }
+
+        @Override
+        public void invalidateAll() {
+            cleared.incrementAndGet();
+        }
+
+        synchronized int count(InvalidationKey key) {
+            return (int) invalidated.stream().filter(key::equals).count();
+        }
+    }
+
+    private static class FailingTransport implements InvalidationTransport {
+
+        @Override
+        public void send(String origin, Collection<InvalidationKey> keys) {
+        }
+
+        @Override
+        public List<Invalidation> receive(int limit) {
+            throw new IllegalStateException("DB 연결 실패");
+        }
+    }
+}
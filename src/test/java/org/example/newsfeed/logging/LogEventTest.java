@@ -0,0 +1,32 @@
+package org.example.newsfeed.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogEventTest {
+
+    @Test
+    @DisplayName("값 속 줄바꿈/탭은 이스케이프해서 한 줄로 남긴다")
+    public void testEscapeControlCharacters() {
+        String line = LogEvent.info("login_failed")
+            .put("username", "admin\nts=0 event=login_ok")
+            .put("agent", "a\tb\rc\u0001")
+            .format();
+
+        assertFalse(line.contains("\n"));
+        assertFalse(line.contains("\r"));
+        assertFalse(line.contains("\t"));
+        assertTrue(line.endsWith(" username=\"admin\\nts=0 event=login_ok\" agent=\"a\\tb\\rc\\u0001\""));
+    }
+
+    @Test
+    @DisplayName("특수 문자가 없으면 따옴표 없이, 있으면 따옴표로 감싼다")
+    public void testQuote() {
+        String line = LogEvent.info("request").put("path", "/api/posts").put("query", "q=\"a\\b\"").put("empty", "")
+            .format();
+
+        assertTrue(line.endsWith(" event=request path=/api/posts query=\"q=\\\"a\\\\b\\\"\" empty=\"\""));
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.newsfeed.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내기")
+    public void testFifo() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+
+        assertEquals(1, buffer.poll());
+        assertEquals(2, buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    @DisplayName("가득 차면 offer 는 false, 비우면 다시 사용 가능")
+    public void testFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        assertFalse(buffer.offer(99));
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실이나 중복이 없음")
+    public void testConcurrentProducers() throws InterruptedException {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 10_000;
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        Set<Integer> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertTrue(received.add(value));
+            }
+        }
+        done.await();
+        assertNull(buffer.poll());
+    }
+}
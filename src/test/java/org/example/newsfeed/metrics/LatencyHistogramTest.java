@@ -0,0 +1,43 @@
+package org.example.newsfeed.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("버킷 인덱스와 하한값이 서로 맞음")
+    public void testIndexRoundTrip() {
+        for (long value : new long[]{0, 1, 31, 32, 33, 63, 64, 1_000, 123_456, 10_000_000_000L}) {
+            int index = LatencyHistogram.indexOf(value);
+            long lower = LatencyHistogram.lowerBoundOf(index);
+            assertTrue(lower <= value, "value=" + value);
+            assertTrue(LatencyHistogram.indexOf(lower) == index, "value=" + value);
+        }
+    }
+
+    @Test
+    @DisplayName("분위수 상대 오차가 약 3% 이내")
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        long[] values = LatencyHistogram.percentiles(new double[]{0.5, 0.99}, histogram);
+
+        assertEquals(50_000, values[0], 50_000 * 0.03);
+        assertEquals(99_000, values[1], 99_000 * 0.03);
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000, histogram.getMaxMicros());
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 0")
+    public void testEmpty() {
+        long[] values = LatencyHistogram.percentiles(new double[]{0.99}, new LatencyHistogram());
+        assertEquals(0, values[0]);
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.newsfeed.mutationlog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.example.newsfeed.event.CommentCreatedEvent;
+import org.example.newsfeed.event.PostCreatedEvent;
+import org.example.newsfeed.event.PostDeletedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MutationLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    // 게시글 수를 세고, 다시 적용된 로그를 기록하는 상태
+    private static class Counter implements RecoverableState {
+
+        private long posts;
+        private final List<Mutation> replayed = new ArrayList<>();
+
+        @Override
+        public String name() {
+            return "counter";
+        }
+
+        @Override
+        public void writeSnapshot(DataOutput out) throws IOException {
+            out.writeLong(posts);
+        }
+
+        @Override
+        public void readSnapshot(DataInput in, long takenAgoMillis) throws IOException {
+            posts = in.readLong();
+        }
+
+        @Override
+        public void replay(Mutation mutation, long ageMillis) {
+            replayed.add(mutation);
+            if (mutation.getType() == MutationType.POST_CREATED) {
+                posts++;
+            } else if (mutation.getType() == MutationType.POST_DELETED) {
+                posts--;
+            }
+        }
+    }
+
+    private MutationLog open(Counter counter, int segmentBytes) throws IOException {
+        MutationLogProperties properties = new MutationLogProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setSegmentBytes(segmentBytes);
+        properties.setSnapshotIntervalMillis(3_600_000);
+        MutationLog mutationLog = new MutationLog(properties, List.of(counter), now::get);
+        mutationLog.start();
+        return mutationLog;
+    }
+
+    private long files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).count();
+        }
+    }
+
+    @Test
+    @DisplayName("재시작하면 기록한 순서대로 다시 적용 (세그먼트를 넘어가도)")
+    public void testReplayAcrossSegments() throws Exception {
+        MutationLog mutationLog = open(new Counter(), MutationLogSegment.RECORD_BYTES * 4);
+        for (long id = 1; id <= 10; id++) {
+            mutationLog.append(List.of(new PostCreatedEvent(id)));
+        }
+        mutationLog.append(List.of(new CommentCreatedEvent(100L, 3L), new PostDeletedEvent(3L)));
+        assertEquals(12, mutationLog.nextSequence());
+        assertEquals(3, files("segment-"));
+
+        Counter restored = new Counter();
+        open(restored, MutationLogSegment.RECORD_BYTES * 4); // stop 없이: 프로세스가 죽은 경우
+
+        assertEquals(12, restored.replayed.size());
+        assertEquals(1L, restored.replayed.get(0).getAggregateId());
+        Mutation comment = restored.replayed.get(10);
+        assertEquals(MutationType.COMMENT_CREATED, comment.getType());
+        assertEquals(3L, comment.getAggregateId());
+        assertEquals(100L, comment.getEntityId());
+        assertEquals(now.get(), comment.getAtMillis());
+        assertEquals(9, restored.posts);
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 로그만 적용하고, 스냅샷에 반영된 세그먼트는 지운다")
+    public void testSnapshotThenTail() throws Exception {
+        Counter counter = new Counter();
+        MutationLog mutationLog = open(counter, MutationLogSegment.RECORD_BYTES * 4);
+        for (long id = 1; id <= 6; id++) {
+            mutationLog.append(List.of(new PostCreatedEvent(id)));
+            counter.posts++; // 실제로는 다른 구독자가 갱신
+        }
+        mutationLog.snapshot();
+        assertEquals(1, files("segment-")); // 쓰는 중인 세그먼트만 남음
+        assertEquals(1, files("snapshot-"));
+
+        mutationLog.append(List.of(new PostCreatedEvent(7L), new PostDeletedEvent(1L)));
+
+        Counter restored = new Counter();
+        MutationLog reopened = open(restored, MutationLogSegment.RECORD_BYTES * 4);
+        assertEquals(2, restored.replayed.size());
+        assertEquals(6, restored.posts);
+        assertEquals(8, reopened.nextSequence());
+
+        reopened.stop(); // 정상 종료는 스냅샷을 남긴다
+        Counter again = new Counter();
+        open(again, MutationLogSegment.RECORD_BYTES * 4);
+        assertTrue(again.replayed.isEmpty());
+        assertEquals(6, again.posts);
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 파일을 만들지 않음")
+    public void testDisabled() throws Exception {
+        MutationLogProperties properties = new MutationLogProperties();
+        properties.setDirectory(directory.resolve("off").toString());
+        MutationLog mutationLog = new MutationLog(properties, List.of(new Counter()), now::get);
+        mutationLog.start();
+        mutationLog.append(List.of(new PostCreatedEvent(1L)));
+        mutationLog.stop();
+
+        assertFalse(Files.exists(directory.resolve("off")));
+    }
+}
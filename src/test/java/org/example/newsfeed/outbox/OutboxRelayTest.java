@@ -0,0 +1,333 @@
+package org.example.newsfeed.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import org.example.newsfeed.entity.OutboxEvent;
+import org.example.newsfeed.entity.OutboxEventType;
+import org.example.newsfeed.event.CommentCreatedEvent;
+import org.example.newsfeed.event.DomainEvent;
+import org.example.newsfeed.event.EventBus;
+import org.example.newsfeed.event.EventBusProperties;
+import org.example.newsfeed.event.EventConsumer;
+import org.example.newsfeed.event.PostCreatedEvent;
+import org.example.newsfeed.event.PostUpdatedEvent;
+import org.example.newsfeed.repository.OutboxEventRepository;
+import org.example.newsfeed.repository.OutboxEventRepository.AggregateHeadView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class OutboxRelayTest {
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final EventBus eventBus = mock(EventBus.class);
+    private final OutboxRelay relay =
+        new OutboxRelay(repository, TransactionOperations.withoutTransaction(), eventBus, new OutboxProperties());
+
+    private static OutboxEvent row(long id, DomainEvent event) {
+        OutboxEvent row = Outbox.toRow(event);
+        ReflectionTestUtils.setField(row, "id", id);
+        return row;
+    }
+
+    private static AggregateHeadView head(long aggregateId, long firstId) {
+        return new AggregateHeadView() {
+            @Override
+            public Long getAggregateId() {
+                return aggregateId;
+            }
+
+            @Override
+            public Long getFirstId() {
+                return firstId;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("행과 이벤트 변환이 서로 되돌려진다 (댓글 이벤트는 게시글 id 로 묶임)")
+    public void testRoundTrip() {
+        OutboxEvent row = Outbox.toRow(new CommentCreatedEvent(7L, 3L));
+        assertEquals(3L, row.getAggregateId());
+        assertEquals(OutboxEventType.COMMENT_CREATED, row.getType());
+
+        CommentCreatedEvent event = (CommentCreatedEvent) Outbox.toEvent(row);
+        assertEquals(7L, event.getCommentId());
+        assertEquals(3L, event.getPostId());
+    }
+
+    @Test
+    @DisplayName("게시글 행을 잠근 뒤에 outbox 행을 쓴다 (새 게시글은 잠그지 않음)")
+    public void testAppendLocksAggregate() {
+        Outbox outbox = new Outbox(repository, mock(OutboxRelay.class));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            outbox.append(new CommentCreatedEvent(7L, 3L));
+            outbox.append(new PostCreatedEvent(4L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).lockAggregate(3L);
+        order.verify(repository).save(argThat(row -> row.getAggregateId() == 3L));
+        verify(repository, never()).lockAggregate(4L);
+    }
+
+    @Test
+    @DisplayName("잡은 행을 id 순서대로 발행 표시 후 발행하고, 구독자 처리 완료를 받은 뒤에 지운다")
+    @SuppressWarnings("unchecked")
+    public void testRelayInOrder() {
+        when(repository.findPending(any(), any())).thenReturn(List.of(
+            row(1, new PostUpdatedEvent(10L)), row(2, new CommentCreatedEvent(5L, 10L)), row(3, new PostUpdatedEvent(20L))));
+
+        assertEquals(3, relay.relayBatch());
+
+        ArgumentCaptor<List<DomainEvent>> published = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Runnable> onConsumed = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventBus).publish(published.capture(), onConsumed.capture());
+        assertInstanceOf(PostUpdatedEvent.class, published.getValue().get(0));
+        assertInstanceOf(CommentCreatedEvent.class, published.getValue().get(1));
+        assertEquals(20L, ((PostUpdatedEvent) published.getValue().get(2)).getPostId());
+        verify(repository).markDispatched(eq(List.of(1L, 2L, 3L)), any());
+        verify(repository, never()).deleteAllByIdIn(any());
+
+        onConsumed.getValue().run();
+        verify(repository).deleteAllByIdIn(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 앞선 행을 다른 서버가 잡고 있으면 그 게시글은 건너뛴다")
+    @SuppressWarnings("unchecked")
+    public void testKeepsOrderPerAggregate() {
+        when(repository.findPending(any(), any())).thenReturn(List.of(
+            row(5, new PostUpdatedEvent(10L)), row(6, new PostUpdatedEvent(20L))));
+        // 게시글 10 의 id 4 는 다른 서버가 처리 중, 게시글 20 의 id 9 는 나중에 쌓인 행
+        when(repository.findOtherHeads(any(), any())).thenReturn(List.of(head(10, 4), head(20, 9)));
+
+        assertEquals(1, relay.relayBatch());
+
+        ArgumentCaptor<List<DomainEvent>> published = ArgumentCaptor.forClass(List.class);
+        verify(eventBus).publish(published.capture(), any());
+        assertEquals(1, published.getValue().size());
+        assertEquals(20L, ((PostUpdatedEvent) published.getValue().get(0)).getPostId());
+        verify(repository).markDispatched(eq(List.of(6L)), any());
+    }
+
+    @Test
+    @DisplayName("빈 테이블이면 아무것도 하지 않음")
+    public void testEmpty() {
+        when(repository.findPending(any(), any())).thenReturn(List.of());
+
+        assertEquals(0, relay.relayBatch());
+        verifyNoInteractions(eventBus);
+        verify(repository, never()).markDispatched(any(), any());
+        verify(repository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("발행 표시를 커밋한 뒤 구독자가 처리하기 전에 죽으면, 행이 남아 있다가 재시작한 relay 가 다시 발행한다")
+    @SuppressWarnings("unchecked")
+    public void testRedeliversAfterCrashBetweenCommitAndConsume() throws InterruptedException {
+        OutboxProperties properties = new OutboxProperties();
+        Map<Long, OutboxEvent> table = new ConcurrentSkipListMap<>();
+        table.put(1L, row(1, new PostUpdatedEvent(10L)));
+        table.put(2L, row(2, new CommentCreatedEvent(5L, 10L)));
+        table.put(3L, row(3, new PostUpdatedEvent(20L)));
+        OutboxEventRepository stored = tableBacked(table);
+        long[] now = {1_000_000};
+
+        // 큐에 넣은 이벤트가 처리되기 전에 프로세스가 죽음: 처리 완료가 오지 않는다
+        EventBus crashed = mock(EventBus.class);
+        assertEquals(3, new OutboxRelay(stored, TransactionOperations.withoutTransaction(), crashed, properties,
+            () -> now[0]).relayBatch());
+        assertEquals(3, table.size());
+        table.values().forEach(row -> assertNotNull(row.getDispatchedAt()));
+
+        // 재전달 시간이 지나기 전에는 아직 처리 중일 수 있으므로 다시 보내지 않는다
+        now[0] += properties.getRedeliveryMillis() / 2;
+        assertEquals(0, new OutboxRelay(stored, TransactionOperations.withoutTransaction(), mock(EventBus.class),
+            properties, () -> now[0]).relayBatch());
+
+        // 재시작한 서버
+        now[0] += properties.getRedeliveryMillis();
+        List<DomainEvent> received = new ArrayList<>();
+        EventBus restarted = new EventBus(recording(received), new EventBusProperties());
+        restarted.start();
+        assertEquals(3, new OutboxRelay(stored, TransactionOperations.withoutTransaction(), restarted, properties,
+            () -> now[0]).relayBatch());
+        restarted.stop(); // 남은 이벤트까지 처리
+
+        assertEquals(3, received.size());
+        assertEquals(10L, ((PostUpdatedEvent) received.get(0)).getPostId());
+        assertEquals(5L, ((CommentCreatedEvent) received.get(1)).getCommentId());
+        assertEquals(20L, ((PostUpdatedEvent) received.get(2)).getPostId());
+        assertTrue(table.isEmpty(), "처리 완료를 받은 행은 지운다: " + table.keySet());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차 relay 스레드에서 직접 처리해도, 처리 완료 뒤 행이 지워진다")
+    public void testAcknowledgesWhenQueueIsFull() {
+        BufferingTransactionManager transactionManager = new BufferingTransactionManager();
+        Map<Long, OutboxEvent> table = new ConcurrentSkipListMap<>();
+        table.put(1L, row(1, new PostUpdatedEvent(10L)));
+        table.put(2L, row(2, new CommentCreatedEvent(5L, 10L)));
+        OutboxEventRepository stored = tableBacked(table, transactionManager);
+
+        // 분배 스레드를 띄우지 않으므로 한 칸짜리 큐가 계속 차 있다
+        List<DomainEvent> received = new ArrayList<>();
+        EventBusProperties busProperties = new EventBusProperties();
+        busProperties.setQueueCapacity(1);
+        busProperties.setPublishTimeoutMillis(1);
+        EventBus full = new EventBus(recording(received), busProperties);
+        full.publish(new PostCreatedEvent(99L));
+
+        assertEquals(2, new OutboxRelay(stored, transactionManager, full, new OutboxProperties()).relayBatch());
+
+        assertEquals(2, full.getInlinedCount()); // 큐에 들어가지 못해 relay 스레드에서 처리
+        assertEquals(2, received.size());
+        assertTrue(table.isEmpty(), "처리 완료를 받은 행은 지운다: " + table.keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<EventConsumer<?>> recording(List<DomainEvent> received) {
+        EventConsumer<DomainEvent> consumer = new EventConsumer<>() {
+            @Override
+            public Class<DomainEvent> eventType() {
+                return DomainEvent.class;
+            }
+
+            @Override
+            public void consume(List<DomainEvent> events) {
+                received.addAll(events);
+            }
+        };
+        ObjectProvider<EventConsumer<?>> consumers = mock(ObjectProvider.class);
+        when(consumers.orderedStream()).thenReturn(Stream.of(consumer));
+        return consumers;
+    }
+
+    private static OutboxEventRepository tableBacked(Map<Long, OutboxEvent> table) {
+        return tableBacked(table, null);
+    }
+
+    // 행을 메모리에 두고 레포지토리 쿼리를 흉내 낸다 (잠금은 없음). transactionManager 가 있으면 쓰기는 커밋 때 반영된다
+    @SuppressWarnings("unchecked")
+    private static OutboxEventRepository tableBacked(Map<Long, OutboxEvent> table,
+        BufferingTransactionManager transactionManager) {
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        when(repository.findPending(any(), any())).thenAnswer(invocation -> {
+            Timestamp staleBefore = invocation.getArgument(0);
+            return table.values().stream()
+                .filter(row -> row.getDispatchedAt() == null || row.getDispatchedAt().before(staleBefore))
+                .toList();
+        });
+        when(repository.findOtherHeads(any(), any())).thenAnswer(invocation -> {
+            Collection<Long> aggregateIds = invocation.getArgument(0);
+            Collection<Long> claimedIds = invocation.getArgument(1);
+            Map<Long, Long> heads = new TreeMap<>();
+            for (OutboxEvent row : table.values()) {
+                if (aggregateIds.contains(row.getAggregateId()) && !claimedIds.contains(row.getId())) {
+                    heads.merge(row.getAggregateId(), row.getId(), Math::min);
+                }
+            }
+            return heads.entrySet().stream().map(entry -> head(entry.getKey(), entry.getValue())).toList();
+        });
+        when(repository.markDispatched(any(), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            BufferingTransactionManager.write(transactionManager, () -> ids.forEach(
+                id -> ReflectionTestUtils.setField(table.get(id), "dispatchedAt", invocation.getArgument(1))));
+            return ids.size();
+        });
+        when(repository.deleteAllByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            BufferingTransactionManager.write(transactionManager, () -> ids.forEach(table::remove));
+            return ids.size();
+        });
+        return repository;
+    }
+
+    // 쓰기를 모아 두었다가 커밋할 때 반영한다. JPA 처럼 끝난 트랜잭션에 (REQUIRED 로) 참여한 쓰기는 반영되지 않는다
+    @SuppressWarnings("unchecked")
+    private static final class BufferingTransactionManager extends AbstractPlatformTransactionManager {
+
+        static void write(BufferingTransactionManager transactionManager, Runnable write) {
+            List<Runnable> pending = transactionManager == null
+                ? null : (List<Runnable>) TransactionSynchronizationManager.getResource(transactionManager);
+            if (pending == null) {
+                write.run();
+            } else {
+                pending.add(write);
+            }
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Transaction((List<Runnable>) TransactionSynchronizationManager.getResource(this));
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((Transaction) transaction).pending != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            ((Transaction) transaction).pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, ((Transaction) transaction).pending);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            ((Transaction) transaction).pending = null;
+            return TransactionSynchronizationManager.unbindResource(this);
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            TransactionSynchronizationManager.bindResource(this, suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            ((Transaction) status.getTransaction()).pending.forEach(Runnable::run);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            ((Transaction) status.getTransaction()).pending.clear();
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            TransactionSynchronizationManager.unbindResource(this);
+        }
+
+        private static final class Transaction {
+
+            private List<Runnable> pending;
+
+            private Transaction(List<Runnable> pending) {
+                this.pending = pending;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.newsfeed.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.newsfeed.event.CommentCreatedEvent;
+import org.example.newsfeed.event.PostCreatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OutboxWatermarkTest {
+
+    private final long[] now = {1_000_000};
+    private final OutboxProperties properties = new OutboxProperties();
+    private final OutboxWatermark watermark = new OutboxWatermark(properties, () -> now[0]);
+
+    @Test
+    @DisplayName("다시 발행된 이벤트(마지막에 적용한 id 이하)는 건너뛴다")
+    public void testSkipsRedelivery() {
+        CommentCreatedEvent first = new CommentCreatedEvent(1L, 10L, 5L);
+        CommentCreatedEvent second = new CommentCreatedEvent(2L, 10L, 8L);
+
+        assertFalse(watermark.isApplied(10L, first));
+        watermark.applied(10L, first);
+        assertFalse(watermark.isApplied(10L, second));
+        watermark.applied(10L, second);
+
+        assertTrue(watermark.isApplied(10L, first));
+        assertTrue(watermark.isApplied(10L, second));
+        assertFalse(watermark.isApplied(20L, new CommentCreatedEvent(3L, 20L, 6L))); // 다른 게시글
+    }
+
+    @Test
+    @DisplayName("적용을 마치지 못한 이벤트와 outbox 를 거치지 않은 이벤트는 다시 적용한다")
+    public void testNotApplied() {
+        PostCreatedEvent event = new PostCreatedEvent(10L, 5L);
+        assertFalse(watermark.isApplied(10L, event));
+        assertFalse(watermark.isApplied(10L, event)); // applied 를 부르지 않았음
+
+        PostCreatedEvent direct = new PostCreatedEvent(10L);
+        watermark.applied(10L, direct);
+        assertFalse(watermark.isApplied(10L, direct));
+    }
+
+    @Test
+    @DisplayName("오래 다시 오지 않은 게시글은 잊는다")
+    public void testPrune() {
+        watermark.applied(10L, new PostCreatedEvent(10L, 5L));
+        now[0] += properties.getRedeliveryMillis() * 2;
+        assertTrue(watermark.isApplied(10L, new PostCreatedEvent(10L, 5L))); // 다시 오는 중이라 더 기억한다
+
+        now[0] += properties.getRedeliveryMillis() * 4;
+        watermark.applied(20L, new PostCreatedEvent(20L, 9L));
+        assertEquals(1, watermark.size());
+    }
+}
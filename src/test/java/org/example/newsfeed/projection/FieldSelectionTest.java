@@ -0,0 +1,32 @@
+package org.example.newsfeed.projection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FieldSelectionTest {
+
+    @Test
+    @DisplayName("지정하지 않으면 null, 지정하면 enum 선언 순서로 정규화")
+    public void testParse() {
+        assertNull(FieldSelection.parse(null, PostField.class));
+        assertNull(FieldSelection.parse(" ", PostField.class));
+
+        Set<PostField> fields = FieldSelection.parse("preview, id,,userId,id", PostField.class);
+        assertEquals(EnumSet.of(PostField.ID, PostField.USER_ID, PostField.PREVIEW), fields);
+        assertEquals("id,userId,preview", FieldSelection.key(fields));
+        assertEquals(FieldSelection.key(fields), FieldSelection.key(FieldSelection.parse("userId,preview,id", PostField.class)));
+    }
+
+    @Test
+    @DisplayName("모르는 필드나 빈 선택은 IllegalArgumentException (400)")
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.parse("id,password", PostField.class));
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.parse("postId", PostField.class));
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.parse(",,", CommentField.class));
+        assertEquals(EnumSet.of(CommentField.POST_ID), FieldSelection.parse("postId", CommentField.class));
+    }
+}
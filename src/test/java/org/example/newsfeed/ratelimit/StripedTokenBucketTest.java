@@ -0,0 +1,52 @@
+package org.example.newsfeed.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedTokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("버스트 허용량까지는 통과하고 그 이후는 거절")
+    public void testBurst() {
+        StripedTokenBucket bucket = new StripedTokenBucket(16, 3, 1);
+
+        assertEquals(0L, bucket.tryAcquire("127.0.0.1", 0));
+        assertEquals(0L, bucket.tryAcquire("127.0.0.1", 0));
+        assertEquals(0L, bucket.tryAcquire("127.0.0.1", 0));
+        assertTrue(bucket.tryAcquire("127.0.0.1", 0) > 0);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 충전")
+    public void testRefill() {
+        StripedTokenBucket bucket = new StripedTokenBucket(16, 1, 2);
+
+        assertEquals(0L, bucket.tryAcquire("user", 0));
+        long wait = bucket.tryAcquire("user", 0);
+        assertEquals(SECOND / 2, wait);
+        assertEquals(0L, bucket.tryAcquire("user", wait));
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 토큰을 소비하지 않음")
+    public void testRejectedDoesNotConsume() {
+        StripedTokenBucket bucket = new StripedTokenBucket(16, 1, 1);
+
+        assertEquals(0L, bucket.tryAcquire("user", 0));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(bucket.tryAcquire("user", SECOND / 2) > 0);
+        }
+        assertEquals(0L, bucket.tryAcquire("user", SECOND));
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값 검증")
+    public void testInvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(16, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(16, 1, 0));
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.newsfeed.reaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import org.example.newsfeed.entity.ReactionCounterShard;
+import org.example.newsfeed.entity.ReactionTargetType;
+import org.example.newsfeed.repository.ReactionCounterShardRepository;
+import org.example.newsfeed.repository.ReactionCounterShardRepository.TargetCountView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+class ReactionCounterTest {
+
+    private final ReactionCounterShardRepository repository = mock(ReactionCounterShardRepository.class);
+    private final ReactionCounter counter =
+        new ReactionCounter(repository, TransactionOperations.withoutTransaction(), new ReactionProperties());
+
+    private static TargetCountView stored(long targetId, long count) {
+        return new TargetCountView() {
+            @Override
+            public Long getTargetId() {
+                return targetId;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("좋아요는 메모리에만 쌓이고, 조회 값은 DB 합계 + 반영 안된 증감")
+    public void testCountsIncludePending() {
+        when(repository.sumByTargetIds(eq(ReactionTargetType.POST), anyCollection())).thenReturn(List.of(stored(1, 10)));
+        counter.add(ReactionTargetType.POST, 1L, 1);
+        counter.add(ReactionTargetType.POST, 1L, 1);
+        counter.add(ReactionTargetType.POST, 2L, 1);
+        counter.add(ReactionTargetType.COMMENT, 1L, 1);
+
+        Map<Long, Long> counts = counter.counts(ReactionTargetType.POST, List.of(1L, 2L, 3L));
+        assertEquals(Map.of(1L, 12L, 2L, 1L, 3L, 0L), counts);
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("flush 는 대상별 증감을 합쳐 한 번에 저장, 서로 상쇄되면 저장하지 않음")
+    @SuppressWarnings("unchecked")
+    public void testFlush() {
+        counter.add(ReactionTargetType.POST, 1L, 1);
+        counter.add(ReactionTargetType.POST, 1L, 1);
+        counter.add(ReactionTargetType.POST, 2L, 1);
+        counter.add(ReactionTargetType.POST, 2L, -1);
+
+        counter.flush();
+
+        ArgumentCaptor<List<ReactionCounterShard>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals(1L, saved.getValue().get(0).getTargetId());
+        assertEquals(2, saved.getValue().get(0).getCount());
+
+        counter.flush(); // 반영할 것이 없으면 DB 를 건드리지 않음
+        verify(repository, times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("저장 실패(다른 서버와 충돌)하면 증감을 되돌려 다음 flush 에서 다시")
+    public void testRetryAfterConflict() {
+        when(repository.saveAll(any())).thenThrow(new OptimisticLockingFailureException("conflict")).thenReturn(List.of());
+        counter.add(ReactionTargetType.POST, 1L, 1);
+
+        counter.flush();
+        assertEquals(1, counter.counts(ReactionTargetType.POST, List.of(1L)).get(1L));
+
+        counter.flush();
+        verify(repository, times(2)).saveAll(any());
+        assertEquals(0, counter.counts(ReactionTargetType.POST, List.of(1L)).get(1L));
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.newsfeed.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import org.example.newsfeed.cache.JsonFragment;
+import org.example.newsfeed.cache.PostCounter;
+import org.example.newsfeed.cache.PostJsonCache;
+import org.example.newsfeed.cache.PostVersionIndex;
+import org.example.newsfeed.dto.PostBatchResponseDTO;
+import org.example.newsfeed.entity.Post;
+import org.example.newsfeed.outbox.Outbox;
+import org.example.newsfeed.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PostServiceBatchTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostVersionIndex postVersionIndex = mock(PostVersionIndex.class);
+    private final PostJsonCache postJsonCache = mock(PostJsonCache.class);
+    private final PostService postService = new PostService(postRepository, postVersionIndex, postJsonCache, mock(PostCounter.class), mock(Outbox.class));
+
+    private static Post post(long id) {
+        Post post = Post.builder().content("content" + id).build();
+        ReflectionTestUtils.setField(post, "id", id);
+        ReflectionTestUtils.setField(post, "updatedAt", new Timestamp(1_000 * id));
+        return post;
+    }
+
+    private static JsonFragment json(long id) {
+        return new JsonFragment(("{\"id\":" + id + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 것은 쿼리 없이, 나머지는 IN 쿼리 한 번. 요청 순서 유지, 없는 id 보고")
+    public void testGetPostsByIds() {
+        JsonFragment cached = json(2);
+        when(postVersionIndex.peekPostVersion(2L)).thenReturn("v2");
+        when(postJsonCache.find(2L, "v2")).thenReturn(cached);
+
+        Post post3 = post(3);
+        Post post1 = post(1);
+        JsonFragment json1 = json(1);
+        JsonFragment json3 = json(3);
+        when(postRepository.findAllByIdInAndDeleted(anyCollection(), eq(Boolean.FALSE))).thenReturn(List.of(post3, post1));
+        when(postJsonCache.get(post1)).thenReturn(json1);
+        when(postJsonCache.get(post3)).thenReturn(json3);
+
+        PostBatchResponseDTO response = postService.getPostsByIds(List.of(3L, 2L, 9L, 1L, 3L));
+
+        assertEquals(List.of(json3, cached, json1), response.getPosts());
+        assertEquals(List.of(9L), response.getMissingIds());
+        verify(postRepository, times(1)).findAllByIdInAndDeleted(eq(List.of(3L, 9L, 1L)), eq(Boolean.FALSE));
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 쿼리하지 않음")
+    public void testAllCached() {
+        when(postVersionIndex.peekPostVersion(anyLong())).thenReturn("v");
+        when(postJsonCache.find(anyLong(), eq("v"))).thenAnswer(invocation -> json(invocation.<Long>getArgument(0)));
+
+        PostBatchResponseDTO response = postService.getPostsByIds(List.of(5L, 4L));
+
+        assertEquals(2, response.getPosts().size());
+        assertTrue(response.getMissingIds().isEmpty());
+        verifyNoInteractions(postRepository);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.newsfeed.sharding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int AUTHORS = 100_000;
+
+    @Test
+    @DisplayName("연속된 작성자 id 도 샤드에 고르게 나뉨")
+    public void testSpreadsAuthorsEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(4, 160);
+        int[] counts = new int[4];
+        for (long author = 1; author <= AUTHORS; author++) {
+            counts[ring.shardOf(author)]++;
+        }
+
+        // 가상 노드 160 개면 샤드 사이 편차는 10~15% 정도
+        for (int count : counts) {
+            assertTrue(Math.abs(count - AUTHORS / 4) < AUTHORS / 4 * 0.25, "샤드별 작성자 수: " + count);
+        }
+    }
+
+    @Test
+    @DisplayName("샤드를 뒤에 추가하면 새 샤드로 가는 작성자만 옮겨짐")
+    public void testAddingShardMovesOnlyItsShare() {
+        ConsistentHashRing before = new ConsistentHashRing(4, 160);
+        ConsistentHashRing after = new ConsistentHashRing(5, 160);
+        int moved = 0;
+        for (long author = 1; author <= AUTHORS; author++) {
+            int from = before.shardOf(author);
+            int to = after.shardOf(author);
+            if (from != to) {
+                assertEquals(4, to, "기존 샤드 사이에서 옮겨지면 안 됨");
+                moved++;
+            }
+        }
+
+        assertTrue(moved > AUTHORS / 5 * 0.8 && moved < AUTHORS / 5 * 1.2, "옮겨진 작성자 수: " + moved);
+    }
+
+    @Test
+    @DisplayName("id 의 하위 비트에 샤드 번호가 들어감")
+    public void testShardIdsRoundTrip() {
+        long id = ShardIds.compose(123_456_789L, 37);
+
+        assertEquals(37, ShardIds.shardOf(id));
+        assertNotEquals(id, ShardIds.compose(123_456_790L, 37));
+        assertNotEquals(id, ShardIds.compose(123_456_789L, 36));
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.newsfeed.sharding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KWayMergeTest {
+
+    @Test
+    @DisplayName("샤드별 최신순 목록을 합쳐 한 페이지를 자름")
+    public void testMergesPage() {
+        List<List<Integer>> shards = List.of(List.of(90, 70, 40, 10), List.of(80, 75, 20), List.of(), List.of(85, 30));
+
+        assertEquals(List.of(90, 85, 80), KWayMerge.merge(shards, Comparator.reverseOrder(), 0, 3));
+        assertEquals(List.of(75, 70, 40), KWayMerge.merge(shards, Comparator.reverseOrder(), 3, 3));
+        assertEquals(List.of(10), KWayMerge.merge(shards, Comparator.reverseOrder(), 8, 3));
+        assertEquals(List.of(), KWayMerge.merge(shards, Comparator.reverseOrder(), 9, 3));
+    }
+
+    @Test
+    @DisplayName("같은 값은 앞 샤드 것이 먼저")
+    public void testTiesKeepShardOrder() {
+        List<List<String>> shards = List.of(List.of("a1", "b1"), List.of("a2", "b2"));
+
+        assertEquals(List.of("a1", "a2", "b1", "b2"),
+            KWayMerge.merge(shards, Comparator.comparing(item -> item.charAt(0)), 0, 10));
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.newsfeed.sharding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.example.newsfeed.projection.ProjectedRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ShardRouterTest {
+
+    private static final int SHARDS = 3;
+    private static final String CREATE_TABLE = "CREATE TABLE post (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, "
+        + "created_at BIGINT NOT NULL)";
+
+    // 샤드마다 H2 메모리 DB 하나. 애플리케이션처럼 라우팅 DataSource 를 지연 커넥션 프록시로 감싼다
+    private final List<DataSource> shards = new ArrayList<>();
+    private final DataSource routing = routing();
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+    private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+    private final ShardRouter router = new ShardRouter(properties(), transactionManager);
+
+    private DataSource routing() {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+            new JdbcTemplate(dataSource).execute(CREATE_TABLE);
+            shards.add(dataSource);
+            targets.put(shard, dataSource);
+        }
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(shards.get(ShardIds.HOME_SHARD));
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static ShardingProperties properties() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        for (int shard = 0; shard < SHARDS; shard++) {
+            properties.getShards().add(new ShardingProperties.Shard());
+        }
+        properties.setScatterThreads(SHARDS);
+        return properties;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        router.stop();
+    }
+
+    @Test
+    @DisplayName("작성자의 샤드에 쓰고 id 만으로 같은 샤드를 찾음")
+    public void testWritesToAuthorShard() {
+        long author = 42;
+        int shard = router.shardOfAuthor(author);
+        long id = ShardIds.compose(1, shard);
+
+        router.onShard(shard, () -> jdbcTemplate.update("INSERT INTO post VALUES (?, ?, ?)", id, author, 1L));
+
+        for (int other = 0; other < SHARDS; other++) {
+            Integer count = new JdbcTemplate(shards.get(other)).queryForObject("SELECT count(*) FROM post", Integer.class);
+            assertEquals(other == shard ? 1 : 0, count);
+        }
+        assertEquals(author, router.onShard(router.shardOfId(id),
+            () -> jdbcTemplate.queryForObject("SELECT user_id FROM post WHERE id = ?", Long.class, id)));
+    }
+
+    @Test
+    @DisplayName("모든 샤드에서 읽은 최신순 페이지를 합치면 한 DB 에서 읽은 것과 같음")
+    public void testScatterGatherFeedPage() {
+        List<Long> all = new ArrayList<>();
+        long sequence = 0;
+        for (long author = 1; author <= 30; author++) {
+            int shard = router.shardOfAuthor(author);
+            for (int n = 0; n < 5; n++) {
+                long id = ShardIds.compose(++sequence, shard);
+                long createdAt = (sequence * 7_919) % 1_000; // 샤드와 상관없이 섞인 작성 시각
+                router.onShard(shard, () -> jdbcTemplate.update("INSERT INTO post VALUES (?, ?, ?)", id, 0L, createdAt));
+                all.add(createdAt * 1_000_000 + id);
+            }
+        }
+        all.sort(Comparator.reverseOrder());
+        int page = 3;
+        int size = 10;
+
+        // 샤드마다 앞에서부터 offset + size 개 (ShardRoutingAspect 가 Pageable 을 바꾸는 것과 같게)
+        List<List<Long>> perShard = router.scatter(true, shard -> jdbcTemplate.queryForList(
+            "SELECT created_at * 1000000 + id FROM post ORDER BY created_at DESC, id DESC LIMIT ?", Long.class,
+            (page + 1) * size));
+        List<Long> merged = KWayMerge.merge(perShard, Comparator.<Long>reverseOrder(), (long) page * size, size);
+
+        assertEquals(all.subList(page * size, (page + 1) * size), merged);
+        long total = router.scatter(true, shard -> jdbcTemplate.queryForObject("SELECT count(*) FROM post", Long.class))
+            .stream().mapToLong(Long::longValue).sum();
+        assertEquals(all.size(), total);
+    }
+
+    @Test
+    @DisplayName("fields= 페이지(정렬 기준 필드를 고르지 않음)도 한 DB 에서 읽은 순서대로 합쳐짐")
+    public void testScatterGatherFieldsPage() {
+        Map<Long, Long> createdAtById = new HashMap<>();
+        long sequence = 0;
+        for (long author = 1; author <= 30; author++) {
+            int shard = router.shardOfAuthor(author);
+            for (int n = 0; n < 5; n++) {
+                long id = ShardIds.compose(++sequence, shard);
+                long createdAt = (sequence * 7_919) % 1_000;
+                router.onShard(shard, () -> jdbcTemplate.update("INSERT INTO post VALUES (?, ?, ?)", id, 0L, createdAt));
+                createdAtById.put(id, createdAt);
+            }
+        }
+        // 한 DB 였다면: 최신순 전체에서 그 페이지
+        List<Long> all = new ArrayList<>(createdAtById.keySet());
+        all.sort(Comparator.comparing(createdAtById::get, Comparator.reverseOrder()));
+        int page = 2;
+        int size = 10;
+
+        // PostProjectionRepositoryImpl 처럼 고른 필드(id)만 응답 값으로, 작성 시각은 정렬 값으로 들고 있는 행
+        List<List<Object>> perShard = router.scatter(true, shard -> jdbcTemplate.query(
+            "SELECT id, created_at FROM post ORDER BY created_at DESC LIMIT ?", (rs, rowNum) -> {
+                ProjectedRow row = new ProjectedRow().withSortValue("createdAt", rs.getLong("created_at"));
+                row.put("id", rs.getLong("id"));
+                return (Object) row;
+            }, (page + 1) * size));
+        List<Object> merged = KWayMerge.merge(perShard,
+            ShardRoutingAspect.comparator(Sort.by(Sort.Direction.DESC, "createdAt")), (long) page * size, size);
+
+        List<Long> mergedIds = new ArrayList<>();
+        for (Object row : merged) {
+            assertEquals(List.of("id"), List.copyOf(((ProjectedRow) row).keySet())); // 정렬 값은 응답에 나가지 않음
+            mergedIds.add((Long) ((ProjectedRow) row).get("id"));
+        }
+        assertEquals(all.subList(page * size, (page + 1) * size), mergedIds);
+    }
+
+    @Test
+    @DisplayName("트랜잭션은 처음 커넥션을 얻은 샤드에 고정됨")
+    public void testTransactionPinsFirstShard() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            ShardContext.call(1, () -> jdbcTemplate.update("INSERT INTO post VALUES (1, 0, 0)"));
+            assertEquals(1, ShardContext.pinned());
+            assertEquals(1, ShardContext.current()); // 트랜잭션이 끝날 때까지
+            ShardContext.call(2, () -> jdbcTemplate.update("INSERT INTO post VALUES (2, 0, 0)")); // 같은 커넥션
+        });
+
+        assertNull(ShardContext.current());
+        assertEquals(2, new JdbcTemplate(shards.get(1)).queryForObject("SELECT count(*) FROM post", Integer.class));
+        assertEquals(0, new JdbcTemplate(shards.get(2)).queryForObject("SELECT count(*) FROM post", Integer.class));
+    }
+}
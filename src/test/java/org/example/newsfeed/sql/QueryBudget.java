@@ -0,0 +1,32 @@
+package org.example.newsfeed.sql;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+// MockMvc 테스트에서 엔드포인트별 쿼리 수 상한을 검사한다
+// 예) mvc.perform(get("/api/posts/1")).andExpect(QueryBudget.atMost(2)).andExpect(QueryBudget.noRepeatOver(1));
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            String count = result.getResponse().getHeader(SqlStatisticsFilter.HEADER_COUNT);
+            assertNotNull(count, SqlStatisticsFilter.HEADER_COUNT + " 헤더가 없습니다. sql-stats.expose-headers 설정을 확인하세요.");
+            assertTrue(Integer.parseInt(count) <= statements,
+                "SQL " + count + "건 실행됨 (허용 " + statements + "건)");
+        };
+    }
+
+    public static ResultMatcher noRepeatOver(int repeats) {
+        return result -> {
+            String maxRepeat = result.getResponse().getHeader(SqlStatisticsFilter.HEADER_MAX_REPEAT);
+            assertNotNull(maxRepeat, SqlStatisticsFilter.HEADER_MAX_REPEAT + " 헤더가 없습니다.");
+            assertTrue(Integer.parseInt(maxRepeat) <= repeats,
+                "같은 SQL 이 " + maxRepeat + "번 반복됨 (허용 " + repeats + "번)");
+        };
+    }
+}
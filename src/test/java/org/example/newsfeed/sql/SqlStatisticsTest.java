@@ -0,0 +1,53 @@
+package org.example.newsfeed.sql;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlStatisticsTest {
+
+    @AfterEach
+    public void tearDown() {
+        SqlStatisticsHolder.clear();
+    }
+
+    @Test
+    @DisplayName("값만 다른 SQL 은 같은 모양으로 정규화")
+    public void testNormalize() {
+        String a = SqlShapes.normalize("/* load User */ select u.id from user u where u.id=1 and u.name='kim'");
+        String b = SqlShapes.normalize("select u.id   from user u where u.id=25 and u.name='lee'");
+
+        assertEquals(a, b);
+        assertEquals("select u.id from user u where u.id=? and u.name=?", a);
+        assertEquals(SqlShapes.normalize("select * from post where id in (?, ?, ?)"),
+            SqlShapes.normalize("select * from post where id in (?)"));
+    }
+
+    @Test
+    @DisplayName("요청 안에서 실행된 SQL 집계와 반복 감지")
+    public void testRepeatedShapes() {
+        SqlStatistics statistics = SqlStatisticsHolder.start();
+
+        SqlStatisticsHolder.record("select * from post", 1_000);
+        for (long id = 1; id <= 5; id++) {
+            SqlStatisticsHolder.record("select * from user where id=" + id, 2_000);
+        }
+
+        assertEquals(6, statistics.getStatementCount());
+        assertEquals(11_000, statistics.getJdbcNanos());
+        assertEquals(5, statistics.getMaxRepeat());
+        Map<String, Integer> repeated = statistics.repeatedShapes(5);
+        assertEquals(1, repeated.size());
+        assertEquals(5, repeated.get("select * from user where id=?"));
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 기록하지 않음")
+    public void testNoCurrentRequest() {
+        SqlStatisticsHolder.record("select 1", 1_000);
+        assertNull(SqlStatisticsHolder.current());
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.newsfeed.trending;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrendingPostsTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    private TrendingPosts trendingPosts(int windows, int candidates) {
+        TrendingProperties properties = new TrendingProperties();
+        properties.setWindows(windows);
+        properties.setCandidates(candidates);
+        return new TrendingPosts(properties, now::get);
+    }
+
+    private void minutes(long minutes) {
+        now.addAndGet(TimeUnit.MINUTES.toNanos(minutes));
+    }
+
+    @Test
+    @DisplayName("조회 1, 댓글 5 가중치로 점수 높은 순")
+    public void testRanking() {
+        TrendingPosts trending = trendingPosts(60, 100);
+        for (int i = 0; i < 10; i++) {
+            trending.recordView(1L);
+        }
+        trending.recordComment(2L);
+        trending.recordComment(2L);
+        trending.recordComment(2L);
+        trending.recordView(3L);
+
+        List<TrendingPost> top = trending.top(2);
+        assertEquals(2, top.size());
+        assertEquals(2L, top.get(0).getPostId());
+        assertEquals(15, top.get(0).getScore());
+        assertEquals(1L, top.get(1).getPostId());
+        assertEquals(10, top.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("창이 지나면 예전 조회는 빠진다")
+    public void testSlidingWindow() {
+        TrendingPosts trending = trendingPosts(5, 100);
+        trending.recordView(1L);
+        minutes(3);
+        trending.recordView(1L);
+        trending.recordView(2L);
+        assertEquals(2, trending.top(10).get(0).getScore());
+
+        minutes(2); // 첫 조회는 5분 전 -> 만료
+        assertEquals(1, trending.top(10).get(0).getScore());
+
+        minutes(10);
+        assertTrue(trending.top(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("후보 수는 고정, 많이 본 게시글이 밀려나지 않음")
+    public void testHeavyHitters() {
+        TrendingPosts trending = trendingPosts(60, 20);
+        for (long postId = 1; postId <= 5; postId++) {
+            for (int i = 0; i < 100; i++) {
+                trending.recordView(postId);
+            }
+        }
+        for (long postId = 1_000; postId < 6_000; postId++) { // 한 번씩만 본 게시글 다수
+            trending.recordView(postId);
+        }
+
+        List<TrendingPost> top = trending.top(5);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), top.stream().map(TrendingPost::getPostId).sorted().toList());
+        top.forEach(post -> assertTrue(post.getScore() >= 100));
+    }
+
+    @Test
+    @DisplayName("창이 바뀌면 후보 점수를 다시 재서 문턱을 새로 정한다 (0 으로 되돌리지 않음)")
+    public void testThresholdAfterRotate() {
+        TrendingPosts trending = trendingPosts(5, 3);
+        for (long postId = 1; postId <= 3; postId++) {
+            for (int i = 0; i < 3; i++) {
+                trending.recordView(postId);
+            }
+        }
+        assertTrue(trending.admissionThreshold() <= 3); // 넣을 때 잰 점수 (하한)
+
+        minutes(2);
+        trending.recordView(1L); // 창이 바뀜
+        assertEquals(3, trending.admissionThreshold());
+        trending.recordView(4L); // 문턱을 넘지 못해 후보가 바뀌지 않는다
+        assertEquals(List.of(1L, 2L, 3L), trending.top(10).stream().map(TrendingPost::getPostId).sorted().toList());
+
+        minutes(4); // 처음 조회들이 만료: 2, 3 은 0 점
+        trending.recordView(5L);
+        assertEquals(0, trending.admissionThreshold());
+        assertTrue(trending.top(10).stream().anyMatch(post -> post.getPostId() == 5L));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 순위에서 제외")
+    public void testRemove() {
+        TrendingPosts trending = trendingPosts(60, 100);
+        trending.recordView(1L);
+        trending.remove(1L);
+        assertTrue(trending.top(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽으면 지난 시간만큼 창이 밀리고, 다시 적용한 댓글은 그 시점 창에 들어간다")
+    public void testSnapshotRestore() throws Exception {
+        TrendingPosts trending = trendingPosts(5, 100);
+        trending.recordView(1L);
+        minutes(2);
+        trending.recordView(1L);
+        trending.recordView(2L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        trending.writeSnapshot(new DataOutputStream(bytes));
+
+        TrendingPosts restored = trendingPosts(5, 100); // 재시작: nanoTime 기준이 달라도 된다
+        minutes(1);
+        restored.readSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 60_000);
+        restored.replayComment(3L, 30_000);
+        List<TrendingPost> top = restored.top(10);
+        assertEquals(3L, top.get(0).getPostId());
+        assertEquals(5, top.get(0).getScore());
+        assertEquals(1L, top.get(1).getPostId());
+        assertEquals(2, top.get(1).getScore());
+
+        minutes(2); // 첫 조회는 5분 전 -> 만료
+        assertEquals(1, restored.top(10).stream().filter(post -> post.getPostId() == 1L).findFirst().get().getScore());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.newsfeed.viewers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    private static HyperLogLog viewers(long from, long to) {
+        HyperLogLog hll = new HyperLogLog();
+        for (long viewer = from; viewer < to; viewer++) {
+            hll.add(PostViewers.hash(viewer));
+        }
+        return hll;
+    }
+
+    @Test
+    @DisplayName("오차 범위 안의 추정, 적으면 sparse 많으면 dense")
+    public void testEstimate() {
+        HyperLogLog few = viewers(0, 100);
+        assertTrue(few.isSparse());
+        assertEquals(100, few.estimate(), 5);
+
+        HyperLogLog many = viewers(0, 100_000);
+        assertFalse(many.isSparse());
+        assertEquals(100_000, many.estimate(), 100_000 * 0.05);
+    }
+
+    @Test
+    @DisplayName("같은 방문자는 한 번만 센다")
+    public void testDuplicates() {
+        HyperLogLog hll = viewers(0, 1_000);
+        assertFalse(hll.add(PostViewers.hash(7)));
+        assertEquals(viewers(0, 1_000).estimate(), hll.estimate());
+    }
+
+    @Test
+    @DisplayName("병합은 합집합 (sparse + dense 섞여도)")
+    public void testMerge() {
+        HyperLogLog union = viewers(0, 50_000);
+        HyperLogLog merged = viewers(0, 200);
+        merged.merge(viewers(100, 30_000));
+        merged.merge(viewers(20_000, 50_000));
+        assertEquals(union.estimate(), merged.estimate());
+    }
+
+    @Test
+    @DisplayName("저장 형식을 다시 읽으면 같은 값, sparse 는 작게")
+    public void testBytesRoundTrip() {
+        HyperLogLog sparse = viewers(0, 300);
+        byte[] sparseBytes = sparse.toBytes();
+        assertTrue(sparseBytes.length < 1_000);
+        assertEquals(sparse.estimate(), HyperLogLog.fromBytes(sparseBytes).estimate());
+
+        HyperLogLog dense = viewers(0, 100_000);
+        byte[] denseBytes = dense.toBytes();
+        assertEquals(2 + (1 << HyperLogLog.PRECISION) * 6 / 8, denseBytes.length);
+        assertEquals(dense.estimate(), HyperLogLog.fromBytes(denseBytes).estimate());
+
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[] {9, 12}));
+    }
+}
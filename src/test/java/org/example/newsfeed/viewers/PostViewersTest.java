@@ -0,0 +1,69 @@
+package org.example.newsfeed.viewers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.example.newsfeed.entity.PostViewerSketch;
+import org.example.newsfeed.repository.PostViewerSketchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+class PostViewersTest {
+
+    private final List<PostViewerSketch> rows = new ArrayList<>();
+    private final PostViewerSketchRepository repository = tableBacked(rows);
+    private final ViewerProperties properties = new ViewerProperties();
+    private final long[] now = {0};
+
+    private PostViewers node() {
+        return new PostViewers(repository, TransactionOperations.withoutTransaction(), properties, () -> now[0]);
+    }
+
+    @Test
+    @DisplayName("서버마다 다른 방문자를 받아도 flush 후 다시 읽을 때가 지나면 같은 수를 낸다")
+    public void testNodesConverge() {
+        PostViewers a = node();
+        PostViewers b = node();
+        for (long viewer = 0; viewer < 100; viewer++) {
+            a.record(1L, viewer);
+            b.record(1L, 1_000 + viewer);
+        }
+        a.flush();
+        b.flush();
+        assertEquals(100, a.count(1L), 5); // 아직 자기 방문자만
+        assertEquals(100, b.count(1L), 5);
+
+        now[0] += properties.getRefreshMillis();
+        assertEquals(200, a.count(1L), 10);
+        assertEquals(a.count(1L), b.count(1L));
+        assertEquals(a.counts(List.of(1L)), b.counts(List.of(1L)));
+    }
+
+    // 행을 메모리에 두고 레포지토리 쿼리를 흉내 낸다 (UPDATE 는 행 객체를 직접 바꾸는 것으로)
+    @SuppressWarnings("unchecked")
+    private static PostViewerSketchRepository tableBacked(List<PostViewerSketch> rows) {
+        PostViewerSketchRepository repository = mock(PostViewerSketchRepository.class);
+        when(repository.findAllByPostIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            return rows.stream().filter(row -> postIds.contains(row.getPostId())).toList();
+        });
+        when(repository.findAllByWindowDayAndPostIdIn(any(), any())).thenAnswer(invocation -> {
+            Integer day = invocation.getArgument(0);
+            Collection<Long> postIds = invocation.getArgument(1);
+            return rows.stream()
+                .filter(row -> row.getWindowDay().equals(day) && postIds.contains(row.getPostId()))
+                .toList();
+        });
+        when(repository.saveAll(any())).thenAnswer(invocation -> {
+            List<PostViewerSketch> created = invocation.getArgument(0);
+            rows.addAll(created);
+            return created;
+        });
+        return repository;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.newsfeed.virtualthread;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConnectionPoolBulkheadTest {
+
+    @Test
+    @DisplayName("한도까지는 바로 통과, 대기열이 없으면 바로 거절")
+    public void testRejectWithoutQueue() throws InterruptedException {
+        ConnectionPoolBulkhead bulkhead = new ConnectionPoolBulkhead(2, 0);
+
+        assertTrue(bulkhead.acquire(0));
+        assertTrue(bulkhead.acquire(0));
+        assertFalse(bulkhead.acquire(TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(2, bulkhead.getInUse());
+
+        bulkhead.release();
+        assertTrue(bulkhead.acquire(0));
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청은 반납된 자리를 받는다")
+    public void testWaiterGetsReleasedPermit() throws InterruptedException {
+        ConnectionPoolBulkhead bulkhead = new ConnectionPoolBulkhead(1, 1);
+        assertTrue(bulkhead.acquire(0));
+
+        AtomicBoolean acquired = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                acquired.set(bulkhead.acquire(TimeUnit.SECONDS.toNanos(5)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        waiter.start();
+        while (bulkhead.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // 대기열(1)이 찼으므로 다음 요청은 기다리지 않고 거절
+        assertFalse(bulkhead.acquire(TimeUnit.SECONDS.toNanos(5)));
+
+        bulkhead.release();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(acquired.get());
+        assertEquals(0, bulkhead.getWaiting());
+    }
+
+    @Test
+    @DisplayName("반납된 자리는 나중에 온 요청보다 먼저 기다리던 요청이 받는다")
+    public void testQueuedWaiterServedFirst() throws InterruptedException {
+        // 새치기는 반납 직후 대기자가 깨어나기 전의 짧은 틈에서만 일어나므로 여러 번 반복한다
+        for (int round = 0; round < 500; round++) {
+            ConnectionPoolBulkhead bulkhead = new ConnectionPoolBulkhead(1, 2);
+            assertTrue(bulkhead.acquire(0));
+
+            AtomicBoolean acquired = new AtomicBoolean();
+            Thread waiter = new Thread(() -> {
+                try {
+                    acquired.set(bulkhead.acquire(TimeUnit.SECONDS.toNanos(5)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            waiter.start();
+            while (waiter.getState() != Thread.State.TIMED_WAITING) { // 세마포어 대기열에 들어갈 때까지
+                Thread.onSpinWait();
+            }
+
+            bulkhead.release();
+            assertFalse(bulkhead.acquire(0));
+
+            waiter.join(TimeUnit.SECONDS.toMillis(5));
+            assertTrue(acquired.get());
+            assertEquals(1, bulkhead.getInUse());
+        }
+    }
+}
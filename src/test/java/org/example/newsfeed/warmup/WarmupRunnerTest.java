@@ -0,0 +1,58 @@
+package org.example.newsfeed.warmup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WarmupRunnerTest {
+
+    @Test
+    @DisplayName("최소 반복 전에는 컴파일이 조용해도 계속")
+    public void testKeepsGoingBeforeMinIterations() {
+        WarmupProperties properties = properties();
+
+        assertNull(WarmupRunner.stopReason(properties, 100, 5, 1_000));
+        assertEquals("settled", WarmupRunner.stopReason(properties, 200, 2, 1_000));
+    }
+
+    @Test
+    @DisplayName("조용한 라운드가 연속으로 모자라면 계속")
+    public void testNeedsConsecutiveQuietRounds() {
+        WarmupProperties properties = properties();
+
+        assertNull(WarmupRunner.stopReason(properties, 500, 1, 1_000));
+        assertNull(WarmupRunner.stopReason(properties, 500, 0, 1_000));
+    }
+
+    @Test
+    @DisplayName("컴파일이 계속되어도 최대 반복이나 시간 상한에서 멈춤")
+    public void testStopsAtLimits() {
+        WarmupProperties properties = properties();
+
+        assertEquals("max_iterations", WarmupRunner.stopReason(properties, 2_000, 0, 1_000));
+        assertEquals("timeout", WarmupRunner.stopReason(properties, 100, 0, 60_000));
+    }
+
+    @Test
+    @DisplayName("2xx 가 아닌 응답을 경로와 상태별로 한 줄에")
+    public void testDescribeFailures() {
+        Map<String, Long> failures = new TreeMap<>();
+        failures.put("/api/posts/trending 401", 800L);
+        failures.put("/api/newsfeed io_error", 2L);
+
+        assertEquals("/api/newsfeed io_errorx2, /api/posts/trending 401x800", WarmupRunner.describeFailures(failures));
+        assertEquals("", WarmupRunner.describeFailures(new TreeMap<>()));
+    }
+
+    private static WarmupProperties properties() {
+        WarmupProperties properties = new WarmupProperties();
+        properties.setMinIterations(200);
+        properties.setMaxIterations(2_000);
+        properties.setSettleRounds(2);
+        properties.setMaxDurationMillis(60_000);
+        return properties;
+    }
+}